@@ -2,7 +2,10 @@ package seedu.nursesched;
 
 import java.util.Scanner;
 
+import seedu.nursesched.command.BatchRunner;
 import seedu.nursesched.command.Command;
+import seedu.nursesched.command.Housekeeper;
+import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.ui.Ui;
 
 public class NurseSched {
@@ -17,10 +20,30 @@ public class NurseSched {
         Scanner in = new Scanner(System.in);
         ui.showGreetingMessage();
 
+        Housekeeper.start();
         Command.executeCommands(isExit, in, ui);
     }
 
+    /**
+     * Runs a batch script without starting the interactive session.
+     *
+     * @param filePath The path of the script to run.
+     * @return {@code true} if every command in the script succeeded and the changes were saved.
+     */
+    public boolean runBatch(String filePath) {
+        try {
+            return BatchRunner.runScript(filePath, ui);
+        } catch (NurseSchedException e) {
+            ui.showError(e.getMessage());
+            return false;
+        }
+    }
+
     public static void main(String[] args) {
+        if (args.length == 2 && args[0].equals("--batch")) {
+            boolean isSuccessful = new NurseSched().runBatch(args[1]);
+            System.exit(isSuccessful ? 0 : 1);
+        }
         new NurseSched().run();
     }
 }
@@ -4,10 +4,10 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.logging.FileHandler;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -17,7 +17,14 @@ import java.util.logging.SimpleFormatter;
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.patient.Patient;
+import seedu.nursesched.schedule.DateIndex;
+import seedu.nursesched.schedule.IdIndex;
+import seedu.nursesched.storage.AppointmentArchive;
 import seedu.nursesched.storage.AppointmentStorage;
+import seedu.nursesched.storage.DeferredPersistence;
+import seedu.nursesched.storage.StringPool;
+import seedu.nursesched.ui.ListPrinter;
+import seedu.nursesched.ui.RecordFormat;
 import seedu.nursesched.ui.Ui;
 
 /**
@@ -27,7 +34,24 @@ import seedu.nursesched.ui.Ui;
 public class Appointment {
     protected static ArrayList<Appointment> apptList;
     private static final Logger logr = Logger.getLogger("Appointment");
-
+    private static final Comparator<Appointment> dateIndexOrder = Comparator
+            .comparing((Appointment a) -> a.startTime).thenComparing(a -> a.endTime);
+    private static final DateIndex<Appointment> dateIndex = new DateIndex<>(a -> a.date, dateIndexOrder);
+    private static final ApptColumns columns = new ApptColumns();
+    private static final IdIndex<Appointment> idIndex = new IdIndex<>(Appointment::getApptId);
+    private static final StringPool notesPool = new StringPool(4096);
+    private static final ApptView chronologicalView = new ApptView(Comparator
+            .comparing((Appointment a) -> a.date).thenComparing(a -> a.startTime), false);
+    private static final ApptView importanceView = new ApptView(Comparator
+            .comparing(Appointment::getImportance).reversed()
+            .thenComparing((Appointment a) -> a.date).thenComparing(a -> a.startTime), true);
+    // The order chosen by appt sort for the appointment list it was chosen for, or null for list order
+    private static ApptView sortedView;
+    private static List<Appointment> sortedViewSource;
+    private static int modificationCount = 0;
+    private static int nextApptId = 1;
+
+    private final int apptId;
     private final String name;
     private final LocalTime startTime;
     private final LocalTime endTime;
@@ -55,6 +79,15 @@ public class Appointment {
         }
 
         apptList = AppointmentStorage.readFile();
+        nextApptId = Math.max(nextApptId, AppointmentArchive.readNextApptId());
+    }
+
+    /**
+     * Replaces the appointment list in memory with the contents of the save file, discarding unsaved changes.
+     */
+    public static void reloadFromFile() {
+        apptList = AppointmentStorage.readFile();
+        nextApptId = Math.max(nextApptId, AppointmentArchive.readNextApptId());
     }
 
 
@@ -72,14 +105,53 @@ public class Appointment {
 
     public Appointment(int id, LocalTime startTime, LocalTime endTime,
                        LocalDate date, String notes, int importance) {
+        this(id, findPatientName(id), startTime, endTime, date, notes, importance);
+        logr.info("Appointment object created");
+    }
+
+    /**
+     * Constructs an Appointment object for a patient whose name has already been looked up.
+     * Bulk operations use this constructor, so it does not write a log record per appointment.
+     *
+     * @param id         The ID of the patient involved in the appointment.
+     * @param name       The name of the patient.
+     * @param startTime  The start time of the appointment.
+     * @param endTime    The end time of the appointment.
+     * @param date       The date on which the appointment occurs.
+     * @param notes      The notes for the specified appointment.
+     * @param importance The importance ranking of the appointment.
+     */
+    public Appointment(int id, String name, LocalTime startTime, LocalTime endTime,
+                       LocalDate date, String notes, int importance) {
+        this(nextApptId, id, name, startTime, endTime, date, notes, importance);
+    }
+
+    /**
+     * Constructs an Appointment object with the appointment ID it was given when it was first created, e.g. when
+     * it is read from the save file. New appointments are given IDs after the largest ID seen so far.
+     *
+     * @param apptId     The ID of the appointment, or 0 for the occurrence of a recurring appointment, which has
+     *                   no ID of its own.
+     * @param id         The ID of the patient involved in the appointment.
+     * @param name       The name of the patient.
+     * @param startTime  The start time of the appointment.
+     * @param endTime    The end time of the appointment.
+     * @param date       The date on which the appointment occurs.
+     * @param notes      The notes for the specified appointment.
+     * @param importance The importance ranking of the appointment.
+     */
+    public Appointment(int apptId, int id, String name, LocalTime startTime, LocalTime endTime,
+                       LocalDate date, String notes, int importance) {
+        assert apptId >= 0 : "Appointment ID cannot be negative";
+        this.apptId = apptId;
+        nextApptId = Math.max(nextApptId, apptId + 1);
         this.id = id;
-        this.name = findPatientName(id);
+        this.name = name;
         this.startTime = startTime;
         this.endTime = endTime;
         this.date = date;
-        this.notes = notes;
+        this.notes = notesPool.canonicalize(notes);
         this.importance = importance;
-        logr.info("Appointment object created");
     }
 
     /**
@@ -107,7 +179,7 @@ public class Appointment {
             System.out.println("Please enter a different date or time outside of " +
                     possibleClash.getDate() + ": " + possibleClash.startTime+ "-" + possibleClash.endTime);
             logr.info("Appointment already exists, appointment not added");
-            return;
+            throw new NurseSchedException(ExceptionMessage.APPT_CLASH);
         }
         if (findPatientName(id) == null) {
             throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_APPT_ADD);
@@ -120,6 +192,7 @@ public class Appointment {
 
         Appointment appt = new Appointment(id, startTime, endTime, date, notes, importance);
         apptList.add(appt);
+        updateViews(modificationCount, null, appt);
         AppointmentStorage.appendToFile(appt);
         System.out.println("Appointment added:");
         System.out.println(appt);
@@ -128,83 +201,103 @@ public class Appointment {
 
     /**
      * Deletes aan appointment from the appointment list based on the given index.
-     * @param index The index of the appointment to be removed (1-based index).
-     * @throws IndexOutOfBoundsException If no appointment exists with specified index.
-     */
-    public static void deleteAppt(int index) {
-        assert index >= 1 && index < apptList.size() : "Index must be between 1 and " + (apptList.size());
-        try{
-            Appointment appt = apptList.get(index);
-            System.out.println("Appointment deleted: " + appt);
-            apptList.remove(index);
-            AppointmentStorage.overwriteSaveFile(apptList);
-            logr.info("Appointment deleted" + appt);
-        } catch (IndexOutOfBoundsException e) {  // Catching out-of-bounds exception instead of NullPointerException
-            System.out.println("There is no appointment with index: " + (index + 1));
-            logr.warning("There is no appointment with index: " + (index + 1));
-        }
+     * @param index The index of the appointment to be removed (0-based index, as listed).
+     * @throws NurseSchedException If no appointment exists with specified index.
+     */
+    public static void deleteAppt(int index) throws NurseSchedException {
+        deleteAppt(getListedAppointment(index));
+    }
+
+    /**
+     * Deletes an appointment from the appointment list, e.g. one found by {@link #findByApptId(int)}.
+     * @param appt The appointment to be removed.
+     * @throws NurseSchedException If the appointment is not in the appointment list.
+     */
+    public static void deleteAppt(Appointment appt) throws NurseSchedException {
+        int listIndex = rowOf(appt);
+        System.out.println("Appointment deleted: " + appt);
+        apptList.remove(listIndex);
+        modificationCount++;
+        updateViews(modificationCount - 1, appt, null);
+        AppointmentStorage.overwriteSaveFile(apptList);
+        logr.info("Appointment deleted" + appt);
     }
 
     /**
      * Mark an appointment from the appointment list as done based on the given index.
-     * @param index The index of the appointment to be marked (1-based index).
+     * @param index The index of the appointment to be marked (0-based index, as listed).
      * @throws NurseSchedException If appointment is already marked before marking.
-     * @throws IndexOutOfBoundsException If no appointment exists with specified index.
      */
     public static void markAppt(int index) throws NurseSchedException {
-        assert index >= 0 && index < apptList.size() : "Index must be between 1 and " + (apptList.size() - 1);
-        try{
-            if (apptList.get(index).getStatus()){
-                throw new NurseSchedException(ExceptionMessage.MARKING_MARKED_APPT);
-            }
-            apptList.get(index).setDone(true);
-            AppointmentStorage.overwriteSaveFile(apptList);
-            System.out.println("Marked appointment as done!");
-            logr.info("Appointment marked: " + apptList.get(index).toString());
-        }catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no appointment with index: " + (index + 1));
-            logr.warning("There is no appointment with index: " + (index + 1));
+        markAppt(getListedAppointment(index));
+    }
+
+    /**
+     * Mark an appointment from the appointment list as done.
+     * @param appt The appointment to be marked.
+     * @throws NurseSchedException If appointment is already marked before marking.
+     */
+    public static void markAppt(Appointment appt) throws NurseSchedException {
+        int listIndex = rowOf(appt);
+        if (appt.getStatus()) {
+            throw new NurseSchedException(ExceptionMessage.MARKING_MARKED_APPT);
         }
+        appt.setDone(true);
+        columns.setDone(listIndex, true);
+        AppointmentStorage.overwriteSaveFile(apptList);
+        System.out.println("Marked appointment as done!");
+        logr.info("Appointment marked: " + appt);
     }
 
 
     /**
      * Unmark an appointment from the appointment list based on the given index.
-     * @param index The index of the appointment to be unmarked (1-based index).
+     * @param index The index of the appointment to be unmarked (0-based index, as listed).
      * @throws NurseSchedException If appointment is already marked before marking.
-     * @throws IndexOutOfBoundsException If no appointment exists with specified index.
      */
     public static void unmarkAppt(int index) throws NurseSchedException {
-        assert index>0 && index < apptList.size() : "Index must be between 1 and " + (apptList.size() - 1);
-        try{
-            if (!apptList.get(index).getStatus()){
-                throw new NurseSchedException(ExceptionMessage.UNMARKING_UNMARKED_APPT);
-            }
-            apptList.get(index).setDone(false);
-            AppointmentStorage.overwriteSaveFile(apptList);
-            System.out.println("Marked appointment as undone!");
-            logr.info("Appointment unmarked: " + apptList.get(index).toString());
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no appointment with index: " + (index+1));
-            logr.warning("There is no appointment with index: " + (index+1));
+        unmarkAppt(getListedAppointment(index));
+    }
+
+    /**
+     * Unmark an appointment from the appointment list.
+     * @param appt The appointment to be unmarked.
+     * @throws NurseSchedException If appointment is not marked.
+     */
+    public static void unmarkAppt(Appointment appt) throws NurseSchedException {
+        int listIndex = rowOf(appt);
+        if (!appt.getStatus()) {
+            throw new NurseSchedException(ExceptionMessage.UNMARKING_UNMARKED_APPT);
         }
+        appt.setDone(false);
+        columns.setDone(listIndex, false);
+        AppointmentStorage.overwriteSaveFile(apptList);
+        System.out.println("Marked appointment as undone!");
+        logr.info("Appointment unmarked: " + appt);
     }
 
     /**
-     * Finds and returns an appointment from the appointment list that could clash
-     * with the given start time, end time and date.
+     * Finds and returns an appointment from the appointment list, or an occurrence of a recurring appointment,
+     * that could clash with the given start time, end time and date.
      * @param startTime The start time of the appointment.
      * @param date      The date of the appointment.
      * @return          The matching appointment if found, otherwise return null.
      */
     public static Appointment findApptClashes(LocalTime startTime, LocalTime endTime, LocalDate date) {
-        for (Appointment appointment : apptList) {
-            if (appointment.date.equals(date) &&
-                    (appointment.startTime.isBefore(endTime) && appointment.endTime.isAfter(startTime))) {
-                return appointment;
-            }
+        return findApptClashes(startTime, endTime, date, -1);
+    }
+
+    /**
+     * Finds an appointment that could clash with the given period, skipping the appointment at a list index.
+     * @param excludedIndex The 0-based index in the appointment list of the appointment to skip, or -1 for none.
+     */
+    private static Appointment findApptClashes(LocalTime startTime, LocalTime endTime, LocalDate date,
+                                               int excludedIndex) {
+        Appointment clash = getColumns().findClash(date, startTime, endTime, excludedIndex);
+        if (clash != null) {
+            return clash;
         }
-        return null;
+        return RecurringAppointment.findClash(date, startTime, endTime);
     }
 
     /**
@@ -213,13 +306,8 @@ public class Appointment {
      * @return      The name of the patient with matching ID, otherwise return null.
      */
     public static String findPatientName(int id){
-        ArrayList<Patient> pfList = Patient.getPatientsList();
-        for (Patient p : pfList) {
-            if (Integer.parseInt(p.getId()) == id){
-                return p.getName();
-            }
-        }
-        return null;
+        Patient patient = Patient.findById(id);
+        return patient == null ? null : patient.getName();
     }
 
     /**
@@ -227,13 +315,7 @@ public class Appointment {
      * @param patientName   The keyword to search for in patient name.
      */
     public static void findApptByName(String patientName) {
-        ArrayList<Appointment> searchResults = new ArrayList<>();
-        for (Appointment appointment : apptList) {
-            if (appointment.getName().toLowerCase().contains(patientName.toLowerCase())) {
-                searchResults.add(appointment);
-            }
-        }
-        Ui.printSearchResults(searchResults, patientName);
+        Ui.printSearchResults(getColumns().findByName(patientName), patientName);
     }
 
     /**
@@ -241,13 +323,7 @@ public class Appointment {
      * @param id    The ID used to filter appointments.
      */
     public static void findApptByID(String id) {
-        ArrayList<Appointment> searchResults = new ArrayList<>();
-        for (Appointment appointment : apptList) {
-            if (appointment.getID() == Integer.parseInt(id)) {
-                searchResults.add(appointment);
-            }
-        }
-        Ui.printSearchResults(searchResults, id);
+        Ui.printSearchResults(getColumns().findByPatientId(Integer.parseInt(id)), id);
     }
 
 
@@ -278,77 +354,77 @@ public class Appointment {
     public static void editAppt(int index, int id,
                                        LocalTime startTime, LocalTime endTime,
                                        LocalDate date, String notes, int importance) throws NurseSchedException {
-        if (index < 0 || index >= apptList.size()) {
-            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_NUMBER);
-        }
-        assert index >= 0 && index < apptList.size() : "Index must be valid and within bounds!";
-        try {
-            Appointment prevAppt = apptList.get(index);
-
-            // If optional fields are empty, keep previous fields
-            if (id == -1){
-                id = prevAppt.id;
-            }
-            if (endTime == null) {
-                endTime = prevAppt.endTime;
-            }
-            if (date == null) {
-                date = prevAppt.date;
-            }
-            if (startTime == null) {
-                startTime = prevAppt.startTime;
-            }
-            if (notes == null) {
-                notes = prevAppt.notes;
-            }
-            if (importance == -1) {
-                importance = prevAppt.importance;
-            }
-
-            if (findPatientName(id) == null) {
-                throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_APPT_ADD);
-            }
-
-            checkApptDateTime(date, startTime, endTime);
-
-            // Temporarily remove the current appointment from the list
-            Appointment removedAppt = apptList.remove(index);
+        editAppt(getListedAppointment(index), id, startTime, endTime, date, notes, importance);
+    }
 
-            // Check for clashes with the temporary state of the list (without the current appointment)
-            Appointment possibleClash = findApptClashes(startTime, endTime, date);
+    /**
+     * Edits an existing appointment, e.g. one found by {@link #findByApptId(int)}, in the same way as
+     * {@link #editAppt(int, int, LocalTime, LocalTime, LocalDate, String, int)}.
+     *
+     * @param prevAppt The appointment to edit.
+     * @throws NurseSchedException If the appointment is not in the appointment list, if the provided patient ID
+     *                             is invalid, or if the resulting date/time combination is invalid.
+     */
+    public static void editAppt(Appointment prevAppt, int id,
+                                LocalTime startTime, LocalTime endTime,
+                                LocalDate date, String notes, int importance) throws NurseSchedException {
+        int listIndex = rowOf(prevAppt);
+
+        // If optional fields are empty, keep previous fields
+        if (id == -1){
+            id = prevAppt.id;
+        }
+        if (endTime == null) {
+            endTime = prevAppt.endTime;
+        }
+        if (date == null) {
+            date = prevAppt.date;
+        }
+        if (startTime == null) {
+            startTime = prevAppt.startTime;
+        }
+        if (notes == null) {
+            notes = prevAppt.notes;
+        }
+        if (importance == -1) {
+            importance = prevAppt.importance;
+        }
 
-            // Put the removed appointment back
-            apptList.add(index, removedAppt);
+        if (findPatientName(id) == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_APPT_ADD);
+        }
 
-            if (possibleClash != null && possibleClash != prevAppt) {
-                System.out.println("There is another patient, " + possibleClash.name +
-                        " with an appointment clashing with the given time and date! " +
-                        "Please enter a different date or time outside of " +
-                        possibleClash.getDate() + ": " + possibleClash.startTime+ "-" + possibleClash.endTime);
-                logr.info("Appointment already exists, appointment not added");
-                return;
-            }
+        checkApptDateTime(date, startTime, endTime);
 
+        // Check for clashes with every appointment except the one being edited
+        Appointment possibleClash = findApptClashes(startTime, endTime, date, listIndex);
+        if (possibleClash != null) {
+            System.out.println("There is another patient, " + possibleClash.name +
+                    " with an appointment clashing with the given time and date! " +
+                    "Please enter a different date or time outside of " +
+                    possibleClash.getDate() + ": " + possibleClash.startTime+ "-" + possibleClash.endTime);
+            logr.info("Appointment already exists, appointment not edited");
+            throw new NurseSchedException(ExceptionMessage.APPT_CLASH);
+        }
 
-            Appointment updatedAppt = new Appointment(id, startTime, endTime, date, notes, importance);
-            apptList.set(index, updatedAppt);
 
-            System.out.println("Appointment updated:");
-            System.out.println(updatedAppt);
-            logr.info("Appointment edited at index " + index + ": " + updatedAppt);
+        Appointment updatedAppt = new Appointment(prevAppt.apptId, id, findPatientName(id), startTime, endTime,
+                date, notes, importance);
+        apptList.set(listIndex, updatedAppt);
+        modificationCount++;
+        updateViews(modificationCount - 1, prevAppt, updatedAppt);
 
-            AppointmentStorage.overwriteSaveFile(apptList);
+        System.out.println("Appointment updated:");
+        System.out.println(updatedAppt);
+        logr.info("Appointment edited at index " + listIndex + ": " + updatedAppt);
 
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no appointment with index: " + (index + 1));
-            logr.warning("Edit failed. Invalid index: " + (index + 1));
-        }
+        AppointmentStorage.overwriteSaveFile(apptList);
     }
 
     /**
-     * Sorts the appointment list by importance level (HIGH to LOW).
+     * Lists appointments by importance level (HIGH to LOW) from now on.
      * For appointments with the same importance, they are sorted chronologically.
-     * This method updates the apptList and saves the sorted list to the storage.
+     * Only the listing order changes, so the save file is not rewritten.
      */
     public static void sortByImportance() throws NurseSchedException {
         if (apptList.isEmpty()){
@@ -356,18 +432,15 @@ public class Appointment {
             throw new NurseSchedException(ExceptionMessage.INVALID_SORTING_LIST);
         }
 
-        apptList.sort(Comparator.comparing(Appointment::getImportance).reversed() // Sort by importance (HIGH to LOW)
-                .thenComparing(a -> a.date)                                      // Then by date
-                .thenComparing(a -> a.startTime));                               // Then by start time
-
-        AppointmentStorage.overwriteSaveFile(apptList);
+        sortedView = importanceView;
+        sortedViewSource = apptList;
         System.out.println("Appointments sorted by importance level (HIGH to LOW).");
         logr.info("Appointment list sorted by importance level");
     }
 
     /**
-     * Sorts the appointment list in chronological order, first by date and then by start time.
-     * This method updates the apptList and saves the sorted list to the storage.
+     * Lists appointments in chronological order from now on, first by date and then by start time.
+     * Only the listing order changes, so the save file is not rewritten.
      */
     public static void sortByTime() throws NurseSchedException {
 
@@ -376,14 +449,77 @@ public class Appointment {
             throw new NurseSchedException(ExceptionMessage.INVALID_SORTING_LIST);
         }
 
-        apptList.sort(Comparator.comparing((Appointment a) -> a.date) // First sort by dates
-                .thenComparing(a -> a.startTime));  //Then sort by time
-
-        AppointmentStorage.overwriteSaveFile(apptList);
+        sortedView = chronologicalView;
+        sortedViewSource = apptList;
         System.out.println("Appointments sorted chronologically.");
         logr.info("Appointment list sorted chronologically");
     }
 
+    /**
+     * Returns the appointments in the order chosen by the last {@code appt sort}, or in list order if the list
+     * has not been sorted. Appointment numbers in commands such as {@code appt mark} refer to this order.
+     *
+     * @return The appointments, which should not be modified.
+     */
+    public static List<Appointment> getListedAppointments() {
+        if (sortedView == null || sortedViewSource != apptList) {
+            return apptList;
+        }
+        return sortedView.get(apptList, modificationCount, getColumns());
+    }
+
+    /**
+     * Returns the appointment at an index as listed by {@link #getListedAppointments()}.
+     *
+     * @param index The 0-based index of the appointment as listed.
+     * @return The appointment.
+     * @throws NurseSchedException If there is no appointment at the index.
+     */
+    public static Appointment getListedAppointment(int index) throws NurseSchedException {
+        List<Appointment> listed = getListedAppointments();
+        if (index < 0 || index >= listed.size()) {
+            logr.warning("Invalid appointment index: " + (index + 1));
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_NUMBER);
+        }
+        return listed.get(index);
+    }
+
+    /**
+     * Returns the index of an appointment in the appointment list, looked up in the column store's reverse
+     * mapping rather than by scanning the list.
+     *
+     * @throws NurseSchedException If the appointment is not in the appointment list.
+     */
+    private static int rowOf(Appointment appt) throws NurseSchedException {
+        int listIndex = getColumns().rowOf(appt);
+        if (listIndex < 0) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_NUMBER);
+        }
+        return listIndex;
+    }
+
+    /**
+     * Returns the appointment with an appointment ID, looked up in a hash map that is kept up to date with the
+     * appointment list.
+     *
+     * @param apptId The ID of the appointment.
+     * @return The appointment, or {@code null} if there is none.
+     */
+    public static Appointment findByApptId(int apptId) {
+        idIndex.refresh(apptList, modificationCount);
+        return idIndex.get(apptId);
+    }
+
+    /**
+     * Applies a change just made to the appointment list to both sorted views and to the ID and date indexes,
+     * which skip it if they are already out of date.
+     */
+    private static void updateViews(int oldModificationCount, Appointment removed, Appointment added) {
+        dateIndex.update(apptList, oldModificationCount, modificationCount, removed, added);
+        chronologicalView.update(apptList, oldModificationCount, modificationCount, removed, added);
+        importanceView.update(apptList, oldModificationCount, modificationCount, removed, added);
+        idIndex.update(apptList, oldModificationCount, modificationCount, removed, added);
+    }
 
     /**
      * Validates the date, start time, and end time for a potential appointment.
@@ -419,7 +555,8 @@ public class Appointment {
 
 
     /**
-     * Removes all appointments associated with a specific patient ID from the main appointment list.
+     * Removes all appointments associated with a specific patient ID from the main appointment list,
+     * together with the patient's recurring appointments.
      * <p>
      * Iterates through the shared apptList and removes any Appointment
      * whose patient ID matches the provided patientId
@@ -435,7 +572,150 @@ public class Appointment {
             }
         }
         apptList.removeAll(appointmentsToRemove);
+        modificationCount++;
         AppointmentStorage.overwriteSaveFile(apptList);
+        RecurringAppointment.removeForPatient(patientId);
+    }
+
+    /**
+     * Returns the appointments grouped by date and sorted by start time, rebuilding the index first if the
+     * appointment list has changed.
+     */
+    public static DateIndex<Appointment> getDateIndex() {
+        dateIndex.refresh(apptList, modificationCount);
+        return dateIndex;
+    }
+
+    /**
+     * Returns the appointment list as columns of primitive fields, bringing them up to date first.
+     */
+    static ApptColumns getColumns() {
+        columns.refresh(apptList, modificationCount);
+        return columns;
+    }
+
+    /**
+     * Returns the appointments on a date, including occurrences of recurring appointments, sorted by start time.
+     *
+     * @param date The date to look up.
+     * @return The appointments on the date, which should not be modified.
+     */
+    public static List<Appointment> getAppointmentsOn(LocalDate date) {
+        List<Appointment> dayAppointments = getDateIndex().get(date);
+        List<Appointment> occurrences = RecurringAppointment.getOccurrencesOn(date);
+        if (occurrences.isEmpty()) {
+            return dayAppointments;
+        }
+        occurrences.addAll(dayAppointments);
+        occurrences.sort(dateIndexOrder);
+        return occurrences;
+    }
+
+    /**
+     * Returns the appointments from {@code from} to {@code to}, both inclusive, including occurrences of recurring
+     * appointments, sorted by date and start time.
+     * <p>
+     * Only the dates in the range are visited in the date index, so a week's appointments cost O(log D + k)
+     * however many appointments are stored.
+     * </p>
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return The appointments in the range.
+     */
+    public static List<Appointment> getAppointmentsBetween(LocalDate from, LocalDate to) {
+        List<Appointment> appointments = new ArrayList<>();
+        for (List<Appointment> dayAppointments : getDateIndex().getRange(from, to).values()) {
+            appointments.addAll(dayAppointments);
+        }
+        List<Appointment> occurrences = RecurringAppointment.getOccurrencesBetween(from, to);
+        if (occurrences.isEmpty()) {
+            return appointments;
+        }
+        appointments.addAll(occurrences);
+        appointments.sort(Comparator.comparing((Appointment a) -> a.date).thenComparing(dateIndexOrder));
+        return appointments;
+    }
+
+    /**
+     * Displays every appointment from {@code from} to {@code to}, both inclusive, in date and time order,
+     * including the occurrences of recurring appointments in that period.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     */
+    public static void printAgenda(LocalDate from, LocalDate to) {
+        List<Appointment> appointments = getAppointmentsBetween(from, to);
+        ListPrinter.println("You have " + appointments.size() + " appointments from " + from + " to " + to + ":");
+        ListPrinter.printRows(appointments.size(), (sb, i) -> appointments.get(i).appendTo(sb));
+        ListPrinter.flush();
+    }
+
+    /**
+     * Moves the appointments that are done or dated before {@code today} out of the appointment list and into the
+     * monthly archive files, so that they no longer slow down listing, searching and saving. Archived appointments
+     * can still be listed by {@link #printHistory(LocalDate, LocalDate, int)}.
+     *
+     * @param today The date before which appointments count as past.
+     * @throws NurseSchedException If this is run from a batch script, whose other changes could still be discarded,
+     *                             or if the archive could not be written.
+     */
+    public static void archive(LocalDate today) throws NurseSchedException {
+        if (DeferredPersistence.isActive()) {
+            throw new NurseSchedException(ExceptionMessage.ARCHIVE_IN_BATCH);
+        }
+        ArrayList<Appointment> archived = new ArrayList<>();
+        for (Appointment appointment : apptList) {
+            if (appointment.isArchivable(today)) {
+                archived.add(appointment);
+            }
+        }
+        if (archived.isEmpty()) {
+            System.out.println("There are no done or past appointments to archive.");
+            return;
+        }
+
+        int fileCount;
+        try {
+            fileCount = AppointmentArchive.append(archived, nextApptId);
+        } catch (IOException e) {
+            logr.log(Level.WARNING, "Appointment archive could not be written", e);
+            throw new NurseSchedException(ExceptionMessage.APPT_ARCHIVE_FAILED);
+        }
+        apptList.removeIf(appointment -> appointment.isArchivable(today));
+        modificationCount++;
+        AppointmentStorage.overwriteSaveFile(apptList);
+        System.out.println("Archived " + archived.size() + " appointment(s) into " + fileCount
+                + " monthly archive file(s).");
+        logr.info("Archived " + archived.size() + " appointments");
+    }
+
+    private boolean isArchivable(LocalDate today) {
+        return isDone || date.isBefore(today);
+    }
+
+    /**
+     * Displays the archived appointments from {@code from} to {@code to}, both inclusive, month by month.
+     * The archive files are read as the appointments are displayed, so they are never loaded into memory.
+     *
+     * @param from      The first date.
+     * @param to        The last date.
+     * @param patientId The ID of the patient whose appointments to display, or -1 for every patient.
+     */
+    public static void printHistory(LocalDate from, LocalDate to, int patientId) {
+        StringBuilder row = new StringBuilder(128);
+        int[] rowCount = {0};
+        AppointmentArchive.forEachBetween(from, to, appointment -> {
+            if (patientId != -1 && appointment.id != patientId) {
+                return;
+            }
+            rowCount[0]++;
+            row.setLength(0);
+            row.append(appointment.isDone ? "[X]" : "[ ]");
+            ListPrinter.println(appointment.appendTo(row).append(" (#").append(appointment.apptId).append(')'));
+        });
+        ListPrinter.println("You have " + rowCount[0] + " archived appointment(s) from " + from + " to " + to);
+        ListPrinter.flush();
     }
 
     /**
@@ -443,7 +723,7 @@ public class Appointment {
      * If no appointments are in the list, it notifies the user.
      */
     public static void list(){
-        Ui.printAppointmentList(apptList);
+        Ui.printAppointmentList(getListedAppointments(), getColumns().countDone());
     }
 
     public void setDone(boolean done) {
@@ -456,10 +736,16 @@ public class Appointment {
 
     @Override
     public String toString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        String formattedStartTime = startTime.format(formatter);
-        String formattedEndTime = endTime.format(formatter);
+        return appendTo(new StringBuilder(128)).toString();
+    }
 
+    /**
+     * Appends the text returned by {@link #toString()} to a buffer without creating any intermediate strings.
+     *
+     * @param sb The buffer to append to.
+     * @return The buffer.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
         String importanceString = switch (importance) {
         case 1 -> "LOW";
         case 2 -> "MEDIUM";
@@ -467,19 +753,22 @@ public class Appointment {
         default -> "";
         };
 
-        return "ID: " + id + ", " +
-                "Name: " + name + ", " +
-                "From: " + formattedStartTime + ", " +
-                "To: " + formattedEndTime + ", " +
-                "Date: " + date + ", " +
-                "Importance: " + importanceString + ", " +
-                "Notes: " + notes;
+        sb.append("ID: ").append(id).append(", Name: ").append(name).append(", From: ");
+        RecordFormat.appendTime(sb, startTime).append(", To: ");
+        RecordFormat.appendTime(sb, endTime).append(", Date: ");
+        RecordFormat.appendDate(sb, date).append(", Importance: ").append(importanceString)
+                .append(", Notes: ").append(notes);
+        return sb;
     }
 
     public String getName() {
         return name;
     }
 
+    public int getApptId() {
+        return apptId;
+    }
+
     public int getImportance() {
         return importance;
     }
@@ -489,18 +778,30 @@ public class Appointment {
     }
 
     public String getStartTime() {
-        return this.startTime.format(DateTimeFormatter.ofPattern("HH:mm"));
+        return this.startTime.format(RecordFormat.TIME);
     }
 
     public String getEndTime() {
-        return this.endTime.format(DateTimeFormatter.ofPattern("HH:mm"));
+        return this.endTime.format(RecordFormat.TIME);
     }
 
     public String getDate() {
-        return this.date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        return this.date.format(RecordFormat.DATE);
     }
 
     public String getNotes() {
         return notes;
     }
+
+    public LocalDate getLocalDate() {
+        return date;
+    }
+
+    public LocalTime getLocalStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getLocalEndTime() {
+        return endTime;
+    }
 }
@@ -0,0 +1,223 @@
+package seedu.nursesched.appointment;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ApptParser;
+import seedu.nursesched.storage.AppointmentStorage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Places requested appointments into free slots automatically.
+ * <p>
+ * Each request in the CSV file has the format {@code PATIENT_ID,DURATION_MINUTES,EARLIEST_DATE[,IMPORTANCE]
+ * [,NOTES]}. Requests are taken from a priority queue, highest importance first and then earliest date first,
+ * and each one is booked into the earliest free slot from its earliest date onwards, between
+ * {@link FreeSlotFinder#DEFAULT_DAY_START} and {@link FreeSlotFinder#DEFAULT_DAY_END}. Every placement is
+ * visible to the requests after it, so the placed appointments never clash.
+ * </p>
+ */
+public class ApptAutoPlacer {
+    private static final int DEFAULT_IMPORTANCE = 2;
+    private static final int SEARCH_HORIZON_DAYS = 366;
+    private static final int MAX_REPORTED_ROWS = 50;
+    private static final Comparator<Request> PRIORITY = Comparator
+            .comparingInt((Request request) -> -request.importance)
+            .thenComparing(request -> request.earliestDate)
+            .thenComparingInt(request -> request.rowNumber);
+    private static final Comparator<Appointment> START_ORDER = Comparator
+            .comparing(Appointment::getLocalStartTime)
+            .thenComparing(Appointment::getLocalEndTime);
+
+    /**
+     * A validated row of the CSV file.
+     */
+    private static class Request {
+        private int rowNumber;
+        private int id;
+        private String name;
+        private int durationMinutes;
+        private LocalDate earliestDate;
+        private int importance;
+        private String notes;
+    }
+
+    /**
+     * Places every valid request in the CSV file and reports the requests that could not be placed.
+     *
+     * @param filePath The path of the CSV file.
+     * @throws NurseSchedException If the file cannot be read.
+     */
+    public static void autoplaceFromCsv(String filePath) throws NurseSchedException {
+        Map<Integer, String> patientNames = ApptImporter.getPatientNamesById();
+        PriorityQueue<Request> requests = new PriorityQueue<>(PRIORITY);
+        Map<Integer, String> rejectedRows = new TreeMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(filePath))) {
+            int rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank() || (rowNumber == 1 && ApptImporter.isHeader(line))) {
+                    continue;
+                }
+                try {
+                    requests.add(parseRequest(line, rowNumber, patientNames));
+                } catch (NurseSchedException e) {
+                    rejectedRows.put(rowNumber, e.getMessage());
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new NurseSchedException(ExceptionMessage.APPT_IMPORT_FILE_NOT_READABLE);
+        }
+
+        int requestCount = requests.size() + rejectedRows.size();
+        ArrayList<Appointment> placedAppointments = placeAll(requests, rejectedRows);
+        if (!placedAppointments.isEmpty()) {
+            Appointment.apptList.addAll(placedAppointments);
+            AppointmentStorage.overwriteSaveFile(Appointment.apptList);
+        }
+        System.out.print(formatReport(requestCount, placedAppointments, rejectedRows));
+    }
+
+    private static Request parseRequest(String line, int rowNumber, Map<Integer, String> patientNames)
+            throws NurseSchedException {
+        String[] columns = line.split(",", 5);
+        if (columns.length < 3) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_AUTOPLACE_ROW);
+        }
+
+        Request request = new Request();
+        request.rowNumber = rowNumber;
+        request.id = ApptParser.parseID(columns[0].trim());
+        request.name = patientNames.get(request.id);
+        if (request.name == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_APPT_ADD);
+        }
+        try {
+            request.durationMinutes = Integer.parseInt(columns[1].trim());
+            request.earliestDate = LocalDate.parse(columns[2].trim());
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_AUTOPLACE_ROW);
+        }
+        long dayLength = FreeSlotFinder.DEFAULT_DAY_START.until(FreeSlotFinder.DEFAULT_DAY_END, ChronoUnit.MINUTES);
+        if (request.durationMinutes <= 0 || request.durationMinutes > dayLength) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_AUTOPLACE_ROW);
+        }
+
+        request.importance = DEFAULT_IMPORTANCE;
+        if (columns.length > 3 && !columns[3].isBlank()) {
+            request.importance = ApptParser.parseImportance(columns[3].trim());
+        }
+        request.notes = columns.length > 4 ? columns[4].trim() : "";
+        return request;
+    }
+
+    /**
+     * Books each request, in priority order, into the earliest free slot from its earliest date onwards.
+     * <p>
+     * Each date's appointments, including occurrences of recurring appointments, are copied the first time the
+     * date is searched, and placed appointments are inserted into the copy in start time order. A date that had
+     * no free slot for some duration is skipped for any request at least that long, since placing appointments
+     * never frees time.
+     * </p>
+     */
+    private static ArrayList<Appointment> placeAll(PriorityQueue<Request> requests,
+            Map<Integer, String> rejectedRows) {
+        Map<LocalDate, List<Appointment>> appointmentsByDate = new HashMap<>();
+        Map<LocalDate, Integer> shortestUnavailableDuration = new HashMap<>();
+        LocalDateTime earliestStart = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        LocalDate today = earliestStart.toLocalDate();
+
+        ArrayList<Appointment> placedAppointments = new ArrayList<>();
+        ArrayList<FreeSlotFinder.FreeSlot> freeSlot = new ArrayList<>(1);
+        while (!requests.isEmpty()) {
+            Request request = requests.poll();
+            LocalDate firstDate = request.earliestDate.isBefore(today) ? today : request.earliestDate;
+            LocalDate lastDate = firstDate.plusDays(SEARCH_HORIZON_DAYS);
+            Appointment placed = null;
+
+            for (LocalDate date = firstDate; placed == null && !date.isAfter(lastDate); date = date.plusDays(1)) {
+                Integer unavailable = shortestUnavailableDuration.get(date);
+                if (unavailable != null && request.durationMinutes >= unavailable) {
+                    continue;
+                }
+
+                List<Appointment> dayAppointments = appointmentsByDate.computeIfAbsent(date,
+                        d -> new ArrayList<>(Appointment.getAppointmentsOn(d)));
+                LocalTime windowStart = FreeSlotFinder.DEFAULT_DAY_START;
+                if (date.equals(today) && earliestStart.toLocalTime().isAfter(windowStart)) {
+                    windowStart = earliestStart.toLocalTime();
+                }
+                freeSlot.clear();
+                FreeSlotFinder.addFreeSlotsOnDate(date, dayAppointments, windowStart, FreeSlotFinder.DEFAULT_DAY_END,
+                        request.durationMinutes, 1, freeSlot);
+                if (freeSlot.isEmpty()) {
+                    shortestUnavailableDuration.merge(date, request.durationMinutes, Math::min);
+                    continue;
+                }
+
+                LocalTime startTime = freeSlot.get(0).getStartTime();
+                placed = new Appointment(request.id, request.name, startTime,
+                        startTime.plusMinutes(request.durationMinutes), date, request.notes, request.importance);
+                int insertAt = Collections.binarySearch(dayAppointments, placed, START_ORDER);
+                dayAppointments.add(insertAt < 0 ? -insertAt - 1 : insertAt, placed);
+            }
+
+            if (placed == null) {
+                rejectedRows.put(request.rowNumber, "No free slot of " + request.durationMinutes
+                        + " minutes within a year of " + firstDate);
+            } else {
+                placedAppointments.add(placed);
+            }
+        }
+        return placedAppointments;
+    }
+
+    private static String formatReport(int requestCount, ArrayList<Appointment> placedAppointments,
+            Map<Integer, String> rejectedRows) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Placed ").append(placedAppointments.size()).append(" of ").append(requestCount)
+                .append(" requested appointments");
+        sb.append(placedAppointments.isEmpty() ? ".\n" : ":\n");
+        for (int i = 0; i < placedAppointments.size(); i++) {
+            if (i == MAX_REPORTED_ROWS) {
+                sb.append("... and ").append(placedAppointments.size() - i).append(" more\n");
+                break;
+            }
+            sb.append(placedAppointments.get(i)).append('\n');
+        }
+        if (rejectedRows.isEmpty()) {
+            return sb.toString();
+        }
+
+        sb.append("Could not place ").append(rejectedRows.size()).append(" rows:\n");
+        int reported = 0;
+        for (Map.Entry<Integer, String> entry : rejectedRows.entrySet()) {
+            if (reported == MAX_REPORTED_ROWS) {
+                sb.append("... and ").append(rejectedRows.size() - reported).append(" more rows\n");
+                break;
+            }
+            sb.append("Row ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+            reported++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.nursesched.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Keeps the fields of the appointment list in parallel primitive arrays, one column per field.
+ * <p>
+ * Scans such as finding the appointments of a patient, checking for clashes or sorting the list otherwise follow
+ * pointers from every appointment to its {@link LocalDate}, {@link LocalTime}s and strings. Here each field is one
+ * array, so a scan is a tight loop over ints. The appointment list stays the source of truth: the columns are
+ * rebuilt by {@link #refresh(List, int)} once the list has been replaced or modified, while appointments added to
+ * the end of the list are only appended. Notes are never scanned, so they are left on the appointments.
+ * </p>
+ */
+class ApptColumns {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Widths of the fields packed into one sort key by sortOrder
+    private static final int ROW_BITS = 28;
+    private static final int MINUTE_BITS = 11;
+    private static final int DAY_BITS = 22;
+
+    private Appointment[] rows = new Appointment[INITIAL_CAPACITY];
+    private int[] patientIds = new int[INITIAL_CAPACITY];
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+    private short[] startMinutes = new short[INITIAL_CAPACITY];
+    private short[] endMinutes = new short[INITIAL_CAPACITY];
+    private byte[] importances = new byte[INITIAL_CAPACITY];
+    private String[] lowerCaseNames = new String[INITIAL_CAPACITY];
+    private final BitSet done = new BitSet();
+    private final IdentityHashMap<Appointment, Integer> rowsByAppointment = new IdentityHashMap<>();
+    private int size = 0;
+
+    private List<Appointment> source;
+    private int sourceModificationCount = -1;
+
+    /**
+     * Brings the columns up to date with the appointment list. Nothing is done if the list is unchanged, and only
+     * the new rows are added if appointments have just been appended to it.
+     *
+     * @param appointments      The appointment list.
+     * @param modificationCount A counter that the owner of the list increases whenever an appointment is removed,
+     *                          replaced or moved.
+     */
+    void refresh(List<Appointment> appointments, int modificationCount) {
+        int newSize = appointments.size();
+        boolean isSameList = appointments == source && modificationCount == sourceModificationCount;
+        if (isSameList && newSize == size) {
+            return;
+        }
+        if (!isSameList || newSize < size || (size > 0 && appointments.get(size - 1) != rows[size - 1])) {
+            size = 0;
+            done.clear();
+            rowsByAppointment.clear();
+        }
+
+        ensureCapacity(newSize);
+        HashMap<String, String> lowerCaseNamesSeen = new HashMap<>();
+        for (int row = size; row < newSize; row++) {
+            Appointment appointment = appointments.get(row);
+            String name = appointment.getName() == null ? "" : appointment.getName();
+            rows[row] = appointment;
+            rowsByAppointment.put(appointment, row);
+            patientIds[row] = appointment.getID();
+            epochDays[row] = (int) appointment.getLocalDate().toEpochDay();
+            startMinutes[row] = (short) minuteOfDay(appointment.getLocalStartTime());
+            endMinutes[row] = (short) minuteOfDay(appointment.getLocalEndTime());
+            importances[row] = (byte) appointment.getImportance();
+            lowerCaseNames[row] = lowerCaseNamesSeen.computeIfAbsent(name, String::toLowerCase);
+            done.set(row, appointment.getStatus());
+        }
+        size = newSize;
+        source = appointments;
+        sourceModificationCount = modificationCount;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= rows.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, rows.length * 2);
+        rows = Arrays.copyOf(rows, newCapacity);
+        patientIds = Arrays.copyOf(patientIds, newCapacity);
+        epochDays = Arrays.copyOf(epochDays, newCapacity);
+        startMinutes = Arrays.copyOf(startMinutes, newCapacity);
+        endMinutes = Arrays.copyOf(endMinutes, newCapacity);
+        importances = Arrays.copyOf(importances, newCapacity);
+        lowerCaseNames = Arrays.copyOf(lowerCaseNames, newCapacity);
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Returns the row of an appointment, that is its index in the appointment list, without scanning the list.
+     *
+     * @param appointment The appointment, which is compared by identity.
+     * @return The 0-based index of the appointment, or -1 if it is not in the list.
+     */
+    int rowOf(Appointment appointment) {
+        Integer row = rowsByAppointment.get(appointment);
+        return row == null ? -1 : row;
+    }
+
+    /**
+     * Records that the appointment in a row has been marked or unmarked, so that the columns need not be rebuilt.
+     *
+     * @param row    The 0-based index of the appointment in the list.
+     * @param isDone Whether the appointment is now done.
+     */
+    void setDone(int row, boolean isDone) {
+        if (row < size) {
+            done.set(row, isDone);
+        }
+    }
+
+    /**
+     * Returns the number of appointments that have been marked as done.
+     */
+    int countDone() {
+        return done.cardinality();
+    }
+
+    /**
+     * Returns the appointments of a patient, in list order.
+     *
+     * @param patientId The ID of the patient.
+     */
+    ArrayList<Appointment> findByPatientId(int patientId) {
+        ArrayList<Appointment> matches = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (patientIds[row] == patientId) {
+                matches.add(rows[row]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the appointments whose patient name contains a keyword, ignoring case, in list order.
+     * The name of every distinct patient is lowercased once when the columns are built, not on every search.
+     *
+     * @param keyword The keyword to look for.
+     */
+    ArrayList<Appointment> findByName(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        ArrayList<Appointment> matches = new ArrayList<>();
+        String lastName = null;
+        boolean isLastMatch = false;
+        for (int row = 0; row < size; row++) {
+            // Rows of the same patient share one name string, so consecutive rows are usually decided at once
+            if (lowerCaseNames[row] != lastName) {
+                lastName = lowerCaseNames[row];
+                isLastMatch = lastName.contains(lowerCaseKeyword);
+            }
+            if (isLastMatch) {
+                matches.add(rows[row]);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the first appointment in the list on a date that overlaps the given period, or {@code null}.
+     *
+     * @param date      The date of the period.
+     * @param startTime The start of the period.
+     * @param endTime   The end of the period.
+     */
+    Appointment findClash(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return findClash(date, startTime, endTime, -1);
+    }
+
+    /**
+     * Returns the first appointment in the list on a date that overlaps the given period, other than the one in
+     * the excluded row, or {@code null}. Used when an appointment is edited, so that it cannot clash with itself.
+     *
+     * @param date        The date of the period.
+     * @param startTime   The start of the period.
+     * @param endTime     The end of the period.
+     * @param excludedRow The 0-based index of the appointment to skip, or -1 to skip none.
+     */
+    Appointment findClash(LocalDate date, LocalTime startTime, LocalTime endTime, int excludedRow) {
+        long epochDay = date.toEpochDay();
+        int start = minuteOfDay(startTime);
+        int end = minuteOfDay(endTime);
+        for (int row = 0; row < size; row++) {
+            if (row != excludedRow && epochDays[row] == epochDay
+                    && startMinutes[row] < end && endMinutes[row] > start) {
+                return rows[row];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the appointments in chronological order, or by importance (HIGH to LOW) and then chronologically.
+     * <p>
+     * The importance, date, start time and row of each appointment are packed into one {@code long}, so the
+     * order is found by sorting a primitive array with no comparator calls. Appointments that tie keep their
+     * relative order, as with a stable sort.
+     * </p>
+     *
+     * @param byImportance Whether to order by importance first.
+     * @return The appointments in order, or {@code null} if some field does not fit in its packed width, in which
+     *         case the caller should sort with a comparator instead.
+     */
+    Appointment[] sortOrder(boolean byImportance) {
+        if (size >= 1 << ROW_BITS) {
+            return null;
+        }
+        long[] keys = new long[size];
+        for (int row = 0; row < size; row++) {
+            int importanceRank = byImportance ? 3 - importances[row] : 0;
+            if (importanceRank < 0 || importanceRank > 3 || epochDays[row] < 0 || epochDays[row] >= 1 << DAY_BITS) {
+                return null;
+            }
+            keys[row] = (long) importanceRank << (DAY_BITS + MINUTE_BITS + ROW_BITS)
+                    | (long) epochDays[row] << (MINUTE_BITS + ROW_BITS)
+                    | (long) startMinutes[row] << ROW_BITS
+                    | row;
+        }
+        Arrays.sort(keys);
+
+        Appointment[] ordered = new Appointment[size];
+        int rowMask = (1 << ROW_BITS) - 1;
+        for (int i = 0; i < size; i++) {
+            ordered[i] = rows[(int) (keys[i] & rowMask)];
+        }
+        return ordered;
+    }
+}
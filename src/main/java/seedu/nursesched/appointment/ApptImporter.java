@@ -0,0 +1,258 @@
+package seedu.nursesched.appointment;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ApptParser;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.storage.AppointmentStorage;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Imports appointments in bulk from a CSV file.
+ * <p>
+ * Each row has the format {@code PATIENT_ID,START_TIME,END_TIME,DATE[,IMPORTANCE][,NOTES]}, and a header row is
+ * skipped. Rows are validated in a single pass: patient names are resolved from a map built once, and clashes
+ * are found by sorting the rows by date and start time and sweeping over them, instead of scanning the whole
+ * appointment list for every row. Accepted rows are saved with one write, and rejected rows are reported
+ * together at the end.
+ * </p>
+ */
+public class ApptImporter {
+    private static final int DEFAULT_IMPORTANCE = 2;
+    private static final int MAX_REPORTED_ROWS = 50;
+    private static final Comparator<Row> ROW_ORDER = Comparator
+            .comparing((Row row) -> row.date)
+            .thenComparing(row -> row.startTime)
+            .thenComparingInt(row -> row.rowNumber);
+    private static final Comparator<Appointment> APPT_ORDER = Comparator
+            .comparing(Appointment::getLocalDate)
+            .thenComparing(Appointment::getLocalStartTime);
+
+    /**
+     * A validated row of the CSV file.
+     */
+    private static class Row {
+        private int rowNumber;
+        private int id;
+        private String name;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private LocalDate date;
+        private int importance;
+        private String notes;
+    }
+
+    /**
+     * Imports every valid, non-clashing row of the CSV file and reports the rows that were rejected.
+     *
+     * @param filePath The path of the CSV file.
+     * @throws NurseSchedException If the file cannot be read.
+     */
+    public static void importFromCsv(String filePath) throws NurseSchedException {
+        Map<Integer, String> patientNames = getPatientNamesById();
+        ArrayList<Row> rows = new ArrayList<>();
+        Map<Integer, String> rejectedRows = new TreeMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(filePath))) {
+            int rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank() || (rowNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                try {
+                    rows.add(parseRow(line, rowNumber, patientNames));
+                } catch (NurseSchedException e) {
+                    rejectedRows.put(rowNumber, e.getMessage());
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new NurseSchedException(ExceptionMessage.APPT_IMPORT_FILE_NOT_READABLE);
+        }
+
+        ArrayList<Row> acceptedRows = removeClashes(rows, rejectedRows);
+        for (Row row : acceptedRows) {
+            Appointment.apptList.add(new Appointment(row.id, row.name, row.startTime, row.endTime, row.date,
+                    row.notes, row.importance));
+        }
+        if (!acceptedRows.isEmpty()) {
+            AppointmentStorage.overwriteSaveFile(Appointment.apptList);
+        }
+        System.out.print(formatReport(filePath, acceptedRows.size(), rejectedRows));
+    }
+
+    static Map<Integer, String> getPatientNamesById() {
+        ArrayList<Patient> patients = Patient.getPatientsList();
+        Map<Integer, String> patientNames = new HashMap<>(patients.size() * 2);
+        for (Patient patient : patients) {
+            patientNames.put(patient.getIdNumber(), patient.getName());
+        }
+        return patientNames;
+    }
+
+    /**
+     * Returns true if the line is a header row, i.e. its first column contains no digits.
+     */
+    static boolean isHeader(String line) {
+        String firstColumn = line.split(",", 2)[0];
+        return !firstColumn.matches(".*\\d.*");
+    }
+
+    private static Row parseRow(String line, int rowNumber, Map<Integer, String> patientNames)
+            throws NurseSchedException {
+        String[] columns = line.split(",", 6);
+        if (columns.length < 4) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_IMPORT_ROW);
+        }
+
+        Row row = new Row();
+        row.rowNumber = rowNumber;
+        row.id = ApptParser.parseID(columns[0].trim());
+        row.name = patientNames.get(row.id);
+        if (row.name == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_APPT_ADD);
+        }
+        try {
+            row.startTime = LocalTime.parse(columns[1].trim());
+            row.endTime = LocalTime.parse(columns[2].trim());
+            row.date = LocalDate.parse(columns[3].trim());
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+        }
+        Appointment.checkApptDateTime(row.date, row.startTime, row.endTime);
+
+        row.importance = DEFAULT_IMPORTANCE;
+        if (columns.length > 4 && !columns[4].isBlank()) {
+            row.importance = ApptParser.parseImportance(columns[4].trim());
+        }
+        row.notes = columns.length > 5 ? columns[5].trim() : "";
+        return row;
+    }
+
+    /**
+     * Returns the rows that clash neither with an existing appointment, an occurrence of a recurring appointment,
+     * nor an earlier accepted row.
+     * <p>
+     * Existing appointments are sorted once, together with the latest end time seen so far on each date, so
+     * each row is checked against them with a binary search. The rows themselves are then swept in date and
+     * start time order, keeping the latest end time of the accepted rows on the current date.
+     * </p>
+     *
+     * @param rows         The rows that passed validation.
+     * @param rejectedRows Collects the reason for every rejected row, keyed by row number.
+     * @return The accepted rows, sorted by date and start time.
+     */
+    private static ArrayList<Row> removeClashes(ArrayList<Row> rows, Map<Integer, String> rejectedRows) {
+        ArrayList<Appointment> existing = new ArrayList<>(Appointment.apptList);
+        existing.sort(APPT_ORDER);
+        int[] latestEndIndex = new int[existing.size()];
+        for (int i = 0; i < existing.size(); i++) {
+            latestEndIndex[i] = i;
+            if (i > 0 && existing.get(i - 1).getLocalDate().equals(existing.get(i).getLocalDate())) {
+                Appointment previousLatest = existing.get(latestEndIndex[i - 1]);
+                if (previousLatest.getLocalEndTime().isAfter(existing.get(i).getLocalEndTime())) {
+                    latestEndIndex[i] = latestEndIndex[i - 1];
+                }
+            }
+        }
+
+        rows.sort(ROW_ORDER);
+        ArrayList<Row> acceptedRows = new ArrayList<>();
+        Row lastAccepted = null;
+        LocalTime latestAcceptedEnd = null;
+        for (Row row : rows) {
+            Appointment clash = findExistingClash(existing, latestEndIndex, row);
+            if (clash == null) {
+                clash = RecurringAppointment.findClash(row.date, row.startTime, row.endTime);
+            }
+            if (clash != null) {
+                rejectedRows.put(row.rowNumber, "Clashes with the appointment of " + clash.getName() + " on "
+                        + clash.getDate() + ": " + clash.getStartTime() + "-" + clash.getEndTime());
+                continue;
+            }
+            boolean isSameDate = lastAccepted != null && lastAccepted.date.equals(row.date);
+            if (isSameDate && row.startTime.isBefore(latestAcceptedEnd)) {
+                rejectedRows.put(row.rowNumber, "Clashes with another appointment in the file on " + row.date);
+                continue;
+            }
+            if (!isSameDate || row.endTime.isAfter(latestAcceptedEnd)) {
+                latestAcceptedEnd = row.endTime;
+            }
+            lastAccepted = row;
+            acceptedRows.add(row);
+        }
+        return acceptedRows;
+    }
+
+    /**
+     * Finds an existing appointment that overlaps the row, or returns null if there is none.
+     */
+    private static Appointment findExistingClash(ArrayList<Appointment> existing, int[] latestEndIndex, Row row) {
+        int low = 0;
+        int high = existing.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Appointment appt = existing.get(mid);
+            int comparison = appt.getLocalDate().compareTo(row.date);
+            if (comparison == 0) {
+                comparison = appt.getLocalStartTime().compareTo(row.startTime);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        // The first appointment starting at or after the row could start before the row ends
+        if (low < existing.size()) {
+            Appointment next = existing.get(low);
+            if (next.getLocalDate().equals(row.date) && next.getLocalStartTime().isBefore(row.endTime)
+                    && next.getLocalEndTime().isAfter(row.startTime)) {
+                return next;
+            }
+        }
+        // Of the appointments starting before the row on the same date, the one ending last could overlap it
+        if (low > 0) {
+            Appointment latest = existing.get(latestEndIndex[low - 1]);
+            if (latest.getLocalDate().equals(row.date) && latest.getLocalEndTime().isAfter(row.startTime)) {
+                return latest;
+            }
+        }
+        return null;
+    }
+
+    private static String formatReport(String filePath, int importedCount, Map<Integer, String> rejectedRows) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Imported ").append(importedCount).append(" appointments from ").append(filePath).append('\n');
+        if (rejectedRows.isEmpty()) {
+            return sb.toString();
+        }
+
+        sb.append("Rejected ").append(rejectedRows.size()).append(" rows:\n");
+        int reported = 0;
+        for (Map.Entry<Integer, String> entry : rejectedRows.entrySet()) {
+            if (reported == MAX_REPORTED_ROWS) {
+                sb.append("... and ").append(rejectedRows.size() - reported).append(" more rejected rows\n");
+                break;
+            }
+            sb.append("Row ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+            reported++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.nursesched.appointment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the appointment list in one sort order, e.g. chronologically, without reordering the list itself.
+ * <p>
+ * Appointments that are added, edited or deleted through {@link Appointment} are inserted into or removed from the
+ * sorted view by binary search, so the order survives later changes without sorting the whole list again. Any
+ * other change to the list, such as an import, is noticed by {@link #get(List, int, ApptColumns)} the same way
+ * as by {@link seedu.nursesched.schedule.DateIndex}, and the view is then rebuilt from the packed sort keys of
+ * {@link ApptColumns}. Appointments that tie keep the order in which they were added.
+ * </p>
+ */
+class ApptView {
+    private final Comparator<Appointment> order;
+    private final boolean isByImportance;
+    private final ArrayList<Appointment> sorted = new ArrayList<>();
+
+    private List<Appointment> source;
+    private int sourceSize = -1;
+    private int sourceModificationCount = -1;
+
+    /**
+     * Constructs an empty view.
+     *
+     * @param order          The sort order, which must match {@link ApptColumns#sortOrder(boolean)}.
+     * @param isByImportance Whether the order is by importance first.
+     */
+    ApptView(Comparator<Appointment> order, boolean isByImportance) {
+        this.order = order;
+        this.isByImportance = isByImportance;
+    }
+
+    /**
+     * Returns the appointments in order, rebuilding the view first if the list has changed behind its back.
+     *
+     * @param appointments      The appointment list.
+     * @param modificationCount The modification count of the appointment list.
+     * @param columns           The columns of the appointment list, brought up to date.
+     * @return An unmodifiable view of the sorted appointments.
+     */
+    List<Appointment> get(List<Appointment> appointments, int modificationCount, ApptColumns columns) {
+        if (appointments != source || appointments.size() != sourceSize
+                || modificationCount != sourceModificationCount) {
+            sorted.clear();
+            Appointment[] ordered = columns.sortOrder(isByImportance);
+            if (ordered == null) {
+                sorted.addAll(appointments);
+                sorted.sort(order);
+            } else {
+                Collections.addAll(sorted, ordered);
+            }
+            source = appointments;
+            sourceSize = appointments.size();
+            sourceModificationCount = modificationCount;
+        }
+        return Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Applies a change that has just been made to the appointment list. If the view was not up to date before the
+     * change, nothing is done, and the view is rebuilt the next time it is needed.
+     *
+     * @param appointments         The appointment list, after the change.
+     * @param oldModificationCount The modification count before the change.
+     * @param newModificationCount The modification count after the change.
+     * @param removed              The appointment removed from the list, or {@code null}.
+     * @param added                The appointment added to the list, or {@code null}.
+     */
+    void update(List<Appointment> appointments, int oldModificationCount, int newModificationCount,
+                Appointment removed, Appointment added) {
+        int oldSize = appointments.size() - (added == null ? 0 : 1) + (removed == null ? 0 : 1);
+        if (appointments != source || oldSize != sourceSize || oldModificationCount != sourceModificationCount) {
+            return;
+        }
+        if (removed != null) {
+            int index = indexOf(removed);
+            if (index < 0) {
+                source = null;
+                return;
+            }
+            sorted.remove(index);
+        }
+        if (added != null) {
+            sorted.add(upperBound(added), added);
+        }
+        sourceSize = appointments.size();
+        sourceModificationCount = newModificationCount;
+    }
+
+    /**
+     * Returns the position of the first appointment that sorts after {@code appointment}.
+     */
+    private int upperBound(Appointment appointment) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(sorted.get(mid), appointment) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of {@code appointment} itself among the appointments that tie with it, or -1.
+     */
+    private int indexOf(Appointment appointment) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(sorted.get(mid), appointment) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < sorted.size() && order.compare(sorted.get(i), appointment) == 0; i++) {
+            if (sorted.get(i) == appointment) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
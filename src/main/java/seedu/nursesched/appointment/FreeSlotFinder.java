@@ -0,0 +1,138 @@
+package seedu.nursesched.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the gaps between appointments in which a new appointment could be booked.
+ * <p>
+ * Each date's appointments come from {@link Appointment#getAppointmentsOn(LocalDate)}, already sorted by start
+ * time and including occurrences of recurring appointments, so the gaps of a date are found with a single sweep
+ * that keeps the latest end time seen so far.
+ * </p>
+ */
+public class FreeSlotFinder {
+    public static final LocalTime DEFAULT_DAY_START = LocalTime.of(8, 0);
+    public static final LocalTime DEFAULT_DAY_END = LocalTime.of(18, 0);
+    public static final int DEFAULT_DURATION_MINUTES = 30;
+    public static final int DEFAULT_MAX_SLOTS = 10;
+
+    /**
+     * A free period on a date.
+     */
+    public static class FreeSlot {
+        private final LocalDate date;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+
+        public FreeSlot(LocalDate date, LocalTime startTime, LocalTime endTime) {
+            this.date = date;
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        @Override
+        public String toString() {
+            return date + " " + startTime + "-" + endTime;
+        }
+    }
+
+    /**
+     * Returns the earliest free periods from {@code from} to {@code to} that are long enough for an appointment.
+     * Dates and times that have already passed are never returned.
+     *
+     * @param from            The first date to search.
+     * @param to              The last date to search.
+     * @param dayStart        The earliest time on each date that a free period can start.
+     * @param dayEnd          The latest time on each date that a free period can end.
+     * @param durationMinutes The minimum length of a free period.
+     * @param maxSlots        The maximum number of free periods to return.
+     * @return The free periods, in date and time order.
+     */
+    public static ArrayList<FreeSlot> findFreeSlots(LocalDate from, LocalDate to, LocalTime dayStart,
+            LocalTime dayEnd, int durationMinutes, int maxSlots) {
+        assert !from.isAfter(to) : "The first date cannot be after the last date";
+        assert durationMinutes > 0 : "Duration must be positive";
+
+        LocalDateTime earliestStart = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        if (from.isBefore(earliestStart.toLocalDate())) {
+            from = earliestStart.toLocalDate();
+        }
+        ArrayList<FreeSlot> freeSlots = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return freeSlots;
+        }
+
+        for (LocalDate date = from; !date.isAfter(to) && freeSlots.size() < maxSlots; date = date.plusDays(1)) {
+            LocalTime windowStart = dayStart;
+            if (date.equals(earliestStart.toLocalDate()) && earliestStart.toLocalTime().isAfter(windowStart)) {
+                windowStart = earliestStart.toLocalTime();
+            }
+            List<Appointment> dayAppointments = Appointment.getAppointmentsOn(date);
+            addFreeSlotsOnDate(date, dayAppointments, windowStart, dayEnd, durationMinutes, maxSlots, freeSlots);
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Sweeps over one date's appointments, sorted by start time, and adds each long enough gap between
+     * {@code windowStart} and {@code windowEnd} to {@code freeSlots}.
+     */
+    static void addFreeSlotsOnDate(LocalDate date, List<Appointment> dayAppointments, LocalTime windowStart,
+            LocalTime windowEnd, int durationMinutes, int maxSlots, List<FreeSlot> freeSlots) {
+        LocalTime cursor = windowStart;
+        for (Appointment appointment : dayAppointments) {
+            if (freeSlots.size() >= maxSlots || !appointment.getLocalStartTime().isBefore(windowEnd)) {
+                break;
+            }
+            if (!appointment.getLocalEndTime().isAfter(cursor)) {
+                continue;
+            }
+            if (cursor.until(appointment.getLocalStartTime(), ChronoUnit.MINUTES) >= durationMinutes) {
+                freeSlots.add(new FreeSlot(date, cursor, appointment.getLocalStartTime()));
+            }
+            cursor = appointment.getLocalEndTime();
+        }
+        if (freeSlots.size() < maxSlots && cursor.isBefore(windowEnd)
+                && cursor.until(windowEnd, ChronoUnit.MINUTES) >= durationMinutes) {
+            freeSlots.add(new FreeSlot(date, cursor, windowEnd));
+        }
+    }
+
+    /**
+     * Prints the earliest free periods that are long enough for an appointment.
+     *
+     * @see #findFreeSlots(LocalDate, LocalDate, LocalTime, LocalTime, int, int)
+     */
+    public static void printFreeSlots(LocalDate from, LocalDate to, LocalTime dayStart, LocalTime dayEnd,
+            int durationMinutes, int maxSlots) {
+        ArrayList<FreeSlot> freeSlots = findFreeSlots(from, to, dayStart, dayEnd, durationMinutes, maxSlots);
+        if (freeSlots.isEmpty()) {
+            System.out.println("No free slots of at least " + durationMinutes + " minutes were found.");
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Free slots of at least ").append(durationMinutes).append(" minutes:\n");
+        for (int i = 0; i < freeSlots.size(); i++) {
+            sb.append(i + 1).append(". ").append(freeSlots.get(i)).append('\n');
+        }
+        System.out.print(sb);
+    }
+}
@@ -0,0 +1,320 @@
+package seedu.nursesched.appointment;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.schedule.Recurrence;
+import seedu.nursesched.storage.RecurringApptStorage;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents an appointment that repeats every fixed number of days, e.g. a weekly dialysis session.
+ * <p>
+ * Only the {@link Recurrence} rule is stored. Occurrences are created on demand for the dates being queried, so
+ * a long series never has to be expanded.
+ * </p>
+ */
+public class RecurringAppointment {
+    protected static ArrayList<RecurringAppointment> recurringList = RecurringApptStorage.readFile();
+
+    private final int id;
+    private final String name;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final Recurrence recurrence;
+    private final String notes;
+    private final int importance;
+
+    /**
+     * Constructs a recurring appointment.
+     *
+     * @param id           The ID of the patient involved in the appointment.
+     * @param startTime    The start time of each occurrence.
+     * @param endTime      The end time of each occurrence.
+     * @param firstDate    The date of the first occurrence.
+     * @param intervalDays The number of days between occurrences, e.g. 7 for a weekly appointment.
+     * @param untilDate    The date after which there are no more occurrences, or null.
+     * @param count        The number of occurrences, or 0 if there is no limit.
+     * @param notes        The notes for the appointment.
+     * @param importance   The importance ranking of the appointment.
+     */
+    public RecurringAppointment(int id, LocalTime startTime, LocalTime endTime, LocalDate firstDate,
+            int intervalDays, LocalDate untilDate, int count, String notes, int importance) {
+        this.id = id;
+        this.name = Appointment.findPatientName(id);
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.recurrence = new Recurrence(firstDate, intervalDays, untilDate, count);
+        this.notes = notes;
+        this.importance = importance;
+    }
+
+    /**
+     * Adds a new recurring appointment, unless one of its occurrences would clash with an appointment or with
+     * an occurrence of another recurring appointment.
+     *
+     * @throws NurseSchedException If the patient does not exist, the first occurrence has already passed, an
+     *                             occurrence clashes, or the series runs past the dates that can be stored.
+     */
+    public static void addRecurringAppt(int id, LocalTime startTime, LocalTime endTime, LocalDate firstDate,
+            int intervalDays, LocalDate untilDate, int count, String notes, int importance)
+            throws NurseSchedException {
+        if (Appointment.findPatientName(id) == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_APPT_ADD);
+        }
+        Appointment.checkApptDateTime(firstDate, startTime, endTime);
+
+        RecurringAppointment recurringAppt;
+        Appointment clash;
+        try {
+            recurringAppt = new RecurringAppointment(id, startTime, endTime, firstDate, intervalDays, untilDate,
+                    count, notes, importance);
+            clash = recurringAppt.findClashWithAppointments();
+            for (int i = 0; clash == null && i < recurringList.size(); i++) {
+                RecurringAppointment other = recurringList.get(i);
+                LocalDate commonDate = recurringAppt.findCommonDate(other);
+                if (commonDate != null && other.overlaps(startTime, endTime)) {
+                    clash = other.toOccurrence(commonDate);
+                }
+            }
+        } catch (DateTimeException e) {
+            // Some occurrence would fall after the last date a LocalDate can hold
+            throw new NurseSchedException(ExceptionMessage.RECURRENCE_TOO_LONG);
+        }
+        if (clash != null) {
+            System.out.println("There is another patient, " + clash.getName() +
+                    " with an appointment clashing with an occurrence of this appointment! ");
+            System.out.println("Please enter a different date or time outside of " +
+                    clash.getDate() + ": " + clash.getStartTime() + "-" + clash.getEndTime());
+            throw new NurseSchedException(ExceptionMessage.APPT_CLASH);
+        }
+
+        recurringList.add(recurringAppt);
+        RecurringApptStorage.overwriteSaveFile(recurringList);
+        System.out.println("Recurring appointment added:");
+        System.out.println(recurringAppt);
+    }
+
+    /**
+     * Deletes a recurring appointment, and so all of its occurrences.
+     *
+     * @param index The index of the recurring appointment to be removed (0-based index).
+     * @throws NurseSchedException If there is no recurring appointment at the index.
+     */
+    public static void deleteRecurringAppt(int index) throws NurseSchedException {
+        if (index < 0 || index >= recurringList.size()) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_NUMBER);
+        }
+        RecurringAppointment removed = recurringList.remove(index);
+        RecurringApptStorage.overwriteSaveFile(recurringList);
+        System.out.println("Recurring appointment deleted: " + removed);
+    }
+
+    /**
+     * Displays all recurring appointments.
+     */
+    public static void listRecurringAppts() {
+        if (recurringList.isEmpty()) {
+            System.out.println("No recurring appointments.");
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < recurringList.size(); i++) {
+            sb.append(i + 1).append(". ").append(recurringList.get(i)).append('\n');
+        }
+        System.out.print(sb);
+    }
+
+    /**
+     * Finds an occurrence of a recurring appointment on a date that overlaps the given times.
+     *
+     * @return The clashing occurrence, or null if there is none.
+     */
+    public static Appointment findClash(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        for (RecurringAppointment recurringAppt : recurringList) {
+            if (recurringAppt.occursOn(date) && recurringAppt.overlaps(startTime, endTime)) {
+                return recurringAppt.toOccurrence(date);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the occurrences of every recurring appointment on a date.
+     *
+     * @param date The date to look up.
+     * @return The occurrences on the date, which is empty if there are none.
+     */
+    public static List<Appointment> getOccurrencesOn(LocalDate date) {
+        List<Appointment> occurrences = new ArrayList<>();
+        for (RecurringAppointment recurringAppt : recurringList) {
+            if (recurringAppt.occursOn(date)) {
+                occurrences.add(recurringAppt.toOccurrence(date));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrences of every recurring appointment from {@code from} to {@code to}, both inclusive, in
+     * no particular order.
+     */
+    public static List<Appointment> getOccurrencesBetween(LocalDate from, LocalDate to) {
+        List<Appointment> occurrences = new ArrayList<>();
+        for (RecurringAppointment recurringAppt : recurringList) {
+            occurrences.addAll(recurringAppt.getOccurrences(from, to));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Removes all recurring appointments of a patient.
+     *
+     * @param patientId The ID of the patient whose recurring appointments are to be removed.
+     */
+    public static void removeForPatient(int patientId) {
+        if (recurringList.removeIf(recurringAppt -> recurringAppt.id == patientId)) {
+            RecurringApptStorage.overwriteSaveFile(recurringList);
+        }
+    }
+
+    /**
+     * Replaces the recurring appointments in memory with the contents of the save file, discarding unsaved
+     * changes.
+     */
+    public static void reloadFromFile() {
+        recurringList = RecurringApptStorage.readFile();
+    }
+
+    public static ArrayList<RecurringAppointment> getRecurringList() {
+        return recurringList;
+    }
+
+    /**
+     * Returns whether the appointment has an occurrence on a date.
+     */
+    public boolean occursOn(LocalDate date) {
+        return recurrence.occursOn(date);
+    }
+
+    private boolean overlaps(LocalTime otherStartTime, LocalTime otherEndTime) {
+        return startTime.isBefore(otherEndTime) && endTime.isAfter(otherStartTime);
+    }
+
+    /**
+     * Returns the first occurrence on or after a date, or null if the series has ended by then.
+     */
+    LocalDate getFirstOccurrenceFrom(LocalDate date) {
+        return recurrence.getFirstOccurrenceFrom(date);
+    }
+
+    /**
+     * Returns the occurrences from {@code from} to {@code to}, both inclusive, creating only those.
+     */
+    public List<Appointment> getOccurrences(LocalDate from, LocalDate to) {
+        List<Appointment> occurrences = new ArrayList<>();
+        for (LocalDate date = recurrence.getFirstOccurrenceFrom(from); date != null && !date.isAfter(to);
+                date = recurrence.getNextOccurrence(date)) {
+            occurrences.add(toOccurrence(date));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the occurrence on a date as an appointment.
+     */
+    Appointment toOccurrence(LocalDate date) {
+        return new Appointment(0, id, name, startTime, endTime, date, notes, importance);
+    }
+
+    /**
+     * Finds an appointment that clashes with an occurrence, by walking the dates of the appointment date index
+     * that fall within the series instead of expanding the series.
+     */
+    private Appointment findClashWithAppointments() {
+        LocalDate to = recurrence.getLastDate() == null ? LocalDate.MAX : recurrence.getLastDate();
+        Map<LocalDate, List<Appointment>> appointmentsByDate = Appointment.getDateIndex()
+                .getRange(recurrence.getFirstDate(), to);
+        for (Map.Entry<LocalDate, List<Appointment>> entry : appointmentsByDate.entrySet()) {
+            if (!occursOn(entry.getKey())) {
+                continue;
+            }
+            for (Appointment appointment : entry.getValue()) {
+                if (overlaps(appointment.getLocalStartTime(), appointment.getLocalEndTime())) {
+                    return appointment;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first date on which both this and another recurring appointment occur, or null if there is
+     * none.
+     */
+    LocalDate findCommonDate(RecurringAppointment other) {
+        return recurrence.findCommonDate(other.recurrence);
+    }
+
+    @Override
+    public String toString() {
+        String importanceString = switch (importance) {
+        case 1 -> "LOW";
+        case 2 -> "MEDIUM";
+        case 3 -> "HIGH";
+        default -> "";
+        };
+        return "ID: " + id + ", " +
+                "Name: " + name + ", " +
+                "From: " + startTime + ", " +
+                "To: " + endTime + ", " +
+                "Repeats: " + recurrence + ", " +
+                "Importance: " + importanceString + ", " +
+                "Notes: " + notes;
+    }
+
+    public int getID() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public LocalDate getFirstDate() {
+        return recurrence.getFirstDate();
+    }
+
+    public int getIntervalDays() {
+        return recurrence.getIntervalDays();
+    }
+
+    public LocalDate getUntilDate() {
+        return recurrence.getUntilDate();
+    }
+
+    public int getCount() {
+        return recurrence.getCount();
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public int getImportance() {
+        return importance;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.nursesched.command;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.appointment.RecurringAppointment;
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.patient.MedicalTest;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.shift.Shift;
+import seedu.nursesched.storage.DeferredPersistence;
+import seedu.nursesched.task.Task;
+import seedu.nursesched.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Runs a script of commands as a single batch.
+ * <p>
+ * Save file writes are deferred for the whole script, so every touched save file is written exactly once at
+ * the end instead of once per command. If any command in the script fails, none of the changes made by the
+ * script are saved and the lists in memory are reloaded from the save files.
+ * </p>
+ * Blank lines and lines starting with {@code #} are skipped, and {@code exit ns} ends the script early.
+ */
+public class BatchRunner {
+    private static final String COMMENT_PREFIX = "#";
+    private static final String EXIT_COMMAND = "exit ns";
+
+    /**
+     * Executes every command in the script, saving the changes only if all of them succeed.
+     *
+     * @param filePath The path of the script to run.
+     * @param ui       The user interface class for interacting with the user.
+     * @return {@code true} if every command succeeded and the changes were saved.
+     * @throws NurseSchedException If the script cannot be read, or a batch is already running.
+     */
+    public static boolean runScript(String filePath, Ui ui) throws NurseSchedException {
+        if (DeferredPersistence.isActive()) {
+            throw new NurseSchedException(ExceptionMessage.NESTED_BATCH);
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Path.of(filePath));
+        } catch (IOException | RuntimeException e) {
+            throw new NurseSchedException(ExceptionMessage.BATCH_FILE_NOT_READABLE);
+        }
+
+        DeferredPersistence.begin();
+        int commandCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            if (line.equalsIgnoreCase(EXIT_COMMAND)) {
+                break;
+            }
+
+            try {
+                Command.executeCheckedCommand(line, ui);
+                commandCount++;
+            } catch (NurseSchedException | RuntimeException e) {
+                rollback();
+                System.out.println("Batch failed at line " + (i + 1) + ": " + line);
+                System.out.println(e.getMessage());
+                System.out.println("No changes from " + filePath + " were saved.");
+                return false;
+            }
+        }
+
+        int filesWritten = DeferredPersistence.flush();
+        System.out.println("Batch complete: " + commandCount + " commands executed, "
+                + filesWritten + " save files written.");
+        return true;
+    }
+
+    /**
+     * Drops the deferred writes and reloads every list, so that memory matches the untouched save files.
+     * Patients are reloaded first because appointments look up patient names when they are loaded.
+     */
+    private static void rollback() {
+        DeferredPersistence.discard();
+        Patient.reloadFromFile();
+        MedicalTest.reloadFromFile();
+        Appointment.reloadFromFile();
+        RecurringAppointment.reloadFromFile();
+        Shift.reloadFromFile();
+        Task.reloadFromFile();
+        Medicine.reloadFromFile();
+    }
+}
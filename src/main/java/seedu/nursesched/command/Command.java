@@ -1,22 +1,48 @@
 package seedu.nursesched.command;
 
 import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.appointment.ApptAutoPlacer;
+import seedu.nursesched.appointment.ApptImporter;
+import seedu.nursesched.appointment.FreeSlotFinder;
+import seedu.nursesched.appointment.RecurringAppointment;
+import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.metrics.CommandEvent;
+import seedu.nursesched.metrics.CommandMetrics;
 import seedu.nursesched.parser.ApptParser;
+import seedu.nursesched.parser.HousekeepParser;
 import seedu.nursesched.parser.MedicineParser;
 import seedu.nursesched.parser.PatientParser;
+import seedu.nursesched.parser.ScheduleParser;
 import seedu.nursesched.parser.ShiftParser;
 import seedu.nursesched.parser.TaskParser;
 import seedu.nursesched.parser.Parser;
 import seedu.nursesched.patient.Patient;
+import seedu.nursesched.patient.PatientTransfer;
+import seedu.nursesched.schedule.ScheduleChecker;
+import seedu.nursesched.shift.RosterGenerator;
 import seedu.nursesched.shift.Shift;
 import seedu.nursesched.task.Task;
+import seedu.nursesched.ui.ListPrinter;
 import seedu.nursesched.ui.Ui;
 
+import java.time.LocalDate;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class Command {
+    /**
+     * Held while a command runs, and by {@link Housekeeper} while it archives, so that the two never change the
+     * lists at the same time. A batch script holds it for the whole script.
+     */
+    static final Object executionLock = new Object();
+
+    private static final Set<String> LISTING_VERBS = Set.of("list", "find", "agenda");
+    private static final Pattern PAGE_OPTION = Pattern.compile("\\s+(page|size)/(\\S*)");
+
     /**
      * Performs the execution of commands after the input has been parsed.
      *
@@ -25,303 +51,553 @@ public class Command {
      * @param ui     The user interface class for interacting with the user.
      */
     public static void executeCommands(boolean isExit, Scanner in, Ui ui) {
-        String input;
         while (!isExit) {
-            try {
-                String line = ui.readCommand(in);
-                ui.showResults();
-                line = line.trim();
-                String type = Parser.extractType(line).toLowerCase();
+            String line = ui.readCommand(in);
+            ui.showResults();
+            isExit = executeCommand(line, ui);
+        }
+        in.close();
+    }
 
-                switch (type) {
-                case "appt":
-                    ApptParser apptParser = ApptParser.extractInputs(line);
-                    if (apptParser == null) {
-                        System.out.println("Invalid inputs for appointment based command!");
-                        break;
-                    }
-                    String command = apptParser.getCommand();
-                    switch (command) {
-                    case "add":
-                        Appointment.addAppt(
-                                apptParser.getID(),
-                                apptParser.getStartTime(),
-                                apptParser.getEndTime(),
-                                apptParser.getDate(),
-                                apptParser.getNotes(),
-                                apptParser.getImportance()
-                        );
-                        break;
-                    case "del":
+    /**
+     * Executes a single line of user input and records how long it took.
+     *
+     * @param line The raw command entered by the user.
+     * @param ui   The user interface class for interacting with the user.
+     * @return {@code true} if the command was the exit command.
+     */
+    public static boolean executeCommand(String line, Ui ui) {
+        try {
+            return executeCheckedCommand(line, ui);
+        } catch (NurseSchedException e) {
+            ui.showError(e.getMessage());
+            return false;
+        }
+    }
 
-                        Appointment.deleteAppt(
-                                apptParser.getIndex()
-                        );
-                        break;
-                    case "mark":
-                        Appointment.markAppt(
-                                apptParser.getIndex()
-                        );
-                        break;
-                    case "unmark":
-                        Appointment.unmarkAppt(
-                                apptParser.getIndex()
-                        );
-                        break;
-                    case "list":
-                        Appointment.list();
-                        break;
-                    case "sort":
-                        if (apptParser.getSortBy().equals("importance")) {
-                            Appointment.sortByImportance();
-                        } else {
-                            Appointment.sortByTime();
-                        }
+    /**
+     * Executes a single line of input and records how long it took, leaving validation errors to the caller.
+     *
+     * @param line The raw command to execute.
+     * @param ui   The user interface class for interacting with the user.
+     * @return {@code true} if the command was the exit command.
+     * @throws NurseSchedException If the command fails validation.
+     */
+    public static boolean executeCheckedCommand(String line, Ui ui) throws NurseSchedException {
+        synchronized (executionLock) {
+            return executeLocked(line, ui);
+        }
+    }
 
-                        break;
-                    case "find":
-                        String searchBy = apptParser.getSearchBy();
-                        if (searchBy.equals("id")){
-                            Appointment.findApptByID(apptParser.getSearchKeyword());
-                        }
+    private static boolean executeLocked(String line, Ui ui) throws NurseSchedException {
+        line = line.trim();
+        String type = Parser.extractType(line).toLowerCase();
+        if (type.isEmpty() && line.equalsIgnoreCase("stats")) {
+            type = "stats";
+        }
+        String verb = Parser.extractVerb(line).toLowerCase();
 
-                        if (searchBy.equals("p")){
-                            Appointment.findApptByName(apptParser.getSearchKeyword());
-                        }
+        CommandEvent event = CommandEvent.start(type, verb);
+        String outcome = CommandEvent.OUTCOME_FAILED;
+        long startTime = System.nanoTime();
+        try {
+            if (LISTING_VERBS.contains(verb)) {
+                line = extractPage(line);
+            }
+            boolean isExit = dispatch(line, type, ui);
+            outcome = CommandEvent.OUTCOME_OK;
+            return isExit;
+        } catch (NurseSchedException e) {
+            outcome = CommandEvent.OUTCOME_REJECTED;
+            throw e;
+        } finally {
+            ListPrinter.flush();
+            ListPrinter.clearPage();
+            CommandMetrics.record(type, verb, System.nanoTime() - startTime);
+            event.finish(outcome);
+        }
+    }
 
+    /**
+     * Removes the {@code page/PAGE_NUMBER} and {@code size/ROWS_PER_PAGE} options from a listing command and
+     * limits the listing to that page.
+     *
+     * @param line The trimmed command.
+     * @return The command without the page options.
+     * @throws NurseSchedException If the page number or size is not a positive number.
+     */
+    static String extractPage(String line) throws NurseSchedException {
+        if (!line.contains("page/") && !line.contains("size/")) {
+            return line;
+        }
 
-                        break;
-                    case "edit":
-                        Appointment.editAppt(
-                                apptParser.getIndex(),
-                                apptParser.getID(),
-                                apptParser.getStartTime(),
-                                apptParser.getEndTime(),
-                                apptParser.getDate(),
-                                apptParser.getNotes(),
-                                apptParser.getImportance()
-                        );
-                        break;
-                    default:
-                        System.out.println("Invalid appointment based command!");
-                        break;
-                    }
-                    break;
-                case "pf":
-                    PatientParser patientParser = PatientParser.extractInputs(line);
-                    if (patientParser == null) {
-                        System.out.println("Invalid inputs for Patient based command!");
-                        break;
-                    }
-                    input = patientParser.getCommand();
-                    if (input.equals("add")) {
-                        Patient newPatient = new Patient(
-                                patientParser.getId(),
-                                patientParser.getName(),
-                                patientParser.getAge(),
-                                patientParser.getGender(),
-                                patientParser.getContact(),
-                                patientParser.getNotes());
-                        Patient.addPatient(newPatient);
-                        break;
-                    }
-                    if (input.equals("del")) {
-                        Patient.removePatient(patientParser.getId());
-                        break;
-                    }
-                    if (input.equals("list")) {
-                        Patient.listPatientInformation();
-                        break;
-                    }
-                    if (input.equals("find")) {
-                        Patient.printProfileWithID(patientParser.getId());
-                        break;
-                    }
-                    if (input.equals("edit")) {
-                        Patient.editPatientDetails(
-                                patientParser.getId(),
-                                patientParser.getName(),
-                                patientParser.getAge(),
-                                patientParser.getGender(),
-                                patientParser.getContact(),
-                                patientParser.getNotes());
-                        break;
-                    }
-                    break;
-                case "shift":
-                    ShiftParser shiftParser = ShiftParser.extractInputs(line);
-                    String shift = shiftParser.getCommand();
-                    if (shift.equals("add")) {
-                        Shift.addShift(
-                                shiftParser.getStartTime(),
-                                shiftParser.getEndTime(),
-                                shiftParser.getDate(),
-                                shiftParser.getNotes()
-                        );
-                        Shift.listShifts();
-                    }
-                    if (shift.equals("del")) {
-                        Shift.deleteShiftByIndex(
-                                shiftParser.getIndex()
-                        );
-                        Shift.listShifts();
-                    }
-                    if (shift.equals("edit")) {
-                        Shift.editShift(
-                                shiftParser.getIndex(),
-                                shiftParser.getStartTime(),
-                                shiftParser.getEndTime(),
-                                shiftParser.getDate(),
-                                shiftParser.getNotes()
-                        );
-                    }
-                    if (shift.equals("mark")) {
-                        Shift.markShift(
-                                shiftParser.getIndex()
-                        );
-                    }
-                    if (shift.equals("unmark")) {
-                        Shift.unmarkShift(
-                                shiftParser.getIndex()
-                        );
-                    }
-                    if (shift.equals("sort")) {
-                        Shift.sortShiftsChronologically();
-                        Shift.listShifts();
-                    }
-                    if (shift.equals("logot")) {
-                        double hours = Double.parseDouble(shiftParser.getShiftTask());
-                        int index = shiftParser.getIndex();
-                        Shift.logOvertime(index, hours);
-                    }
-                    if (shift.equals("list")) {
-                        Shift.listShifts();
-                    }
-                    break;
-                case "task":
-                    TaskParser taskParser = TaskParser.extractInputs(line);
-                    if (taskParser == null) {
-                        break;
-                    }
-                    String taskCommand = taskParser.getCommand();
-                    switch (taskCommand) {
-                    case "add":
-                        Task.addTask(
-                                taskParser.getDescription(),
-                                taskParser.getByDate(),
-                                taskParser.getByTime(),
-                                taskParser.isDone()
-                        );
-                        break;
-                    case "del":
-                        Task.deleteTask(taskParser.getTaskIndex());
-                        break;
-                    case "mark":
-                        Task.markTask(taskParser.getTaskIndex());
-                        break;
-                    case "unmark":
-                        Task.unmarkTask(taskParser.getTaskIndex());
-                        break;
-                    case "list":
-                        Task.listTasks();
-                        break;
-                    case "edit":
-                        Task.editTask(
-                                taskParser.getTaskIndex(),
-                                taskParser.getDescription(),
-                                taskParser.getByDate(),
-                                taskParser.getByTime());
-                        break;
-                    case "find":
-                        Task.findTask(taskParser.getDescription());
-                        break;
-                    default:
-                        System.out.println("Invalid task based command!");
-                        break;
-                    }
-                    break;
+        // Only the option tokens and the spaces before them are removed, so the rest of the line, e.g. a search
+        // keyword with several spaces in it, is passed on unchanged
+        Matcher option = PAGE_OPTION.matcher(line);
+        StringBuilder remaining = new StringBuilder();
+        int page = 1;
+        int pageSize = ListPrinter.DEFAULT_PAGE_SIZE;
+        try {
+            while (option.find()) {
+                int value = Integer.parseInt(option.group(2));
+                if (option.group(1).equals("page")) {
+                    page = value;
+                } else {
+                    pageSize = value;
+                }
+                option.appendReplacement(remaining, "");
+            }
+        } catch (NumberFormatException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PAGE_FORMAT);
+        }
+        option.appendTail(remaining);
+        if (page <= 0 || pageSize <= 0) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PAGE_FORMAT);
+        }
+        ListPrinter.setPage(page, pageSize);
+        return remaining.toString();
+    }
 
-                case "medicine":
-                    MedicineParser medicineParser = MedicineParser.extractInputs(line);
-                    if (medicineParser == null) {
-                        break;
-                    }
-                    String medicineCommand = medicineParser.getCommand();
-                    switch (medicineCommand) {
-                    case "add":
-                        Medicine.addMedicine(
-                                medicineParser.getQuantity(),
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "remove":
-                        Medicine.removeMedicine(
-                                medicineParser.getQuantity(),
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "list":
-                        String listCommand = line.trim().toLowerCase();
-                        if (listCommand.equals("medicine list")) {
-                            Medicine.listMedicine();
-                        } else {
-                            System.out.println("Unknown command!");
-                            System.out.println("Do you mean medicine list?");
-                        }
-                        break;
-                    case "find":
-                        Medicine.findMedicine(
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "delete":
-                        Medicine.deleteMedicine(
-                                medicineParser.getMedicineName()
-                        );
-                        break;
-                    case "edit":
-                        Medicine.editMedicine(
-                                medicineParser.getMedicineName(),
-                                medicineParser.getUpdatedName(),
-                                medicineParser.getQuantity()
-                        );
-                        break;
-                    case "restock":
-                        Medicine.restockMedicine(
-                                medicineParser.getQuantity()
-                        );
-                        break;
+    /**
+     * Routes a command to the handler for its type.
+     *
+     * @param line The trimmed command entered by the user.
+     * @param type The command type, e.g. "appt".
+     * @param ui   The user interface class for interacting with the user.
+     * @return {@code true} if the command was the exit command.
+     * @throws NurseSchedException If the command fails validation.
+     */
+    private static boolean dispatch(String line, String type, Ui ui) throws NurseSchedException {
+        String input;
+        switch (type) {
+        case "appt":
+            ApptParser apptParser = ApptParser.extractInputs(line);
+            if (apptParser == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_INPUTS);
+            }
+            String command = apptParser.getCommand();
+            switch (command) {
+            case "add":
+                Appointment.addAppt(
+                        apptParser.getID(),
+                        apptParser.getStartTime(),
+                        apptParser.getEndTime(),
+                        apptParser.getDate(),
+                        apptParser.getNotes(),
+                        apptParser.getImportance()
+                );
+                break;
+            case "del":
 
-                    default:
-                        System.out.println("Invalid medicine based command!");
-                        break;
-                    }
-                    break;
+                Appointment.deleteAppt(
+                        findAppt(apptParser)
+                );
+                break;
+            case "mark":
+                Appointment.markAppt(
+                        findAppt(apptParser)
+                );
+                break;
+            case "unmark":
+                Appointment.unmarkAppt(
+                        findAppt(apptParser)
+                );
+                break;
+            case "list":
+                if (apptParser.getDate() == null) {
+                    Appointment.list();
+                } else {
+                    Appointment.printAgenda(apptParser.getDate(), apptParser.getToDate());
+                }
+                break;
+            case "sort":
+                if (apptParser.getSortBy().equals("importance")) {
+                    Appointment.sortByImportance();
+                } else {
+                    Appointment.sortByTime();
+                }
+
+                break;
+            case "find":
+                String searchBy = apptParser.getSearchBy();
+                if (searchBy.equals("id")){
+                    Appointment.findApptByID(apptParser.getSearchKeyword());
+                }
 
-                // Exit command "exit ns"
-                case "exit":
-                    String exitCommand = line.trim().toLowerCase();
-                    if (exitCommand.equals("exit ns")) {
-                        in.close();
-                        ui.exitMessage();
-                        isExit = true;
-                    } else {
-                        System.out.println("Unknown command!");
-                        System.out.println("Command should start with \"appt\", \"pf\", \"shift\", \"task\", " +
-                                "\"medicine\" or \"exit ns\"");
-                    }
-                    break;
+                if (searchBy.equals("p")){
+                    Appointment.findApptByName(apptParser.getSearchKeyword());
+                }
 
 
-                default:
-                    System.out.println("Unknown command!");
-                    System.out.println("Command should start with \"appt\", \"pf\", \"shift\", \"task\", \"medicine\" "
-                            + "or \"exit ns\"");
-                    break;
+                break;
+            case "edit":
+                Appointment.editAppt(
+                        findAppt(apptParser),
+                        apptParser.getID(),
+                        apptParser.getStartTime(),
+                        apptParser.getEndTime(),
+                        apptParser.getDate(),
+                        apptParser.getNotes(),
+                        apptParser.getImportance()
+                );
+                break;
+            case "import":
+                ApptImporter.importFromCsv(apptParser.getFilePath());
+                break;
+            case "autoplace":
+                ApptAutoPlacer.autoplaceFromCsv(apptParser.getFilePath());
+                break;
+            case "recur":
+                if (apptParser.getRecurAction().equals("list")) {
+                    RecurringAppointment.listRecurringAppts();
+                } else if (apptParser.getRecurAction().equals("del")) {
+                    RecurringAppointment.deleteRecurringAppt(apptParser.getIndex());
+                } else {
+                    RecurringAppointment.addRecurringAppt(
+                            apptParser.getID(),
+                            apptParser.getStartTime(),
+                            apptParser.getEndTime(),
+                            apptParser.getDate(),
+                            apptParser.getIntervalDays(),
+                            apptParser.getUntilDate(),
+                            apptParser.getOccurrenceCount(),
+                            apptParser.getNotes(),
+                            apptParser.getImportance()
+                    );
                 }
-            } catch (NurseSchedException e) {
-                ui.showError(e.getMessage());
+                break;
+            case "agenda":
+                Appointment.printAgenda(apptParser.getDate(), apptParser.getToDate());
+                break;
+            case "archive":
+                Appointment.archive(LocalDate.now());
+                break;
+            case "history":
+                Appointment.printHistory(apptParser.getDate(), apptParser.getToDate(), apptParser.getID());
+                break;
+            case "free":
+                FreeSlotFinder.printFreeSlots(
+                        apptParser.getDate(),
+                        apptParser.getToDate(),
+                        apptParser.getStartTime(),
+                        apptParser.getEndTime(),
+                        apptParser.getDuration(),
+                        apptParser.getMaxSlots()
+                );
+                break;
+            default:
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_COMMAND);
+            }
+            break;
+        case "pf":
+            PatientParser patientParser = PatientParser.extractInputs(line);
+            if (patientParser == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_INPUTS);
+            }
+            input = patientParser.getCommand();
+            if (input.equals("add")) {
+                Patient newPatient = new Patient(
+                        patientParser.getId(),
+                        patientParser.getName(),
+                        patientParser.getAge(),
+                        patientParser.getGender(),
+                        patientParser.getContact(),
+                        patientParser.getNotes());
+                Patient.addPatient(newPatient);
+                break;
+            }
+            if (input.equals("del")) {
+                Patient.removePatient(patientParser.getId());
+                break;
+            }
+            if (input.equals("list")) {
+                Patient.listPatientInformation();
+                break;
+            }
+            if (input.equals("find")) {
+                Patient.printProfileWithID(patientParser.getId());
+                break;
+            }
+            if (input.equals("import")) {
+                PatientTransfer.importFromFile(patientParser.getFilePath());
+                break;
+            }
+            if (input.equals("export")) {
+                PatientTransfer.exportToFile(patientParser.getFilePath());
+                break;
             }
+            if (input.equals("edit")) {
+                Patient.editPatientDetails(
+                        patientParser.getId(),
+                        patientParser.getName(),
+                        patientParser.getAge(),
+                        patientParser.getGender(),
+                        patientParser.getContact(),
+                        patientParser.getNotes());
+                break;
+            }
+            break;
+        case "shift":
+            ShiftParser shiftParser = ShiftParser.extractInputs(line);
+            String shift = shiftParser.getCommand();
+            if (shift.equals("add")) {
+                Shift.addShift(
+                        shiftParser.getStartTime(),
+                        shiftParser.getEndTime(),
+                        shiftParser.getDate(),
+                        shiftParser.getNotes()
+                );
+                Shift.listShifts();
+            }
+            if (shift.equals("del")) {
+                Shift.deleteShiftByIndex(
+                        shiftParser.getIndex()
+                );
+                Shift.listShifts();
+            }
+            if (shift.equals("edit")) {
+                Shift.editShift(
+                        shiftParser.getIndex(),
+                        shiftParser.getStartTime(),
+                        shiftParser.getEndTime(),
+                        shiftParser.getDate(),
+                        shiftParser.getNotes()
+                );
+            }
+            if (shift.equals("mark")) {
+                Shift.markShift(
+                        shiftParser.getIndex()
+                );
+            }
+            if (shift.equals("unmark")) {
+                Shift.unmarkShift(
+                        shiftParser.getIndex()
+                );
+            }
+            if (shift.equals("sort")) {
+                Shift.sortShiftsChronologically();
+                Shift.listShifts();
+            }
+            if (shift.equals("logot")) {
+                double hours = Double.parseDouble(shiftParser.getShiftTask());
+                int index = shiftParser.getIndex();
+                Shift.logOvertime(index, hours);
+            }
+            if (shift.equals("list")) {
+                if (shiftParser.getDate() == null) {
+                    Shift.listShifts();
+                } else {
+                    Shift.listShifts(shiftParser.getDate(), shiftParser.getToDate());
+                }
+            }
+            if (shift.equals("recur")) {
+                Shift.addRecurringShift(
+                        shiftParser.getStartTime(),
+                        shiftParser.getEndTime(),
+                        shiftParser.getDate(),
+                        shiftParser.getIntervalDays(),
+                        shiftParser.getToDate(),
+                        shiftParser.getCount(),
+                        shiftParser.getShiftTask()
+                );
+            }
+            if (shift.equals("recur-list")) {
+                Shift.listRecurringShifts();
+            }
+            if (shift.equals("recur-del")) {
+                Shift.deleteRecurringShift(shiftParser.getIndex());
+            }
+            if (shift.equals("ot-report")) {
+                Shift.printOvertimeReport(
+                        shiftParser.getDate(),
+                        shiftParser.getToDate(),
+                        shiftParser.getGroupBy()
+                );
+            }
+            if (shift.equals("generate")) {
+                RosterGenerator.generateRoster(
+                        shiftParser.getDate(),
+                        shiftParser.getWeeks(),
+                        shiftParser.getTemplates(),
+                        shiftParser.getMaxShiftsPerWeek()
+                );
+            }
+            break;
+        case "task":
+            TaskParser taskParser = TaskParser.extractInputs(line);
+            if (taskParser == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_TASK_INPUTS);
+            }
+            String taskCommand = taskParser.getCommand();
+            switch (taskCommand) {
+            case "add":
+                Task.addTask(
+                        taskParser.getDescription(),
+                        taskParser.getByDate(),
+                        taskParser.getByTime(),
+                        taskParser.isDone()
+                );
+                break;
+            case "del":
+                Task.deleteTask(findTask(taskParser));
+                break;
+            case "mark":
+                Task.markTask(findTask(taskParser));
+                break;
+            case "unmark":
+                Task.unmarkTask(findTask(taskParser));
+                break;
+            case "list":
+                if (taskParser.getByDate() == null) {
+                    Task.listTasks();
+                } else {
+                    Task.listTasks(taskParser.getByDate(), taskParser.getToDate());
+                }
+                break;
+            case "edit":
+                Task.editTask(
+                        findTask(taskParser),
+                        taskParser.getDescription(),
+                        taskParser.getByDate(),
+                        taskParser.getByTime());
+                break;
+            case "find":
+                Task.findTask(taskParser.getDescription());
+                break;
+            default:
+                throw new NurseSchedException(ExceptionMessage.INVALID_TASK_INPUTS);
+            }
+            break;
+
+        case "medicine":
+            MedicineParser medicineParser = MedicineParser.extractInputs(line);
+            if (medicineParser == null) {
+                break;
+            }
+            String medicineCommand = medicineParser.getCommand();
+            switch (medicineCommand) {
+            case "add":
+                Medicine.addMedicine(
+                        medicineParser.getQuantity(),
+                        medicineParser.getMedicineName()
+                );
+                break;
+            case "remove":
+                Medicine.removeMedicine(
+                        medicineParser.getQuantity(),
+                        medicineParser.getMedicineName()
+                );
+                break;
+            case "list":
+                String listCommand = line.trim().toLowerCase();
+                if (listCommand.equals("medicine list")) {
+                    Medicine.listMedicine();
+                } else {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_MEDICINE_LIST);
+                }
+                break;
+            case "find":
+                Medicine.findMedicine(
+                        medicineParser.getMedicineName()
+                );
+                break;
+            case "delete":
+                Medicine.deleteMedicine(
+                        medicineParser.getMedicineName()
+                );
+                break;
+            case "edit":
+                Medicine.editMedicine(
+                        medicineParser.getMedicineName(),
+                        medicineParser.getUpdatedName(),
+                        medicineParser.getQuantity()
+                );
+                break;
+            case "restock":
+                Medicine.restockMedicine(
+                        medicineParser.getQuantity()
+                );
+                break;
+
+            default:
+                throw new NurseSchedException(ExceptionMessage.INVALID_MEDICINE_COMMAND);
+            }
+            break;
+
+        // Exit command "exit ns"
+        case "exit":
+            String exitCommand = line.trim().toLowerCase();
+            if (exitCommand.equals("exit ns")) {
+                ui.exitMessage();
+                CommandMetrics.dumpToFile();
+                return true;
+            }
+            throw new NurseSchedException(ExceptionMessage.UNKNOWN_COMMAND);
+
+        case "stats":
+            CommandMetrics.printStats();
+            break;
+
+        case "schedule":
+            ScheduleParser scheduleParser = ScheduleParser.extractInputs(line);
+            ScheduleChecker.printCheck(scheduleParser.getFromDate(), scheduleParser.getToDate());
+            break;
+
+        case "run":
+            String scriptPath = line.substring(type.length()).trim();
+            if (scriptPath.isEmpty()) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_RUN_FORMAT);
+            }
+            BatchRunner.runScript(scriptPath, ui);
+            break;
+
+        case "housekeep":
+            HousekeepParser housekeepParser = HousekeepParser.extractInputs(line);
+            if (housekeepParser.getCommand().equals("now")) {
+                Housekeeper.runNow();
+            } else {
+                Housekeeper.configure(housekeepParser.getTaskRetentionDays(),
+                        housekeepParser.getShiftRetentionDays(), housekeepParser.getIntervalMinutes());
+            }
+            break;
+
+        default:
+            throw new NurseSchedException(ExceptionMessage.UNKNOWN_COMMAND);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the task a command is for, found by its ID in the ID index if the command gives one, or otherwise
+     * by its index in the task list.
+     *
+     * @throws NurseSchedException If there is no task with the ID or at the index.
+     */
+    private static Task findTask(TaskParser taskParser) throws NurseSchedException {
+        if (taskParser.getTaskId() == 0) {
+            return Task.getTask(taskParser.getTaskIndex());
+        }
+        Task task = Task.findById(taskParser.getTaskId());
+        if (task == null) {
+            throw new NurseSchedException(ExceptionMessage.TASK_ID_NOT_FOUND);
+        }
+        return task;
+    }
+
+    /**
+     * Returns the appointment a command is for, found by its appointment ID in the ID index if the command gives
+     * one, or otherwise by its index as listed.
+     *
+     * @throws NurseSchedException If there is no appointment with the ID or at the index.
+     */
+    private static Appointment findAppt(ApptParser apptParser) throws NurseSchedException {
+        if (apptParser.getApptId() == 0) {
+            return Appointment.getListedAppointment(apptParser.getIndex());
+        }
+        Appointment appointment = Appointment.findByApptId(apptParser.getApptId());
+        if (appointment == null) {
+            throw new NurseSchedException(ExceptionMessage.APPT_ID_NOT_FOUND);
         }
+        return appointment;
     }
 }
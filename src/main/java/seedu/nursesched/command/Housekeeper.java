@@ -0,0 +1,267 @@
+package seedu.nursesched.command;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.shift.Shift;
+import seedu.nursesched.storage.DeferredPersistence;
+import seedu.nursesched.task.Task;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Moves old records out of the save files: done tasks that were due more than {@code task/} days ago and shifts
+ * more than {@code shift/} days old are appended to the monthly archive files under {@code data/archive}, and the
+ * task and shift save files are rewritten without them.
+ * <p>
+ * Once {@link #start()} has been called, housekeeping runs every {@code every/} minutes on a background thread.
+ * Each run holds the same lock as {@link Command#executeCheckedCommand(String, seedu.nursesched.ui.Ui)}, so it
+ * never changes a list while a command, or a whole batch script, is using it. The settings are kept in
+ * {@value #FILE_PATH}, and all of them are only read or changed while holding that lock.
+ * </p>
+ * <p>
+ * A run that fails leaves the records it could not archive in place, as the archive files of a kind are written
+ * all or nothing. The automatic runs are then paused rather than retried on every tick, since whatever stopped the
+ * archive from being written, e.g. a full disk, usually needs the user to fix it. They resume once
+ * {@code housekeep now} succeeds.
+ * </p>
+ */
+public class Housekeeper {
+    public static final int DEFAULT_TASK_RETENTION_DAYS = 30;
+    public static final int DEFAULT_SHIFT_RETENTION_DAYS = 90;
+    public static final int DEFAULT_INTERVAL_MINUTES = 60;
+
+    private static final String FILE_PATH = "data/Housekeeping.txt";
+    private static final Logger logr = Logger.getLogger("Housekeeper");
+
+    private static int taskRetentionDays = DEFAULT_TASK_RETENTION_DAYS;
+    private static int shiftRetentionDays = DEFAULT_SHIFT_RETENTION_DAYS;
+    private static int intervalMinutes = DEFAULT_INTERVAL_MINUTES;
+    private static ScheduledExecutorService scheduler;
+    private static ScheduledFuture<?> scheduledRun;
+    private static boolean isStarted = false;
+    private static boolean isPaused = false;
+
+    static {
+        try {
+            File logDir = new File("logs/housekeeping");
+            if (!logDir.exists()) {
+                logDir.mkdirs();
+            }
+
+            FileHandler fh = new FileHandler("logs/housekeeping/housekeeper.log", true);
+            fh.setFormatter(new SimpleFormatter());
+            logr.addHandler(fh);
+            logr.setUseParentHandlers(false);
+            logr.setLevel(Level.ALL);
+        } catch (IOException e) {
+            logr.log(Level.SEVERE, "File logger not working", e);
+        }
+
+        readSettings();
+    }
+
+    /**
+     * Starts running housekeeping every {@code every/} minutes, the first run being {@code every/} minutes from
+     * now. The background thread does not keep the application running after {@code exit ns}.
+     */
+    public static void start() {
+        synchronized (Command.executionLock) {
+            isStarted = true;
+            schedule();
+        }
+    }
+
+    /**
+     * Stops the automatic runs. A run that has already started is finished first.
+     */
+    public static void stop() {
+        synchronized (Command.executionLock) {
+            isStarted = false;
+            if (scheduledRun != null) {
+                scheduledRun.cancel(false);
+                scheduledRun = null;
+            }
+        }
+    }
+
+    /**
+     * Schedules the automatic runs at the current interval, in place of any scheduled before, unless they are
+     * paused after a failed run. Must be called while holding the command lock.
+     */
+    private static void schedule() {
+        if (scheduledRun != null) {
+            scheduledRun.cancel(false);
+            scheduledRun = null;
+        }
+        if (intervalMinutes == 0 || isPaused) {
+            return;
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "housekeeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduledRun = scheduler.scheduleWithFixedDelay(Housekeeper::runScheduled, intervalMinutes,
+                intervalMinutes, TimeUnit.MINUTES);
+        logr.info("Housekeeping scheduled every " + intervalMinutes + " minutes");
+    }
+
+    /**
+     * Runs housekeeping from the background thread. Nothing is printed, since the user may be typing a command.
+     * Every failure is caught and pauses the automatic runs until {@code housekeep now} succeeds.
+     */
+    private static void runScheduled() {
+        synchronized (Command.executionLock) {
+            try {
+                int[] counts = archiveOldRecords(LocalDate.now());
+                logr.info("Archived " + counts[0] + " done tasks and " + counts[1] + " past shifts");
+            } catch (IOException | RuntimeException e) {
+                logr.log(Level.WARNING, "Housekeeping failed, pausing the automatic runs", e);
+                isPaused = true;
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Archives old records at once and prints how many were archived, resuming the automatic runs if they were
+     * paused after a failed run. Called for {@code housekeep now}, which already holds the command lock.
+     *
+     * @throws NurseSchedException If a batch script is running, or the archive could not be written.
+     */
+    static void runNow() throws NurseSchedException {
+        if (DeferredPersistence.isActive()) {
+            throw new NurseSchedException(ExceptionMessage.ARCHIVE_IN_BATCH);
+        }
+        try {
+            int[] counts = archiveOldRecords(LocalDate.now());
+            System.out.println("Archived " + counts[0] + " done task(s) and " + counts[1] + " past shift(s).");
+        } catch (IOException e) {
+            logr.log(Level.WARNING, "Housekeeping failed", e);
+            throw new NurseSchedException(ExceptionMessage.HOUSEKEEP_FAILED);
+        }
+        if (isPaused) {
+            isPaused = false;
+            if (isStarted) {
+                schedule();
+            }
+            System.out.println("Automatic housekeeping has resumed.");
+        }
+    }
+
+    /**
+     * Archives the done tasks and past shifts that are older than the retention periods. A run while a batch
+     * script is running is skipped, as the save files are then only written at the end of the script.
+     *
+     * @param today The date to count the retention periods back from.
+     * @return The numbers of tasks and shifts archived.
+     * @throws IOException If an archive file could not be written, in which case the records of that kind are
+     *                     all kept. Tasks are archived before shifts, so done tasks may already be archived.
+     */
+    static int[] archiveOldRecords(LocalDate today) throws IOException {
+        if (DeferredPersistence.isActive()) {
+            return new int[] {0, 0};
+        }
+        int taskCount = Task.archiveDone(today, taskRetentionDays);
+        int shiftCount = Shift.archivePast(today, shiftRetentionDays);
+        return new int[] {taskCount, shiftCount};
+    }
+
+    /**
+     * Changes the settings that are given, saves them and prints all of them. Called for {@code housekeep set},
+     * which already holds the command lock.
+     *
+     * @param taskDays     The days to keep done tasks after they were due, or -1 to leave unchanged.
+     * @param shiftDays    The days to keep past shifts, or -1 to leave unchanged.
+     * @param everyMinutes The minutes between automatic runs, 0 to stop them, or -1 to leave unchanged.
+     * @throws NurseSchedException If the settings could not be saved.
+     */
+    static void configure(int taskDays, int shiftDays, int everyMinutes) throws NurseSchedException {
+        if (taskDays >= 0) {
+            taskRetentionDays = taskDays;
+        }
+        if (shiftDays >= 0) {
+            shiftRetentionDays = shiftDays;
+        }
+        boolean isIntervalChanged = everyMinutes >= 0 && everyMinutes != intervalMinutes;
+        if (everyMinutes >= 0) {
+            intervalMinutes = everyMinutes;
+        }
+        if (taskDays >= 0 || shiftDays >= 0 || everyMinutes >= 0) {
+            writeSettings();
+        }
+        if (isIntervalChanged && isStarted) {
+            schedule();
+        }
+
+        System.out.println("Done tasks are archived " + taskRetentionDays + " day(s) after they were due, "
+                + "and shifts " + shiftRetentionDays + " day(s) after their date.");
+        if (intervalMinutes == 0) {
+            System.out.println("Automatic housekeeping is off.");
+        } else if (isPaused) {
+            System.out.println("Automatic housekeeping is paused after a failed run. Enter housekeep now to retry.");
+        } else {
+            System.out.println("Housekeeping runs every " + intervalMinutes + " minute(s).");
+        }
+    }
+
+    private static void writeSettings() throws NurseSchedException {
+        try {
+            Files.createDirectories(new File(FILE_PATH).getParentFile().toPath());
+            try (FileWriter writer = new FileWriter(FILE_PATH)) {
+                writer.write(taskRetentionDays + " | " + shiftRetentionDays + " | " + intervalMinutes + "\n");
+            }
+        } catch (IOException e) {
+            logr.log(Level.WARNING, "Could not save housekeeping settings", e);
+            throw new NurseSchedException(ExceptionMessage.HOUSEKEEP_SETTINGS_NOT_SAVED);
+        }
+    }
+
+    private static void readSettings() {
+        File file = new File(FILE_PATH);
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            String[] parts = Files.readString(file.toPath()).trim().split(" \\| ");
+            int taskDays = Integer.parseInt(parts[0]);
+            int shiftDays = Integer.parseInt(parts[1]);
+            int everyMinutes = Integer.parseInt(parts[2]);
+            if (taskDays < 0 || shiftDays < 0 || everyMinutes < 0) {
+                throw new NumberFormatException("Negative setting");
+            }
+            taskRetentionDays = taskDays;
+            shiftRetentionDays = shiftDays;
+            intervalMinutes = everyMinutes;
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Error reading " + FILE_PATH + ", using the default housekeeping settings.");
+            logr.log(Level.WARNING, "Could not read housekeeping settings", e);
+        }
+    }
+
+    static int getTaskRetentionDays() {
+        return taskRetentionDays;
+    }
+
+    static int getShiftRetentionDays() {
+        return shiftRetentionDays;
+    }
+
+    static int getIntervalMinutes() {
+        return intervalMinutes;
+    }
+}
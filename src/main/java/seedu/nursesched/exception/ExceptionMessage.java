@@ -19,7 +19,22 @@ public enum ExceptionMessage {
     INVALID_SHIFTMARK_FORMAT("Invalid shift mark format! Input as: shift mark id/SHIFT_NUMBER"),
     INVALID_SHIFTUNMARK_FORMAT("Invalid shift unmark format! Input as: shift unmark id/SHIFT_NUMBER"),
     INVALID_SHIFTLOGOT_FORMAT("Invalid shift log format! Input as: shift logot id/SHIFT_NUMBER h/HOURS"),
+    INVALID_SHIFTGENERATE_FORMAT("Invalid shift generate format! Input as: shift generate w/WEEKS " +
+            "[d/START_DATE] [t/TEMPLATE,...] [max/SHIFTS_PER_WEEK], with 1 to 52 weeks and 1 to 7 shifts per week"),
+    INVALID_SHIFTOTREPORT_FORMAT("Invalid shift ot-report format! Input as: shift ot-report YEAR, " +
+            "YEAR-MONTH, YEAR-wWEEK or from/DATE to/DATE, followed by an optional by/week or by/month"),
+    INVALID_SHIFTRECUR_FORMAT("Invalid shift recur format! Input as: shift recur s/START_TIME e/END_TIME " +
+            "d/FIRST_DATE every/daily|weekly|DAYS [until/DATE] [count/N] st/SHIFT_TASK, shift recur list " +
+            "or shift recur del id/INDEX"),
+    RECURRENCE_TOO_LONG("A recurring series can have at most 1000 occurrences, and its until/ date can be at most "
+            + "10 years after its first date!"),
+    INVALID_SHIFTLIST_FORMAT("Invalid shift list format! Input as: shift list or shift list from/DATE to/DATE"),
+    INVALID_PAGE_FORMAT("Invalid page! Input as: page/PAGE_NUMBER [size/ROWS_PER_PAGE], both positive numbers"),
+    INVALID_SCHEDULE_FORMAT("Invalid schedule format! Input as: schedule check [from/DATE] [to/DATE]"),
+    INVALID_SHIFT_TEMPLATE("Unknown shift template! Choose from: morning, evening, night"),
     INVALID_SHIFT_NUMBER("There is no shift with that specified index!"),
+    SHIFT_ID_NOT_FOUND("There is no shift with that ID! Shift IDs are shown as #ID in shift list."),
+    NEGATIVE_OVERTIME("Overtime cannot be negative!"),
     SHIFT_TIMING_OVERLAP("Shift would overlap with another existing shift!"),
     NEGATIVE_INDEX("Index must be a positive integer greater than 0!"),
     ZERO_INDEX("Index cannot be zero!"),
@@ -59,6 +74,10 @@ public enum ExceptionMessage {
             "or `result list`!"),
     INVALID_IDENTIFIER_ORDER("Invalid identifier order, ensure that the command is correctly formatted!"),
     NO_CHANGES_FOUND("New fields must be different from old fields!"),
+    INVALID_PATIENT_TRANSFER_FORMAT("Invalid format! Input as: pf import FILE_PATH or pf export FILE_PATH"),
+    PATIENT_FILE_NOT_READABLE("The patient file could not be read! Check that the file exists."),
+    PATIENT_FILE_NOT_WRITABLE("The patient file could not be written! Check that the path is valid."),
+    INVALID_PATIENT_RECORD("Expected ID | NAME | AGE | GENDER | CONTACT | NOTES"),
 
     // ====================Medicine Specific Exceptions====================
     INVALID_FORMAT_MEDICINE_SAVED("Invalid format in medicine storage file. Input as: MEDICINE_NAME | QUANTITY in" +
@@ -94,9 +113,29 @@ public enum ExceptionMessage {
     INVALID_APPTEDIT_FORMAT("Invalid appointment edit format! Input as: appt edit aid/APPT_INDEX [id/PATIENT_ID] " +
             "[s/START_TIME] [e/END_TIME] [d/DATE] [im/IMPORTANCE] [n/NOTES]"),
     INVALID_APPT_NUMBER("There is no appointment with that specified index!"),
+    APPT_CLASH("The appointment clashes with another appointment, so no changes were made!"),
+    APPT_ID_NOT_FOUND("There is no appointment with that ID! Appointment IDs are shown as #ID in appt list."),
     INVALID_APPTADD_FORMAT("Invalid appointment add format! Input as:" +
             " appt add id/PATIENT_ID s/START_TIME e/END_TIME d/DATE [im/IMPORTANCE] [n/NOTES]"),
     INVALID_APPT_DATE_TIME("Appointment date and time must be after current date and time."),
+    INVALID_APPT_IMPORT_FORMAT("Invalid appointment import format! Input as: appt import FILE_PATH"),
+    APPT_IMPORT_FILE_NOT_READABLE("The appointment file could not be read! Check that the file exists."),
+    INVALID_APPT_IMPORT_ROW("Expected PATIENT_ID,START_TIME,END_TIME,DATE[,IMPORTANCE][,NOTES]"),
+    INVALID_APPT_FREE_FORMAT("Invalid appointment free format! Input as: appt free d/DATE [to/DATE] " +
+            "[s/START_TIME] [e/END_TIME] [dur/MINUTES] [max/COUNT]"),
+    INVALID_APPT_AUTOPLACE_FORMAT("Invalid appointment autoplace format! Input as: appt autoplace FILE_PATH"),
+    INVALID_APPT_AUTOPLACE_ROW("Expected PATIENT_ID,DURATION_MINUTES,EARLIEST_DATE[,IMPORTANCE][,NOTES], " +
+            "with a duration that fits between 08:00 and 18:00"),
+    INVALID_APPT_RECUR_FORMAT("Invalid appointment recur format! Input as: appt recur id/ID s/START_TIME " +
+            "e/END_TIME d/FIRST_DATE every/daily|weekly|DAYS [until/DATE] [count/N] [im/IMPORTANCE] [n/NOTES], " +
+            "appt recur list or appt recur del INDEX"),
+    INVALID_APPT_LIST_FORMAT("Invalid appointment list format! Input as: appt list or appt list from/DATE to/DATE"),
+    INVALID_APPT_AGENDA_FORMAT("Invalid appointment agenda format! Input as: appt agenda d/DATE [to/DATE]"),
+    INVALID_APPT_FREE_RANGE("The last date must be on or after the first date, and at most a year later."),
+    INVALID_APPT_ARCHIVE_FORMAT("Invalid appointment archive format! Input as: appt archive"),
+    INVALID_APPT_HISTORY_FORMAT("Invalid appointment history format! Input as: appt history from/DATE to/LAST_DATE "
+            + "[id/PATIENT_ID]"),
+    APPT_ARCHIVE_FAILED("The appointment archive could not be written, so no appointments were archived!"),
     UNMARKING_UNMARKED_APPT("Cant unmark an appointment that was already unmarked!"),
     MARKING_MARKED_APPT("Cant mark an appointment that was already marked!"),
     MISSING_INDEX_PARAMETER("Missing aid/INDEX field for index."),
@@ -108,6 +147,7 @@ public enum ExceptionMessage {
     INVALID_TASK_EDIT_FORMAT("Invalid task edit format! Input as: "
             + "task edit id/TASK_INDEX [td/NEW_DESCRIPTION] [d/NEW_DUE_DATE] [t/NEW_DUE_TIME]"),
     TASK_INDEX_OUT_OF_BOUNDS("Task index is not within 1 and the total number of tasks in the list!"),
+    TASK_ID_NOT_FOUND("There is no task with that ID! Task IDs are shown as #ID in task list."),
     INVALID_TASK_ADD_FORMAT("Invalid task add format! Input as: "
             + "task add td/TASK_DESCRIPTION d/DUE_DATE t/DUE_TIME"),
     INVALID_TASK_INDEX("Invalid task index! Index should be an integer!"),
@@ -126,8 +166,30 @@ public enum ExceptionMessage {
             "Please ensure the task.txt file only contains tasks in the following format:" +
             "\n[ ] (or [X] if the task is completed) | <description> | <due date in YYYY-MM-DD> | <due time in HH:mm>"),
     MISSING_TASK_KEYWORD("Task keyword cannot be empty!"),
-    INVALID_LIST_TASK("Invalid command to list tasks! Input as: task list"),
-    NO_EDITS_MADE("Empty inputs found, no edits were made.");
+    INVALID_LIST_TASK("Invalid command to list tasks! Input as: task list or task list from/DATE to/DATE"),
+    NO_EDITS_MADE("Empty inputs found, no edits were made."),
+
+    // ====================Command Specific Exceptions====================
+    UNKNOWN_COMMAND("Unknown command!\nCommand should start with \"appt\", \"pf\", \"shift\", \"task\", "
+            + "\"medicine\" or \"exit ns\""),
+    INVALID_APPT_INPUTS("Invalid inputs for appointment based command!"),
+    INVALID_APPT_COMMAND("Invalid appointment based command!"),
+    INVALID_PATIENT_INPUTS("Invalid inputs for Patient based command!"),
+    INVALID_TASK_INPUTS("Invalid task based command!"),
+    INVALID_MEDICINE_COMMAND("Invalid medicine based command!"),
+    INVALID_MEDICINE_LIST("Unknown command!\nDo you mean medicine list?"),
+
+    // ====================Batch Specific Exceptions====================
+    INVALID_RUN_FORMAT("Invalid run format! Input as: run FILE_PATH"),
+    BATCH_FILE_NOT_READABLE("The batch script could not be read! Check that the file exists."),
+    NESTED_BATCH("A batch script cannot run another batch script!"),
+    ARCHIVE_IN_BATCH("Archiving cannot be undone, so it cannot be done from a batch script!"),
+
+    // ====================Housekeeping Specific Exceptions====================
+    INVALID_HOUSEKEEP_FORMAT("Invalid housekeep format! Input as: housekeep now or "
+            + "housekeep set [task/DAYS] [shift/DAYS] [every/MINUTES]"),
+    HOUSEKEEP_FAILED("The archive could not be written, so the records not yet archived were kept!"),
+    HOUSEKEEP_SETTINGS_NOT_SAVED("The housekeeping settings could not be saved!");
     // ============================================================
 
     private final String message;
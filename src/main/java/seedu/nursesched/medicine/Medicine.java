@@ -3,6 +3,7 @@ package seedu.nursesched.medicine;
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.storage.MedicineStorage;
+import seedu.nursesched.ui.ListPrinter;
 import seedu.nursesched.ui.Ui;
 
 import java.io.IOException;
@@ -163,11 +164,9 @@ public class Medicine {
             System.out.println("There is no medicine in the list");
             logr.log(Level.INFO, "No medicines found in the list");
         } else {
-            System.out.println("List of medicine supply:");
-            for (int i = 0; i < medicineList.size(); i++) {
-                Medicine medicine = medicineList.get(i);
-                System.out.printf("%d. %s%n", i + 1, medicine);
-            }
+            ListPrinter.println("List of medicine supply:");
+            ListPrinter.printRows(medicineList.size(), i -> (i + 1) + ". " + medicineList.get(i));
+            ListPrinter.flush();
         }
     }
 
@@ -289,7 +288,7 @@ public class Medicine {
         }
 
         logr.log(Level.WARNING, "Medicine not found: {0}", medicineName);
-        System.out.println("Medicine " + medicineName + " not found.");
+        throw new NurseSchedException(ExceptionMessage.MEDICINE_NONEXISTENT);
     }
 
 
@@ -342,6 +341,13 @@ public class Medicine {
         return medicineList;
     }
 
+    /**
+     * Replaces the medicine list in memory with the contents of the save file, discarding unsaved changes.
+     */
+    public static void reloadFromFile() {
+        medicineList = MedicineStorage.readFile();
+    }
+
     public void setQuantity(int quantity) {
         assert quantity > 0 : "Quantity must be greater than 0";
         this.quantity = quantity;
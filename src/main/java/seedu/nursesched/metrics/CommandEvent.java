@@ -0,0 +1,59 @@
+package seedu.nursesched.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event emitted for every command dispatched by {@code Command}.
+ * Like {@link StorageEvent}, it costs next to nothing when no recording is active.
+ */
+@Name("seedu.nursesched.Command")
+@Label("Command Execution")
+@Category({"NurseSched", "Command"})
+@Description("Execution of a single user command")
+public class CommandEvent extends Event {
+    public static final String OUTCOME_OK = "ok";
+    public static final String OUTCOME_REJECTED = "rejected";
+    public static final String OUTCOME_FAILED = "failed";
+
+    @Label("Type")
+    private String type;
+
+    @Label("Verb")
+    private String verb;
+
+    @Label("Outcome")
+    @Description("ok, rejected (validation error shown to the user) or failed (unexpected exception)")
+    private String outcome;
+
+    /**
+     * Creates and starts timing a command event.
+     *
+     * @param type The command type, e.g. "appt".
+     * @param verb The command verb, e.g. "add".
+     * @return The started event.
+     */
+    public static CommandEvent start(String type, String verb) {
+        CommandEvent event = new CommandEvent();
+        event.type = type;
+        event.verb = verb;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the event and commits it if a recording is interested in it.
+     *
+     * @param outcome How the command ended.
+     */
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.nursesched.metrics;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps a latency histogram for every command executed in this session, keyed by command type and verb
+ * (e.g. "appt add"), and renders them as a p50/p99/max summary.
+ */
+public class CommandMetrics {
+    private static final String FILE_PATH = "data/metrics.txt";
+    private static final Set<String> KNOWN_TYPES = Set.of("appt", "pf", "shift", "task", "medicine", "exit", "stats",
+            "run", "schedule", "housekeep");
+    private static final int MAX_VERBS_PER_TYPE = 32;
+
+    private static final Map<String, LatencyHistogram> histograms = new TreeMap<>();
+
+    /**
+     * Records how long a command took to execute.
+     * Unrecognised command types are grouped together so that mistyped input cannot grow the table.
+     *
+     * @param type        The command type, e.g. "appt".
+     * @param verb        The command verb, e.g. "add".
+     * @param elapsedNanos The time taken by the command in nanoseconds.
+     */
+    public static void record(String type, String verb, long elapsedNanos) {
+        histograms.computeIfAbsent(toKey(type, verb), key -> new LatencyHistogram()).record(elapsedNanos);
+    }
+
+    private static String toKey(String type, String verb) {
+        if (!KNOWN_TYPES.contains(type)) {
+            return "unknown";
+        }
+        if (verb.isEmpty()) {
+            return type;
+        }
+        String key = type + " " + verb;
+        if (histograms.containsKey(key)) {
+            return key;
+        }
+        long verbsForType = histograms.keySet().stream().filter(k -> k.startsWith(type + " ")).count();
+        return verbsForType >= MAX_VERBS_PER_TYPE ? type + " (other)" : key;
+    }
+
+    /**
+     * Prints the latency summary of every command recorded so far.
+     */
+    public static void printStats() {
+        if (histograms.isEmpty()) {
+            System.out.println("No commands have been recorded yet.");
+            return;
+        }
+        System.out.print(formatStats());
+    }
+
+    /**
+     * Writes the latency summary to the metrics file, replacing its previous contents.
+     */
+    public static void dumpToFile() {
+        File metricsFile = new File(FILE_PATH);
+        metricsFile.getParentFile().mkdirs();
+        try (FileWriter writer = new FileWriter(metricsFile)) {
+            writer.write("Command latencies recorded at " + LocalDateTime.now() + "\n");
+            writer.write(formatStats());
+        } catch (IOException e) {
+            System.out.println("Error saving metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Clears all recorded histograms.
+     */
+    public static void reset() {
+        histograms.clear();
+    }
+
+    public static LatencyHistogram getHistogram(String type, String verb) {
+        return histograms.get(verb.isEmpty() ? type : type + " " + verb);
+    }
+
+    private static String formatStats() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-24s %8s %10s %10s %10s%n", "Command", "Count", "p50 (ms)", "p99 (ms)", "Max (ms)"));
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            sb.append(String.format("%-24s %8d %10.3f %10.3f %10.3f%n",
+                    entry.getKey(),
+                    histogram.getCount(),
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getMax())));
+        }
+        return sb.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.nursesched.metrics;
+
+/**
+ * Records latency samples (in nanoseconds) into a fixed array of log-linear buckets.
+ * <p>
+ * Every power-of-two range is split into {@code SUB_BUCKET_COUNT} equally sized buckets, so a recorded
+ * value is never reported with more than about 3% relative error. Recording a value is a handful of
+ * arithmetic operations and a single array increment, with no allocation.
+ * </p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (Long.SIZE - SUB_BUCKET_BITS);
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalValue;
+    private long maxValue;
+
+    /**
+     * Records a single latency sample.
+     *
+     * @param value The sample in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        totalValue += value;
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Returns the value at the given percentile, rounded up to the top of its bucket.
+     *
+     * @param percentile The percentile to look up, between 0 and 100.
+     * @return The latency in nanoseconds at that percentile, or 0 if nothing has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "Percentile must be between 0 and 100";
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long targetRank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= targetRank) {
+                return Math.min(highestEquivalentValue(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return maxValue;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) totalValue / totalCount;
+    }
+
+    /**
+     * Maps a value to its bucket. Values below {@code SUB_BUCKET_COUNT} get a bucket each; larger values
+     * share a bucket with the other values that have the same highest {@code SUB_BUCKET_BITS + 1} bits.
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + mantissa;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int mantissa = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowestValue = (long) (SUB_BUCKET_COUNT + mantissa) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
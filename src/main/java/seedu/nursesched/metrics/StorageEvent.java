@@ -0,0 +1,68 @@
+package seedu.nursesched.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Java Flight Recorder event emitted whenever a storage class reads or writes one of its save files.
+ * <p>
+ * When no recording is active the event is disabled, so {@link #finish(LongSupplier, int)} does nothing
+ * beyond a flag check, not even asking the file system for the size of the file, and the JIT is free to remove
+ * the allocation altogether.
+ * </p>
+ */
+@Name("seedu.nursesched.StorageOperation")
+@Label("Storage Operation")
+@Category({"NurseSched", "Storage"})
+@Description("A read, overwrite or append of a NurseSched save file")
+public class StorageEvent extends Event {
+    @Label("File")
+    private String file;
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Records")
+    private int records;
+
+    /**
+     * Creates and starts timing a storage event.
+     *
+     * @param file      The path of the save file being accessed.
+     * @param operation The storage method being executed, e.g. "overwriteSaveFile".
+     * @return The started event.
+     */
+    public static StorageEvent start(String file, String operation) {
+        StorageEvent event = new StorageEvent();
+        event.file = file;
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the event and commits it if a recording is interested in it.
+     *
+     * @param bytes   Counts the bytes read or written on disk rather than in characters. It is only called if the
+     *                event is committed.
+     * @param records The number of records read or written.
+     */
+    public void finish(LongSupplier bytes, int records) {
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes.getAsLong();
+            this.records = records;
+            commit();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.nursesched.parser;
 
+import seedu.nursesched.appointment.FreeSlotFinder;
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.schedule.Recurrence;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -18,7 +20,7 @@ import java.io.File;
  * Parses the input of the user to make sense of the command.
  * It extracts commands and relevant parameters, validating them before processing.
  * This class supports various appointment-related commands, including add, del, mark, unmark,
- * list, find, edit and sort.
+ * list, find, edit, sort, import, free, autoplace, recur, agenda, archive and history.
  * Each command follows a specific format and requires valid parameters. The parser extracts
  * values from the input, verifies them, and encapsulates them in a {@code ApptParser} object
  * for further processing.
@@ -27,13 +29,24 @@ import java.io.File;
 public class ApptParser extends Parser {
 
     private static final Logger logr = Logger.getLogger("ApptParser");
+    private static final int MAX_FREE_SEARCH_DAYS = 366;
+    private static final int MINUTES_PER_DAY = 24 * 60;
 
 
     private static int apptIndex;
+    private static int apptId;
     private static int id;
     private static String searchKeyword;
     private static String sortBy;
     private static String searchBy = null;
+    private static String filePath;
+    private static LocalDate toDate;
+    private static int duration;
+    private static int maxSlots;
+    private static String recurAction;
+    private static int intervalDays;
+    private static LocalDate untilDate;
+    private static int occurrenceCount;
     private final String command;
     private final String name;
 
@@ -114,6 +127,7 @@ public class ApptParser extends Parser {
         LocalDate date = null;
         String notes = "";
         int importance = 1;
+        apptId = 0;
 
         try {
             if (line.contains(" ")) {
@@ -203,12 +217,33 @@ public class ApptParser extends Parser {
                 throw new NurseSchedException(ExceptionMessage.MISSING_INDEX_PARAMETER);
             }
 
-            apptIndex = parseIndex(indexStr.substring(4));
+            apptIndex = parseApptIndex(indexStr.substring(4));
             return new ApptParser(command, name, startTime, endTime, date, notes,
                     apptIndex, searchKeyword, importance, sortBy, id, searchBy);
         }
 
         case "list" -> {
+            if (line != null) {
+                toDate = null;
+                try {
+                    for (String field : line.trim().split("\\s+")) {
+                        String value = field.substring(field.indexOf('/') + 1);
+                        if (field.startsWith("from/")) {
+                            date = LocalDate.parse(value);
+                        } else if (field.startsWith("to/")) {
+                            toDate = LocalDate.parse(value);
+                        } else {
+                            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_LIST_FORMAT);
+                        }
+                    }
+                } catch (DateTimeParseException e) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+                }
+
+                if (date == null || toDate == null || toDate.isBefore(date)) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_APPT_LIST_FORMAT);
+                }
+            }
             return new ApptParser(command, name, startTime, endTime, date, notes,
                     apptIndex, searchKeyword, importance, sortBy, id, searchBy);
         }
@@ -274,7 +309,7 @@ public class ApptParser extends Parser {
                 }
 
                 try {
-                    apptIndex = parseIndex(indexStr);
+                    apptIndex = parseApptIndex(indexStr);
                 } catch (NumberFormatException e) {
                     // This is caught by parseIndex
                     throw e;
@@ -356,6 +391,217 @@ public class ApptParser extends Parser {
                     apptIndex, searchKeyword, importance, sortBy, id, searchBy);
         }
 
+        case "free" -> {
+            if (line == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_FORMAT);
+            }
+            startTime = FreeSlotFinder.DEFAULT_DAY_START;
+            endTime = FreeSlotFinder.DEFAULT_DAY_END;
+            toDate = null;
+            duration = FreeSlotFinder.DEFAULT_DURATION_MINUTES;
+            maxSlots = FreeSlotFinder.DEFAULT_MAX_SLOTS;
+            try {
+                for (String field : line.trim().split("\\s+")) {
+                    String value = field.substring(field.indexOf('/') + 1);
+                    if (field.startsWith("d/")) {
+                        date = LocalDate.parse(value);
+                    } else if (field.startsWith("to/")) {
+                        toDate = LocalDate.parse(value);
+                    } else if (field.startsWith("s/")) {
+                        startTime = LocalTime.parse(value);
+                    } else if (field.startsWith("e/")) {
+                        endTime = LocalTime.parse(value);
+                    } else if (field.startsWith("dur/")) {
+                        duration = Integer.parseInt(value);
+                    } else if (field.startsWith("max/")) {
+                        maxSlots = Integer.parseInt(value);
+                    } else {
+                        throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_FORMAT);
+                    }
+                }
+            } catch (DateTimeParseException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+            } catch (NumberFormatException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_FORMAT);
+            }
+
+            if (date == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_FORMAT);
+            }
+            if (toDate == null) {
+                toDate = date;
+            }
+            if (toDate.isBefore(date) || date.plusDays(MAX_FREE_SEARCH_DAYS).isBefore(toDate)) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_RANGE);
+            }
+            if (!startTime.isBefore(endTime)) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_START_TIME);
+            }
+            if (duration <= 0 || duration > MINUTES_PER_DAY || maxSlots <= 0) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_FORMAT);
+            }
+            return new ApptParser(command, name, startTime, endTime, date, notes,
+                    apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+        }
+
+        case "recur" -> {
+            String args = line == null ? "" : line.trim();
+            if (args.equalsIgnoreCase("list")) {
+                recurAction = "list";
+                return new ApptParser(command, name, startTime, endTime, date, notes,
+                        apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+            }
+            if (args.toLowerCase().startsWith("del")) {
+                recurAction = "del";
+                apptIndex = parseIndex(args.substring(3).trim());
+                return new ApptParser(command, name, startTime, endTime, date, notes,
+                        apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+            }
+
+            recurAction = "add";
+            id = -1;
+            intervalDays = 0;
+            untilDate = null;
+            occurrenceCount = 0;
+            importance = 2;
+            // Notes may contain spaces, so they always run to the end of the line
+            int notesIndex = args.indexOf(" n/");
+            if (notesIndex != -1) {
+                notes = args.substring(notesIndex + 3).trim();
+                args = args.substring(0, notesIndex).trim();
+            }
+            try {
+                for (String field : args.split("\\s+")) {
+                    String value = field.substring(field.indexOf('/') + 1);
+                    if (field.startsWith("id/")) {
+                        id = parseID(value);
+                    } else if (field.startsWith("s/")) {
+                        startTime = LocalTime.parse(value);
+                    } else if (field.startsWith("e/")) {
+                        endTime = LocalTime.parse(value);
+                    } else if (field.startsWith("d/")) {
+                        date = LocalDate.parse(value);
+                    } else if (field.startsWith("every/")) {
+                        intervalDays = Recurrence.parseIntervalDays(value);
+                    } else if (field.startsWith("until/")) {
+                        untilDate = LocalDate.parse(value);
+                    } else if (field.startsWith("count/")) {
+                        occurrenceCount = Integer.parseInt(value);
+                    } else if (field.startsWith("im/")) {
+                        importance = parseImportance(value);
+                    } else {
+                        throw new NurseSchedException(ExceptionMessage.INVALID_APPT_RECUR_FORMAT);
+                    }
+                }
+            } catch (DateTimeParseException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+            } catch (NumberFormatException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_RECUR_FORMAT);
+            }
+
+            if (id == -1 || startTime == null || endTime == null || date == null || intervalDays == 0
+                    || occurrenceCount < 0 || (untilDate != null && untilDate.isBefore(date))) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_RECUR_FORMAT);
+            }
+            if (!Recurrence.isWithinLimits(date, untilDate, occurrenceCount)) {
+                throw new NurseSchedException(ExceptionMessage.RECURRENCE_TOO_LONG);
+            }
+            return new ApptParser(command, name, startTime, endTime, date, notes,
+                    apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+        }
+
+        case "agenda" -> {
+            if (line == null || line.trim().isEmpty()) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_AGENDA_FORMAT);
+            }
+            toDate = null;
+            try {
+                for (String field : line.trim().split("\\s+")) {
+                    String value = field.substring(field.indexOf('/') + 1);
+                    if (field.startsWith("d/")) {
+                        date = LocalDate.parse(value);
+                    } else if (field.startsWith("to/")) {
+                        toDate = LocalDate.parse(value);
+                    } else {
+                        throw new NurseSchedException(ExceptionMessage.INVALID_APPT_AGENDA_FORMAT);
+                    }
+                }
+            } catch (DateTimeParseException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+            }
+
+            if (date == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_AGENDA_FORMAT);
+            }
+            if (toDate == null) {
+                toDate = date;
+            }
+            if (toDate.isBefore(date) || date.plusDays(MAX_FREE_SEARCH_DAYS).isBefore(toDate)) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_RANGE);
+            }
+            return new ApptParser(command, name, startTime, endTime, date, notes,
+                    apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+        }
+
+        case "archive" -> {
+            if (line != null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_ARCHIVE_FORMAT);
+            }
+            return new ApptParser(command, name, startTime, endTime, date, notes,
+                    apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+        }
+
+        case "history" -> {
+            if (line == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_HISTORY_FORMAT);
+            }
+            toDate = null;
+            id = -1;
+            try {
+                for (String field : line.trim().split("\\s+")) {
+                    String value = field.substring(field.indexOf('/') + 1);
+                    if (field.startsWith("from/")) {
+                        date = LocalDate.parse(value);
+                    } else if (field.startsWith("to/")) {
+                        toDate = LocalDate.parse(value);
+                    } else if (field.startsWith("id/")) {
+                        id = Integer.parseInt(value);
+                    } else {
+                        throw new NurseSchedException(ExceptionMessage.INVALID_APPT_HISTORY_FORMAT);
+                    }
+                }
+            } catch (DateTimeParseException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
+            } catch (NumberFormatException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_HISTORY_FORMAT);
+            }
+
+            if (date == null || toDate == null || toDate.isBefore(date)) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_HISTORY_FORMAT);
+            }
+            return new ApptParser(command, name, startTime, endTime, date, notes,
+                    apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+        }
+
+        case "import" -> {
+            if (line == null || line.trim().isEmpty()) {
+                logr.warning("Missing file path in import command");
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_IMPORT_FORMAT);
+            }
+            filePath = line.trim();
+            return new ApptParser(command, name, startTime, endTime, date, notes,
+                    apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+        }
+        case "autoplace" -> {
+            if (line == null || line.trim().isEmpty()) {
+                logr.warning("Missing file path in autoplace command");
+                throw new NurseSchedException(ExceptionMessage.INVALID_APPT_AUTOPLACE_FORMAT);
+            }
+            filePath = line.trim();
+            return new ApptParser(command, name, startTime, endTime, date, notes,
+                    apptIndex, searchKeyword, importance, sortBy, id, searchBy);
+        }
+
         default -> {
             logr.warning("Unrecognized command: " + command);
             return null;
@@ -378,7 +624,7 @@ public class ApptParser extends Parser {
      *                                 <li>Cannot be parsed as an integer for other reasons.</li>
      *                             </ul>
      */
-    private static int parseID(String id) throws NurseSchedException {
+    public static int parseID(String id) throws NurseSchedException {
         for (char c : id.toCharArray()) {
             if (!Character.isDigit(c)) {
                 throw new NurseSchedException(ExceptionMessage.INVALID_ID_INPUT);
@@ -430,6 +676,23 @@ public class ApptParser extends Parser {
         }
     }
 
+    /**
+     * Parses the {@code aid/} field of a command, which is either a 1-based index as listed by {@code appt list},
+     * or {@code #} followed by an appointment ID, which stays the same when other appointments are added, deleted
+     * or sorted. An ID is kept for {@link #getApptId()}, and the appointment is only looked up when the command
+     * is run.
+     *
+     * @param line The string containing the index or the ID to parse.
+     * @return The 0-based index of the appointment as listed, or 0 if an ID was given.
+     * @throws NurseSchedException If the index or the ID is not a positive integer.
+     */
+    static int parseApptIndex(String line) throws NurseSchedException {
+        if (!line.trim().startsWith("#")) {
+            return parseIndex(line);
+        }
+        apptId = parseIndex(line.trim().substring(1)) + 1;
+        return 0;
+    }
 
     /**
      * Parses a string representation of a 1-based list index into a 0-based integer index.
@@ -547,6 +810,13 @@ public class ApptParser extends Parser {
         return id;
     }
 
+    /**
+     * Returns the appointment ID given with {@code aid/#ID}, or 0 if the appointment is given by its index.
+     */
+    public int getApptId() {
+        return apptId;
+    }
+
     public int getIndex () {
         return apptIndex;
     }
@@ -563,4 +833,36 @@ public class ApptParser extends Parser {
         return sortBy;
     }
 
+    public String getRecurAction() {
+        return recurAction;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public LocalDate getUntilDate() {
+        return untilDate;
+    }
+
+    public int getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    public String getFilePath () {
+        return filePath;
+    }
+
+    public LocalDate getToDate () {
+        return toDate;
+    }
+
+    public int getDuration () {
+        return duration;
+    }
+
+    public int getMaxSlots () {
+        return maxSlots;
+    }
+
 }
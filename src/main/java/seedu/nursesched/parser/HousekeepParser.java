@@ -0,0 +1,130 @@
+package seedu.nursesched.parser;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Parses the commands that control housekeeping, e.g. {@code housekeep set task/30}.
+ */
+public class HousekeepParser extends Parser {
+    public static final int UNCHANGED = -1;
+
+    private static final Logger logr = Logger.getLogger("HousekeepParser");
+
+    private final String command;
+    private final int taskRetentionDays;
+    private final int shiftRetentionDays;
+    private final int intervalMinutes;
+
+    static {
+        try {
+            File logDir = new File("logs/parser");
+            if (!logDir.exists()) {
+                logDir.mkdirs();
+            }
+
+            FileHandler fh = new FileHandler("logs/parser/housekeepParser.log", true);
+            fh.setFormatter(new SimpleFormatter());
+            logr.addHandler(fh);
+            logr.setUseParentHandlers(false);
+            logr.setLevel(Level.ALL);
+        } catch (IOException e) {
+            logr.log(Level.SEVERE, "File logger not working", e);
+        }
+    }
+
+    /**
+     * Constructs a {@code HousekeepParser} object.
+     *
+     * @param command            The command type, e.g. "now".
+     * @param taskRetentionDays  The days to keep done tasks after they were due, or {@value #UNCHANGED}.
+     * @param shiftRetentionDays The days to keep past shifts, or {@value #UNCHANGED}.
+     * @param intervalMinutes    The minutes between automatic runs, 0 for none, or {@value #UNCHANGED}.
+     */
+    public HousekeepParser(String command, int taskRetentionDays, int shiftRetentionDays, int intervalMinutes) {
+        this.command = command;
+        this.taskRetentionDays = taskRetentionDays;
+        this.shiftRetentionDays = shiftRetentionDays;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    /**
+     * Parses a housekeep command.
+     * <p>
+     * {@code housekeep now} archives old records at once. {@code housekeep set [task/DAYS] [shift/DAYS]
+     * [every/MINUTES]} changes the settings given, or only shows them if none is given.
+     * </p>
+     *
+     * @param line The user's input command to be parsed.
+     * @return A {@code HousekeepParser} object containing the command and settings.
+     * @throws NurseSchedException If the command is unknown or a setting is not a non-negative number.
+     */
+    public static HousekeepParser extractInputs(String line) throws NurseSchedException {
+        assert line != null : "Input line should not be null";
+        logr.info("Extracting inputs from: " + line);
+
+        String[] parts = line.trim().split("\\s+", 3);
+        String command = parts.length > 1 ? parts[1].toLowerCase() : "";
+        String remaining = parts.length > 2 ? parts[2] : "";
+        if (command.equals("now") && remaining.isEmpty()) {
+            return new HousekeepParser(command, UNCHANGED, UNCHANGED, UNCHANGED);
+        }
+        if (!command.equals("set")) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_HOUSEKEEP_FORMAT);
+        }
+
+        int taskDays = UNCHANGED;
+        int shiftDays = UNCHANGED;
+        int everyMinutes = UNCHANGED;
+        for (String field : remaining.split("\\s+")) {
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (field.startsWith("task/")) {
+                taskDays = parseSetting(field.substring(5));
+            } else if (field.startsWith("shift/")) {
+                shiftDays = parseSetting(field.substring(6));
+            } else if (field.startsWith("every/")) {
+                everyMinutes = parseSetting(field.substring(6));
+            } else {
+                throw new NurseSchedException(ExceptionMessage.INVALID_HOUSEKEEP_FORMAT);
+            }
+        }
+        return new HousekeepParser(command, taskDays, shiftDays, everyMinutes);
+    }
+
+    private static int parseSetting(String value) throws NurseSchedException {
+        try {
+            int setting = Integer.parseInt(value);
+            if (setting < 0) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_HOUSEKEEP_FORMAT);
+            }
+            return setting;
+        } catch (NumberFormatException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_HOUSEKEEP_FORMAT);
+        }
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public int getTaskRetentionDays() {
+        return taskRetentionDays;
+    }
+
+    public int getShiftRetentionDays() {
+        return shiftRetentionDays;
+    }
+
+    public int getIntervalMinutes() {
+        return intervalMinutes;
+    }
+}
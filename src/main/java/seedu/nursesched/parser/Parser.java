@@ -14,4 +14,19 @@ public class Parser {
         }
         return type;
     }
+
+    /**
+     * Extracts the command verb from user input, which is the word following the command type.
+     * For example, the verb of "appt add id/1234 ..." is "add".
+     *
+     * @param line The users input.
+     * @return The command verb, or an empty string if there is none.
+     */
+    public static String extractVerb(String line) {
+        String[] words = line.trim().split("\\s+", 3);
+        if (words.length < 2) {
+            return "";
+        }
+        return words[1];
+    }
 }
@@ -11,7 +11,7 @@ import java.util.regex.Pattern;
  * The PatientParser class parses the input of the user to make sense of the command.
  * It extracts commands and relevant parameters, validating them before processing.
  * This class supports various patient-related commands, including add, del, list, find,
- * edit, result.
+ * edit, result, import and export.
  *
  * Each command follows a specific format and requires valid parameters. The parser extracts
  * values from the input, verifies them, and encapsulates them in a {@code PatientParser} object
@@ -27,6 +27,7 @@ public class PatientParser extends Parser {
     private final String gender;
     private final String contact;
     private final String notes;
+    private final String filePath;
 
     /**
      * Constructs a new {@code PatientParser} object with extracted input details.
@@ -50,11 +51,32 @@ public class PatientParser extends Parser {
         this.gender = gender;
         this.contact = contact;
         this.notes = notes;
+        this.filePath = null;
+    }
+
+    /**
+     * Constructs a new {@code PatientParser} object for a command that reads or writes a file.
+     *
+     * @param command  The parsed command, either "import" or "export".
+     * @param filePath The path of the file.
+     */
+    public PatientParser(String command, String filePath) {
+        assert command != null : "Command cannot be null";
+
+        this.command = command;
+        this.id = null;
+        this.name = null;
+        this.age = null;
+        this.gender = null;
+        this.contact = null;
+        this.notes = null;
+        this.filePath = filePath;
     }
 
     /**
      * Extracts and parses the inputs from the given command line for patient-related operations.
-     * The method supports several commands: "add", "del", "list", "find", "edit", "result".
+     * The method supports several commands: "add", "del", "list", "find", "edit", "result",
+     * "import", "export".
      * For the "add" command, the input line should follow the format:
      * {@code pf add id/<ID> p/<name> a/<age> g/<gender> c/<contact> n/<notes>}
      *
@@ -73,6 +95,9 @@ public class PatientParser extends Parser {
      * For the "result" command, the input line supports 3 other cases and should follow the following format::
      * {@code pf result add id/<ID> t/<test> r/<results>}
      *
+     * For the "import" and "export" commands, the input line should follow the format:
+     * {@code pf import <file path>}
+     *
      * @param line The input command line to be parsed. It should start with "pf" followed by the command.
      * @return A {@link PatientParser} object containing the parsed command and its associated parameters.
      *         Returns {@code null} if the input line is invalid or if required parameters are missing.
@@ -87,6 +112,15 @@ public class PatientParser extends Parser {
             throw new NurseSchedException(ExceptionMessage.INPUT_EMPTY);
         }
 
+        // File paths can contain identifiers such as "a/", so these commands are parsed before normalisation
+        String[] words = line.trim().split("\\s+", 3);
+        if (words.length >= 2 && (words[1].equalsIgnoreCase("import") || words[1].equalsIgnoreCase("export"))) {
+            if (words.length < 3) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_TRANSFER_FORMAT);
+            }
+            return new PatientParser(words[1].toLowerCase(), words[2].trim());
+        }
+
         line = normalizeIdentifiers(line.trim());
         checkForDuplicateIdentifiersForPatientInfo(line.trim());
         line = line.replace("\t", " ");
@@ -388,12 +422,7 @@ public class PatientParser extends Parser {
     }
 
     private static Patient findPatientById(String id) {
-        for (Patient patient : Patient.getPatientsList()) {
-            if (patient.getId().equals(id)) {
-                return patient;
-            }
-        }
-        return null;
+        return Patient.findById(id);
     }
 
     private static void validateIdentifierOrder(String line) throws NurseSchedException {
@@ -480,4 +509,8 @@ public class PatientParser extends Parser {
     public String getNotes() {
         return notes;
     }
+
+    public String getFilePath() {
+        return filePath;
+    }
 }
@@ -0,0 +1,119 @@
+package seedu.nursesched.parser;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Parses commands that look at appointments and shifts together, e.g. {@code schedule check}.
+ */
+public class ScheduleParser extends Parser {
+    public static final int DEFAULT_CHECK_DAYS = 7;
+    public static final int MAX_CHECK_DAYS = 366;
+
+    private static final Logger logr = Logger.getLogger("ScheduleParser");
+
+    private final String command;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+
+    static {
+        try {
+            File logDir = new File("logs/parser");
+            if (!logDir.exists()) {
+                logDir.mkdirs();
+            }
+
+            FileHandler fh = new FileHandler("logs/parser/scheduleParser.log", true);
+            fh.setFormatter(new SimpleFormatter());
+            logr.addHandler(fh);
+            logr.setUseParentHandlers(false);
+            logr.setLevel(Level.ALL);
+        } catch (IOException e) {
+            logr.log(Level.SEVERE, "File logger not working", e);
+        }
+    }
+
+    /**
+     * Constructs a {@code ScheduleParser} object.
+     *
+     * @param command  The command type, e.g. "check".
+     * @param fromDate The first date of the period.
+     * @param toDate   The last date of the period.
+     */
+    public ScheduleParser(String command, LocalDate fromDate, LocalDate toDate) {
+        this.command = command;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+
+    /**
+     * Parses a schedule command.
+     * <p>
+     * {@code schedule check [from/DATE] [to/DATE]} checks from {@code from/} (today if not given) to {@code to/}
+     * ({@value #DEFAULT_CHECK_DAYS} days in all if not given), covering at most {@value #MAX_CHECK_DAYS} days.
+     * </p>
+     *
+     * @param line The user's input command to be parsed.
+     * @return A {@code ScheduleParser} object containing the command and period.
+     * @throws NurseSchedException If the command is unknown or the period is invalid.
+     */
+    public static ScheduleParser extractInputs(String line) throws NurseSchedException {
+        assert line != null : "Input line should not be null";
+        logr.info("Extracting inputs from: " + line);
+
+        String[] parts = line.trim().split("\\s+", 3);
+        String command = parts.length > 1 ? parts[1].toLowerCase() : "";
+        if (!command.equals("check")) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SCHEDULE_FORMAT);
+        }
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = null;
+        String remaining = parts.length > 2 ? parts[2] : "";
+        try {
+            for (String field : remaining.split("\\s+")) {
+                if (field.isEmpty()) {
+                    continue;
+                }
+                if (field.startsWith("from/")) {
+                    from = LocalDate.parse(field.substring(5));
+                } else if (field.startsWith("to/")) {
+                    to = LocalDate.parse(field.substring(3));
+                } else {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_SCHEDULE_FORMAT);
+                }
+            }
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATE_FORMAT);
+        }
+
+        if (to == null) {
+            to = from.plusDays(DEFAULT_CHECK_DAYS - 1);
+        }
+        if (to.isBefore(from) || from.plusDays(MAX_CHECK_DAYS).isBefore(to)) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_APPT_FREE_RANGE);
+        }
+        return new ScheduleParser(command, from, to);
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
+}
@@ -3,7 +3,13 @@ package seedu.nursesched.parser;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -12,6 +18,10 @@ import java.util.logging.SimpleFormatter;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.schedule.Recurrence;
+import seedu.nursesched.shift.RosterGenerator;
+import seedu.nursesched.shift.Shift;
+import seedu.nursesched.shift.ShiftTemplate;
 
 /**
  * The {@code ShiftParser} class is responsible for parsing shift-related commands.
@@ -26,6 +36,13 @@ public class ShiftParser extends Parser {
     private final LocalDate date;
     private final String shiftTask;
     private final int shiftIndex;
+    private final int weeks;
+    private final List<ShiftTemplate> templates;
+    private final int maxShiftsPerWeek;
+    private final LocalDate toDate;
+    private final String groupBy;
+    private final int intervalDays;
+    private final int count;
 
     static {
         try {
@@ -60,6 +77,98 @@ public class ShiftParser extends Parser {
         this.date = date;
         this.shiftTask = shiftTask;
         this.shiftIndex = shiftIndex;
+        this.weeks = 0;
+        this.templates = List.of();
+        this.maxShiftsPerWeek = 0;
+        this.toDate = null;
+        this.groupBy = "";
+        this.intervalDays = 0;
+        this.count = 0;
+
+        logr.info("ShiftParser created: " + this);
+    }
+
+    /**
+     * Constructs a {@code ShiftParser} object for the generate command.
+     *
+     * @param command          The command type ("generate").
+     * @param date             The first date of the roster.
+     * @param weeks            The number of weeks to generate.
+     * @param templates        The shift templates to rotate through.
+     * @param maxShiftsPerWeek The maximum number of shifts in each week.
+     */
+    public ShiftParser(String command, LocalDate date, int weeks, List<ShiftTemplate> templates,
+                       int maxShiftsPerWeek) {
+        this.command = command;
+        this.startTime = null;
+        this.endTime = null;
+        this.date = date;
+        this.shiftTask = "";
+        this.shiftIndex = 0;
+        this.weeks = weeks;
+        this.templates = templates;
+        this.maxShiftsPerWeek = maxShiftsPerWeek;
+        this.toDate = null;
+        this.groupBy = "";
+        this.intervalDays = 0;
+        this.count = 0;
+
+        logr.info("ShiftParser created: " + this);
+    }
+
+    /**
+     * Constructs a {@code ShiftParser} object for the overtime report command.
+     *
+     * @param command The command type ("ot-report").
+     * @param date    The first date of the report.
+     * @param toDate  The last date of the report.
+     * @param groupBy "week", "month", or an empty string for the total only.
+     */
+    public ShiftParser(String command, LocalDate date, LocalDate toDate, String groupBy) {
+        this.command = command;
+        this.startTime = null;
+        this.endTime = null;
+        this.date = date;
+        this.shiftTask = "";
+        this.shiftIndex = 0;
+        this.weeks = 0;
+        this.templates = List.of();
+        this.maxShiftsPerWeek = 0;
+        this.toDate = toDate;
+        this.groupBy = groupBy;
+        this.intervalDays = 0;
+        this.count = 0;
+
+        logr.info("ShiftParser created: " + this);
+    }
+
+    /**
+     * Constructs a {@code ShiftParser} object for the recurring shift command.
+     *
+     * @param command      The command type ("recur").
+     * @param startTime    The start time of each occurrence.
+     * @param endTime      The end time of each occurrence.
+     * @param date         The date of the first occurrence.
+     * @param shiftTask    The task assigned during each occurrence.
+     * @param intervalDays The number of days between occurrences.
+     * @param toDate       The date after which there are no more occurrences, or null.
+     * @param count        The number of occurrences, or 0 if there is no limit.
+     */
+    public ShiftParser(String command, LocalTime startTime, LocalTime endTime, LocalDate date, String shiftTask,
+                       int intervalDays, LocalDate toDate, int count) {
+        this.command = command;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.date = date;
+        this.shiftTask = shiftTask;
+        this.shiftIndex = 0;
+        this.weeks = 0;
+        this.templates = List.of();
+        this.maxShiftsPerWeek = 0;
+        this.toDate = toDate;
+        this.groupBy = "";
+        this.intervalDays = intervalDays;
+        this.count = count;
 
         logr.info("ShiftParser created: " + this);
     }
@@ -114,7 +223,10 @@ public class ShiftParser extends Parser {
                 return getShiftMarkParser(remaining, command);
 
             }  else if (command.equals("list")) {
-                return new ShiftParser("list", null, null, null, "", 0);
+                return getShiftListParser(remaining, command);
+
+            } else if (command.equals("recur")) {
+                return getShiftRecurParser(remaining, command);
 
             } else if (command.equals("edit")) {
                 return getShiftEditParser(remaining, command);
@@ -125,6 +237,12 @@ public class ShiftParser extends Parser {
             } else if (command.equals("logot")) {
                 return getShiftOvertimeParser(remaining, command);
 
+            } else if (command.equals("generate")) {
+                return getShiftGenerateParser(remaining, command);
+
+            } else if (command.equals("ot-report")) {
+                return getShiftOvertimeReportParser(remaining, command);
+
             } else {
                 logr.warning("Invalid command: " + command);
                 throw new NurseSchedException(ExceptionMessage.INVALID_COMMAND);
@@ -137,6 +255,119 @@ public class ShiftParser extends Parser {
         }
     }
 
+    /**
+     * Parses a list command, which either lists every shift or, given {@code from/DATE to/DATE}, the shifts in
+     * that period including the occurrences of recurring shifts.
+     *
+     * @param remaining The remaining command string.
+     * @param command   The command type ("list").
+     * @return A ShiftParser object containing the range, which is null if every shift is to be listed.
+     * @throws NurseSchedException If the range is incomplete or invalid.
+     */
+    private static ShiftParser getShiftListParser(String remaining, String command) throws NurseSchedException {
+        if (remaining.isEmpty()) {
+            return new ShiftParser(command, null, null, null, "", 0);
+        }
+
+        String fromStr = extractEditValue(remaining, "from/");
+        String toStr = extractEditValue(remaining, "to/");
+        if (fromStr == null || toStr == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTLIST_FORMAT);
+        }
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(fromStr);
+            to = LocalDate.parse(toStr);
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATE_FORMAT);
+        }
+        if (from.isAfter(to)) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTLIST_FORMAT);
+        }
+        return new ShiftParser(command, from, to, "");
+    }
+
+    /**
+     * Parses a recurring shift command.
+     *
+     * {@code recur list} lists the recurring shifts and {@code recur del id/INDEX} deletes one. Otherwise,
+     * requires: {@code s/}, {@code e/}, {@code d/} (first date), {@code every/} ("daily", "weekly" or a number
+     * of days) and {@code st/} (task). Optional: {@code until/} (last date) and {@code count/} (occurrences).
+     *
+     * @param remaining The remaining command string.
+     * @param command   The command type ("recur").
+     * @return A ShiftParser object with command "recur", "recur-list" or "recur-del".
+     * @throws NurseSchedException If the format is invalid or values are out of range.
+     */
+    private static ShiftParser getShiftRecurParser(String remaining, String command) throws NurseSchedException {
+        logr.info("Parsing recur command: " + remaining);
+
+        if (remaining.equals("list")) {
+            return new ShiftParser("recur-list", null, null, null, "", 0);
+        }
+        if (remaining.startsWith("del")) {
+            ShiftParser delParser = getShiftDelParser(remaining.substring(3).trim(), command, null, null, null,
+                    "");
+            return new ShiftParser("recur-del", null, null, null, "", delParser.getIndex());
+        }
+
+        String sStr = extractEditValue(remaining, "s/");
+        String eStr = extractEditValue(remaining, "e/");
+        String dStr = extractEditValue(remaining, "d/");
+        String everyStr = extractEditValue(remaining, "every/");
+        String shiftTask = extractEditValue(remaining, "st/");
+        if (sStr == null || eStr == null || dStr == null || everyStr == null || shiftTask == null) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTRECUR_FORMAT);
+        }
+        if (shiftTask.isEmpty()) {
+            throw new NurseSchedException(ExceptionMessage.SHIFT_TASK_EMPTY);
+        }
+
+        LocalTime startTime;
+        LocalTime endTime;
+        try {
+            startTime = LocalTime.parse(sStr);
+            endTime = LocalTime.parse(eStr);
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_TIME_FORMAT);
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_START_TIME);
+        }
+
+        LocalDate date;
+        LocalDate untilDate = null;
+        try {
+            date = LocalDate.parse(dStr);
+            String untilStr = extractEditValue(remaining, "until/");
+            if (untilStr != null) {
+                untilDate = LocalDate.parse(untilStr);
+            }
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATE_FORMAT);
+        }
+
+        int intervalDays = Recurrence.parseIntervalDays(everyStr);
+        int count = 0;
+        try {
+            String countStr = extractEditValue(remaining, "count/");
+            if (countStr != null) {
+                count = Integer.parseInt(countStr);
+            }
+        } catch (NumberFormatException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTRECUR_FORMAT);
+        }
+        if (intervalDays == 0 || count < 0 || (untilDate != null && untilDate.isBefore(date))) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTRECUR_FORMAT);
+        }
+        if (!Recurrence.isWithinLimits(date, untilDate, count)) {
+            throw new NurseSchedException(ExceptionMessage.RECURRENCE_TOO_LONG);
+        }
+
+        return new ShiftParser(command, startTime, endTime, date, shiftTask, intervalDays, untilDate, count);
+    }
+
     /**
      * Parses a log overtime command and extracts the shift index and overtime hours.
      *
@@ -156,7 +387,7 @@ public class ShiftParser extends Parser {
         double hours;
 
         try {
-            index = Integer.parseInt(extractEditValue(remaining, "id/")) - 1;
+            index = parseShiftIndex(extractEditValue(remaining, "id/"));
         } catch (NumberFormatException e) {
             throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
         }
@@ -170,6 +401,131 @@ public class ShiftParser extends Parser {
         return new ShiftParser(command, null, null, null, String.valueOf(hours), index);
     }
 
+    /**
+     * Parses an overtime report command and extracts the date range and grouping.
+     *
+     * The range is either a year ({@code 2026}), a month ({@code 2026-10}), an ISO week ({@code 2026-w42}), or
+     * {@code from/DATE to/DATE}. Optional: {@code by/} ("week" or "month").
+     *
+     * @param remaining The remaining command string.
+     * @param command   The command type ("ot-report").
+     * @return A ShiftParser object containing the report range.
+     * @throws NurseSchedException If the range or grouping is invalid.
+     */
+    private static ShiftParser getShiftOvertimeReportParser(String remaining, String command)
+            throws NurseSchedException {
+        logr.info("Parsing ot-report command: " + remaining);
+
+        String groupBy = extractEditValue(remaining, "by/");
+        if (groupBy == null) {
+            groupBy = "";
+        } else if (!groupBy.equals("week") && !groupBy.equals("month")) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTOTREPORT_FORMAT);
+        }
+
+        String range = remaining.replaceAll("by/\\S*", "").trim();
+        LocalDate from;
+        LocalDate to;
+        try {
+            if (range.contains("from/") || range.contains("to/")) {
+                String fromStr = extractEditValue(range, "from/");
+                String toStr = extractEditValue(range, "to/");
+                if (fromStr == null || toStr == null) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTOTREPORT_FORMAT);
+                }
+                from = LocalDate.parse(fromStr);
+                to = LocalDate.parse(toStr);
+            } else if (range.matches("\\d{4}")) {
+                from = Year.parse(range).atDay(1);
+                to = from.plusYears(1).minusDays(1);
+            } else if (range.matches("\\d{4}-\\d{2}")) {
+                from = YearMonth.parse(range).atDay(1);
+                to = from.plusMonths(1).minusDays(1);
+            } else if (range.matches("\\d{4}-w\\d{2}")) {
+                LocalDate weekInYear = LocalDate.of(Integer.parseInt(range.substring(0, 4)), 1, 4);
+                long week = Long.parseLong(range.substring(6));
+                if (!IsoFields.WEEK_OF_WEEK_BASED_YEAR.rangeRefinedBy(weekInYear).isValidValue(week)) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTOTREPORT_FORMAT);
+                }
+                from = weekInYear.with(IsoFields.WEEK_OF_WEEK_BASED_YEAR, week).with(ChronoField.DAY_OF_WEEK, 1);
+                to = from.plusDays(6);
+            } else {
+                throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTOTREPORT_FORMAT);
+            }
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATE_FORMAT);
+        }
+        if (from.isAfter(to)) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTOTREPORT_FORMAT);
+        }
+
+        return new ShiftParser(command, from, to, groupBy);
+    }
+
+    /**
+     * Parses a generate command and extracts the roster parameters.
+     *
+     * Requires: {@code w/} (number of weeks).
+     * Optional: {@code d/} (start date, defaults to today), {@code t/} (comma-separated templates, defaults to
+     * all templates) and {@code max/} (shifts per week).
+     *
+     * @param remaining The remaining command string.
+     * @param command   The command type ("generate").
+     * @return A ShiftParser object containing the roster parameters.
+     * @throws NurseSchedException If the format is invalid or values are out of range.
+     */
+    private static ShiftParser getShiftGenerateParser(String remaining, String command) throws NurseSchedException {
+        logr.info("Parsing generate command: " + remaining);
+
+        int weeks;
+        int maxShiftsPerWeek = RosterGenerator.DEFAULT_MAX_SHIFTS_PER_WEEK;
+        LocalDate date = LocalDate.now();
+        List<ShiftTemplate> templates = new ArrayList<>(List.of(ShiftTemplate.values()));
+
+        try {
+            String weeksStr = extractEditValue(remaining, "w/");
+            if (weeksStr == null) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTGENERATE_FORMAT);
+            }
+            weeks = Integer.parseInt(weeksStr);
+
+            String maxStr = extractEditValue(remaining, "max/");
+            if (maxStr != null) {
+                maxShiftsPerWeek = Integer.parseInt(maxStr);
+            }
+        } catch (NumberFormatException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTGENERATE_FORMAT);
+        }
+        if (weeks < 1 || weeks > RosterGenerator.MAX_WEEKS || maxShiftsPerWeek < 1 || maxShiftsPerWeek > 7) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTGENERATE_FORMAT);
+        }
+
+        String dStr = extractEditValue(remaining, "d/");
+        if (dStr != null) {
+            try {
+                date = LocalDate.parse(dStr);
+            } catch (DateTimeParseException e) {
+                throw new NurseSchedException(ExceptionMessage.INVALID_DATE_FORMAT);
+            }
+        }
+
+        String templateStr = extractEditValue(remaining, "t/");
+        if (templateStr != null) {
+            templates.clear();
+            for (String name : templateStr.split(",")) {
+                ShiftTemplate template = ShiftTemplate.fromName(name);
+                if (template == null) {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_TEMPLATE);
+                }
+                if (!templates.contains(template)) {
+                    templates.add(template);
+                }
+            }
+        }
+
+        return new ShiftParser(command, date, weeks, templates, maxShiftsPerWeek);
+    }
+
     /**
      * Parses an edit shift command and extracts updated shift details.
      * Only fields provided in the command will be parsed; missing fields will be set to {@code null}
@@ -199,7 +555,7 @@ public class ShiftParser extends Parser {
         }
 
         try {
-            shiftIndex = Integer.parseInt(idStr) - 1;
+            shiftIndex = parseShiftIndex(idStr);
             if (shiftIndex < 0) {
                 throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
             }
@@ -282,7 +638,7 @@ public class ShiftParser extends Parser {
         }
 
         try {
-            shiftIndex = Integer.parseInt(extractValue(remaining, "id/", null)) - 1;
+            shiftIndex = parseShiftIndex(extractValue(remaining, "id/", null));
             if (shiftIndex < 0) {
                 throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
             }
@@ -317,7 +673,7 @@ public class ShiftParser extends Parser {
             throw new NurseSchedException(ExceptionMessage.INVALID_SHIFTDEL_FORMAT);
         }
         try {
-            shiftIndex = Integer.parseInt(extractValue(remaining, "id/", null)) - 1;
+            shiftIndex = parseShiftIndex(extractValue(remaining, "id/", null));
             if (shiftIndex < 0) {
                 logr.warning("Invalid shift index: " + shiftIndex);
                 throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
@@ -384,6 +740,28 @@ public class ShiftParser extends Parser {
         return new ShiftParser(command, startTime, endTime, date, shiftTask, shiftIndex);
     }
 
+    /**
+     * Parses the {@code id/} field of a command, which is either a 1-based index as listed by {@code shift list},
+     * or {@code #} followed by a shift ID, which stays the same when other shifts are added or deleted.
+     *
+     * @param value The index or the ID.
+     * @return The 0-based index of the shift.
+     * @throws NumberFormatException If the index or the ID is not an integer.
+     * @throws NurseSchedException If there is no shift with the ID.
+     */
+    private static int parseShiftIndex(String value) throws NurseSchedException {
+        if (value == null || !value.startsWith("#")) {
+            return Integer.parseInt(value) - 1;
+        }
+        int shiftId = Integer.parseInt(value.substring(1));
+        int index = Shift.indexOfId(shiftId);
+        if (index < 0) {
+            logr.warning("No shift with ID: " + shiftId);
+            throw new NurseSchedException(ExceptionMessage.SHIFT_ID_NOT_FOUND);
+        }
+        return index;
+    }
+
     /**
      * Extracts a value from a command string between specified markers.
      *
@@ -483,6 +861,69 @@ public class ShiftParser extends Parser {
         return shiftIndex;
     }
 
+    /**
+     * Gets the number of weeks to generate.
+     *
+     * @return The number of weeks as an {@code int}.
+     */
+    public int getWeeks() {
+        return weeks;
+    }
+
+    /**
+     * Gets the shift templates to rotate through when generating a roster.
+     *
+     * @return The templates, in rotation order.
+     */
+    public List<ShiftTemplate> getTemplates() {
+        return templates;
+    }
+
+    /**
+     * Gets the maximum number of shifts in each week of a generated roster.
+     *
+     * @return The maximum number of shifts per week as an {@code int}.
+     */
+    public int getMaxShiftsPerWeek() {
+        return maxShiftsPerWeek;
+    }
+
+    /**
+     * Gets the last date of an overtime report.
+     *
+     * @return The last date as a {@code LocalDate} object.
+     */
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    /**
+     * Gets how an overtime report is broken down.
+     *
+     * @return "week", "month", or an empty string for the total only.
+     */
+    public String getGroupBy() {
+        return groupBy;
+    }
+
+    /**
+     * Gets the number of days between the occurrences of a recurring shift.
+     *
+     * @return The interval in days as an {@code int}.
+     */
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    /**
+     * Gets the number of occurrences of a recurring shift.
+     *
+     * @return The number of occurrences, or 0 if there is no limit.
+     */
+    public int getCount() {
+        return count;
+    }
+
     /**
      * Gets the shift task directly.
      *
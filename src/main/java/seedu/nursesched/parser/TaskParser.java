@@ -2,6 +2,7 @@ package seedu.nursesched.parser;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.task.Task;
 
 import java.io.File;
 import java.io.IOException;
@@ -23,6 +24,8 @@ public class TaskParser extends Parser {
     private LocalTime byTime;
     private boolean isDone;
     private int taskIndex;
+    private int taskId;
+    private LocalDate toDate;
 
     static {
         try {
@@ -54,6 +57,23 @@ public class TaskParser extends Parser {
         this.taskIndex = taskIndex;
     }
 
+    /**
+     * Constructs a parser for a command that addresses a task by its ID rather than by its index.
+     */
+    public TaskParser(String command, String description, LocalDate byDate,
+                      LocalTime byTime, int taskId) {
+        this(command, description, byDate, byTime, false, 0);
+        this.taskId = taskId;
+    }
+
+    /**
+     * Constructs a parser for listing the tasks due from {@code byDate} to {@code toDate}, both inclusive.
+     */
+    public TaskParser(String command, LocalDate byDate, LocalDate toDate) {
+        this(command, null, byDate, null, false, 0);
+        this.toDate = toDate;
+    }
+
     /**
      * Extracts and parses the inputs from the given command for task-related operations.
      * This method supports 7 commands "add", "del", "mark", "unmark", "list", "edit" and "find".
@@ -117,6 +137,7 @@ public class TaskParser extends Parser {
         LocalDate byDate = null;
         LocalTime byTime = null;
         int taskIndex = 0;
+        int taskId = 0;
         if (!line.contains("id/")) {
             logr.warning("Missing task index!");
             throw new NurseSchedException(ExceptionMessage.INVALID_TASK_EDIT_FORMAT);
@@ -127,7 +148,12 @@ public class TaskParser extends Parser {
             String byTimeString = "";
             for (String parameter : parameters) {
                 if (parameter.contains("id/")) {
-                    taskIndex = Integer.parseInt(parameter.substring(3));
+                    String value = parameter.substring(3);
+                    if (value.startsWith("#")) {
+                        taskId = parseTaskId(value);
+                    } else {
+                        taskIndex = Integer.parseInt(value);
+                    }
                 } else if (!line.contains("td/") && line.contains("d/") && !line.contains("t/")) {
                     logr.info("Empty edit parameters, no edits made.");
                     throw new NurseSchedException(ExceptionMessage.NO_EDITS_MADE);
@@ -163,7 +189,7 @@ public class TaskParser extends Parser {
                     }
                 }
             }
-            if (taskIndex <= 0) {
+            if (taskId == 0 && taskIndex <= 0) {
                 throw new NurseSchedException(ExceptionMessage.NEGATIVE_INDEX);
             }
 
@@ -185,9 +211,30 @@ public class TaskParser extends Parser {
             logr.warning("Invalid or missing fields");
             throw new NurseSchedException(ExceptionMessage.INVALID_TASK_EDIT_FORMAT);
         }
+        if (taskId != 0) {
+            return new TaskParser(command, description.toString(), byDate, byTime, taskId);
+        }
         return new TaskParser(command, description.toString(), byDate, byTime, false, taskIndex);
     }
 
+    /**
+     * Parses a task ID given as {@code #} followed by the ID, as shown by {@code task list}. Unlike an index, the
+     * ID stays the same when other tasks are deleted. The task itself is looked up when the command is run.
+     *
+     * @param value The ID, starting with {@code #}.
+     * @return The task ID.
+     * @throws NumberFormatException If the ID is not an integer.
+     * @throws NurseSchedException If the ID is not positive.
+     */
+    static int parseTaskId(String value) throws NurseSchedException {
+        int taskId = Integer.parseInt(value.substring(1));
+        if (taskId <= 0) {
+            logr.warning("Invalid task ID: " + taskId);
+            throw new NurseSchedException(ExceptionMessage.TASK_ID_NOT_FOUND);
+        }
+        return taskId;
+    }
+
     public static TaskParser getIndexParser(String line, String command) throws NurseSchedException {
         int taskIndex;
         if (!line.contains("id/")) {
@@ -195,7 +242,11 @@ public class TaskParser extends Parser {
             throw new NurseSchedException(ExceptionMessage.MISSING_INDEX);
         }
         try {
-            taskIndex = Integer.parseInt(line.substring(line.indexOf("id/") + 3));
+            String value = line.substring(line.indexOf("id/") + 3);
+            if (value.startsWith("#")) {
+                return new TaskParser(command, "", null, null, parseTaskId(value));
+            }
+            taskIndex = Integer.parseInt(value);
             if (taskIndex <= 0) {
                 throw new NurseSchedException(ExceptionMessage.NEGATIVE_INDEX);
             }
@@ -307,11 +358,39 @@ public class TaskParser extends Parser {
         return new TaskParser(command, keyword, null, null, false, 0);
     }
 
+    /**
+     * Parses the parameters for listing tasks, which are either none or a period given as
+     * {@code from/DATE to/DATE}.
+     *
+     * @param line The user input containing the parameters of the command, or "list" if there are none.
+     * @param command Represents 1 of the 7 available commands. Add, del, mark, unmark, edit, find or list.
+     * @return A TaskParser object with the period, whose dates are null if every task is to be listed.
+     * @throws NurseSchedException If the period is incomplete or invalid.
+     */
     public static TaskParser getListTaskParser(String line, String command) throws NurseSchedException {
-        if (!line.equals("list")) {
+        if (line.equals("list")) {
+            return new TaskParser(command, null, null, null, false, 0);
+        }
+
+        LocalDate fromDate = null;
+        LocalDate toDate = null;
+        try {
+            for (String field : line.trim().split("\\s+")) {
+                if (field.startsWith("from/")) {
+                    fromDate = LocalDate.parse(field.substring(5));
+                } else if (field.startsWith("to/")) {
+                    toDate = LocalDate.parse(field.substring(3));
+                } else {
+                    throw new NurseSchedException(ExceptionMessage.INVALID_LIST_TASK);
+                }
+            }
+        } catch (DateTimeParseException e) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_DATE_FORMAT);
+        }
+        if (fromDate == null || toDate == null || toDate.isBefore(fromDate)) {
             throw new NurseSchedException(ExceptionMessage.INVALID_LIST_TASK);
         }
-        return new TaskParser(command, null, null, null, false, 0);
+        return new TaskParser(command, fromDate, toDate);
     }
 
     public String getCommand() {
@@ -337,4 +416,15 @@ public class TaskParser extends Parser {
     public int getTaskIndex() {
         return taskIndex;
     }
+
+    /**
+     * Returns the ID of the task the command is for, or 0 if the task is given by its index instead.
+     */
+    public int getTaskId() {
+        return taskId;
+    }
+
+    public LocalDate getToDate() {
+        return toDate;
+    }
 }
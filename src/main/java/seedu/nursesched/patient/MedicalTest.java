@@ -3,6 +3,7 @@ package seedu.nursesched.patient;
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.storage.PatientTestStorage;
+import seedu.nursesched.storage.StringPool;
 
 import java.util.ArrayList;
 
@@ -13,6 +14,10 @@ import java.util.ArrayList;
  */
 public class MedicalTest {
     protected static ArrayList<MedicalTest> medicalTestList = new ArrayList<>();
+    // Every patient has many tests, drawn from a short list of test names and results
+    private static final StringPool patientIdPool = new StringPool(10_000);
+    private static final StringPool testNamePool = new StringPool(1024);
+    private static final StringPool resultPool = new StringPool(1024);
 
     private final String patientId; // Patient ID associated with this medical test
     private final String testName;
@@ -43,9 +48,9 @@ public class MedicalTest {
             throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_TEST_RESULT);
         }
 
-        this.patientId = patientId;
-        this.testName = testName;
-        this.result = result;
+        this.patientId = patientIdPool.canonicalize(patientId);
+        this.testName = testNamePool.canonicalize(testName);
+        this.result = resultPool.canonicalize(result);
     }
 
     /**
@@ -112,6 +117,17 @@ public class MedicalTest {
         return medicalTestList;
     }
 
+    /**
+     * Replaces the medical test list in memory with the contents of the save file, discarding unsaved changes.
+     */
+    public static void reloadFromFile() {
+        try {
+            medicalTestList = PatientTestStorage.readFile();
+        } catch (NurseSchedException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
     /**
      * Returns a string representation of the medical test in the format:
      * Patient ID: {@code patientId} - Test: {@code testName}, Result: {@code result}.
@@ -4,23 +4,35 @@ import seedu.nursesched.appointment.Appointment;
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.storage.PatientStorage;
+import seedu.nursesched.ui.ListPrinter;
 
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 /**
  * The Patient class represents a patient in the healthcare system.
  * It stores patient information such as ID, name, age, gender, contact, and notes (optional).
  * This class provides methods to add, remove, edit, and display patient information.
+ * <p>
+ * The ID, age, gender and contact are validated once and kept as numbers and an enum rather than strings, which
+ * keeps each patient small and lets lookups compare IDs without parsing them. The string getters format them on
+ * demand.
+ * </p>
  */
 public class Patient {
     protected static ArrayList<Patient> patientsList = new ArrayList<>();
 
-    private final String id;
+    /**
+     * The gender of a patient.
+     */
+    public enum Gender {
+        M, F
+    }
+
+    private final int id;
     private String name;
-    private String age;
-    private String gender;
-    private String contact;
+    private byte age;
+    private Gender gender;
+    private int contact;
     private String notes;
 
     static {
@@ -44,6 +56,19 @@ public class Patient {
      */
     public Patient(String id, String name, String age, String gender, String contact, String notes)
             throws NurseSchedException {
+        this(id, name, age, gender, contact, notes, false);
+    }
+
+    /**
+     * Constructs a new Patient object, optionally leaving the duplicate ID check to the caller.
+     * Bulk loaders check IDs against a hash set instead, since scanning the patient list for every new
+     * patient makes loading N patients take O(N^2) time.
+     *
+     * @param isIdCheckedByCaller Whether the caller has already ensured that the ID is not in use.
+     * @throws NurseSchedException If any field is empty or invalid.
+     */
+    Patient(String id, String name, String age, String gender, String contact, String notes,
+            boolean isIdCheckedByCaller) throws NurseSchedException {
         assert id != null : "id cannot be null";
         assert name != null : "Name cannot be null";
         assert age != null : "Age cannot be null";
@@ -55,29 +80,53 @@ public class Patient {
         }
 
         validateID(id);
-        verifyGender(gender);
+        Gender parsedGender = parseGender(gender);
 
-        for (Patient patient : patientsList) {
-            if (patient.getId().equals(id)) {
-                throw new NurseSchedException(ExceptionMessage.PATIENT_ID_EXIST);
-            }
+        int idNumber = Integer.parseInt(id.trim());
+        if (!isIdCheckedByCaller && findById(idNumber) != null) {
+            throw new NurseSchedException(ExceptionMessage.PATIENT_ID_EXIST);
         }
 
-        verifyAge(age);
-        verifyContact(contact);
-
-        this.id = id;
+        this.id = idNumber;
         this.name = name;
-        this.age = age;
+        this.age = parseAge(age);
         this.notes = notes;
-        this.gender = gender.toUpperCase();
-        this.contact = contact;
+        this.gender = parsedGender;
+        this.contact = parseContact(contact);
     }
 
-    private static void verifyGender(String gender) throws NurseSchedException {
+    /**
+     * Returns the patient with an ID, or null if there is none.
+     *
+     * @param id The ID as a number.
+     */
+    public static Patient findById(int id) {
+        for (Patient patient : patientsList) {
+            if (patient.id == id) {
+                return patient;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the patient with an ID given as text, or null if there is none or the text is not a number.
+     *
+     * @param id The ID, e.g. "0123".
+     */
+    public static Patient findById(String id) {
+        try {
+            return findById(Integer.parseInt(id.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Gender parseGender(String gender) throws NurseSchedException {
         if (!gender.equalsIgnoreCase("M") && !gender.equalsIgnoreCase("F")) {
             throw new NurseSchedException(ExceptionMessage.INVALID_GENDER);
         }
+        return Gender.valueOf(gender.toUpperCase());
     }
 
     private static void validateID(String id) throws NurseSchedException {
@@ -127,9 +176,10 @@ public class Patient {
 
         boolean isFound = false;
         validateID(id);
+        int idNumber = Integer.parseInt(id.trim());
         for (Patient patient : patientsList) {
-            if (patient.getId().equals(id)) {
-                Appointment.removeAppointmentsForPatient(Integer.parseInt(id));
+            if (patient.id == idNumber) {
+                Appointment.removeAppointmentsForPatient(idNumber);
                 patientsList.remove(patient);
                 System.out.println("Patient information removed for ID: " + id);
                 isFound = true;
@@ -154,9 +204,8 @@ public class Patient {
         if (patientsList.isEmpty()) {
             throw new NurseSchedException(ExceptionMessage.EMPTY_PATIENT_LIST);
         }
-        for (Patient patient : patientsList) {
-            System.out.println(patient.toString());
-        }
+        ListPrinter.printRows(patientsList.size(), i -> patientsList.get(i).toString());
+        ListPrinter.flush();
     }
 
     /**
@@ -181,16 +230,11 @@ public class Patient {
             return;
         }
 
-        ArrayList<Patient> filteredList = patientsList.stream()
-                .filter(patient -> patient.getId().equals(id))
-                .collect(Collectors.toCollection(ArrayList::new));
-
-        if (filteredList.isEmpty()) {
+        Patient patient = findById(Integer.parseInt(id));
+        if (patient == null) {
             System.out.println("No patient found with ID: " + id);
         } else {
-            for (Patient patient : filteredList) {
-                System.out.println(patient.toString());
-            }
+            System.out.println(patient.toString());
         }
     }
 
@@ -206,71 +250,60 @@ public class Patient {
      */
     public static void editPatientDetails(String id, String newName, String newAge, String newGender,
                                           String newContact, String newNotes) throws NurseSchedException {
-        boolean isFound = false;
+        Patient patient = findById(id);
+        if (patient == null) {
+            throw new NurseSchedException(ExceptionMessage.PATIENT_NOT_FOUND);
+        }
 
-        for (Patient patient : patientsList) {
-            if (patient.getId().equals(id)) {
-                isFound = true;
+        if ((newName != null && newName.equals(patient.name))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newAge != null && newAge.equals(patient.getAge()))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newGender != null && newGender.equalsIgnoreCase(patient.getGender()))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newContact != null && newContact.equals(patient.getContact()))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
+        if ((newNotes != null && newNotes.equals(patient.notes))) {
+            throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
+        }
 
-                if ((newName != null && newName.equals(patient.name))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newAge != null && newAge.equals(patient.age))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newGender != null && newGender.equalsIgnoreCase(patient.gender))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newContact != null && newContact.equals(patient.contact))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-                if ((newNotes != null && newNotes.equals(patient.notes))) {
-                    throw new NurseSchedException(ExceptionMessage.NO_CHANGES_FOUND);
-                }
-
-                if (newName != null) {
-                    patient.name = newName;
-                }
-                if (newAge != null) {
-                    verifyAge(newAge);
-                    patient.age = newAge;
-                }
-                if (newGender != null) {
-                    verifyGender(newGender);
-                    patient.gender = newGender.toUpperCase();
-                }
-                if (newContact != null) {
-                    verifyContact(newContact);
-                    patient.contact = newContact;
-                }
-                if (newNotes != null) {
-                    patient.notes = newNotes;
-                }
-
-                System.out.println("Patient information updated for ID: " + id);
-                break;
-            }
+        if (newName != null) {
+            patient.name = newName;
         }
-        
-        if (!isFound) {
-            throw new NurseSchedException(ExceptionMessage.PATIENT_NOT_FOUND);
-        } else {
-            PatientStorage.overwriteSaveFile(patientsList);
+        if (newAge != null) {
+            patient.age = parseAge(newAge);
+        }
+        if (newGender != null) {
+            patient.gender = parseGender(newGender);
+        }
+        if (newContact != null) {
+            patient.contact = parseContact(newContact);
         }
+        if (newNotes != null) {
+            patient.notes = newNotes;
+        }
+
+        System.out.println("Patient information updated for ID: " + id);
+        PatientStorage.overwriteSaveFile(patientsList);
     }
 
-    private static void verifyContact(String contact) throws NurseSchedException {
+    private static int parseContact(String contact) throws NurseSchedException {
         try {
             int contactNumber = Integer.parseInt(contact);
             if (contactNumber < 10000000 || contactNumber > 99999999) {
                 throw new NurseSchedException(ExceptionMessage.INVALID_CONTACT_LENGTH);
             }
+            return contactNumber;
         } catch (NumberFormatException e) {
             throw new NurseSchedException(ExceptionMessage.PATIENT_CONTACT_DIGITS);
         }
     }
 
-    private static void verifyAge(String age) throws NurseSchedException {
+    private static byte parseAge(String age) throws NurseSchedException {
         try {
             int ageNumber = Integer.parseInt(age);
             if (ageNumber < 0) {
@@ -278,12 +311,20 @@ public class Patient {
             } else if (ageNumber > 125) {
                 throw new NurseSchedException(ExceptionMessage.PATIENT_AGE_LIMIT);
             }
+            return (byte) ageNumber;
         } catch (NumberFormatException e) {
             throw new NurseSchedException(ExceptionMessage.PATIENT_AGE_DIGITS);
         }
     }
 
+    /**
+     * Returns the four-digit ID, including any leading zeros.
+     */
     public String getId() {
+        return String.format("%04d", id);
+    }
+
+    public int getIdNumber() {
         return id;
     }
 
@@ -292,14 +333,26 @@ public class Patient {
     }
 
     public String getAge() {
+        return Integer.toString(age);
+    }
+
+    public int getAgeInYears() {
         return age;
     }
 
     public String getGender() {
+        return gender.name();
+    }
+
+    public Gender getGenderValue() {
         return gender;
     }
 
     public String getContact() {
+        return Integer.toString(contact);
+    }
+
+    public int getContactNumber() {
         return contact;
     }
 
@@ -311,6 +364,19 @@ public class Patient {
         return patientsList;
     }
 
+    /**
+     * Replaces the patient list in memory with the contents of the save file, discarding unsaved changes.
+     */
+    public static void reloadFromFile() {
+        // The constructor rejects IDs already in the list, so the stale list must be cleared first
+        patientsList = new ArrayList<>();
+        try {
+            patientsList = PatientStorage.readFile();
+        } catch (NurseSchedException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
     /**
      * Returns a string representation of the patient's details.
      *
@@ -319,10 +385,10 @@ public class Patient {
     @Override
     public String toString() {
         return "Patient Details:\n" +
-                "  ID: " + id + "\n" +
+                "  ID: " + getId() + "\n" +
                 "  Name: " + name + "\n" +
                 "  Age: " + age + " years old\n" +
-                "  Gender: " + gender.toUpperCase() + "\n" +
+                "  Gender: " + gender + "\n" +
                 "  Contact: " + contact + "\n" +
                 (notes.isEmpty() ? "  Notes: No notes were given." : "  Notes: " + notes);
     }
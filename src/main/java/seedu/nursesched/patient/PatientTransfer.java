@@ -0,0 +1,128 @@
+package seedu.nursesched.patient;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.storage.PatientStorage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Imports and exports patient records in bulk.
+ * <p>
+ * Both use the save file format, {@code ID | NAME | AGE | GENDER | CONTACT | NOTES}, so an exported file can be
+ * imported on another machine. Records are streamed one line at a time, duplicate IDs are found with a hash set
+ * rather than by scanning the patient list for every record, and the patient save file is written once.
+ * </p>
+ */
+public class PatientTransfer {
+    private static final int MAX_REPORTED_ROWS = 50;
+
+    /**
+     * Adds every valid record in the file whose ID is not already in use, and reports the rejected records.
+     *
+     * @param filePath The path of the file to import.
+     * @throws NurseSchedException If the file cannot be read.
+     */
+    public static void importFromFile(String filePath) throws NurseSchedException {
+        ArrayList<Patient> patientsList = Patient.getPatientsList();
+        Set<String> usedIds = new HashSet<>(patientsList.size() * 2);
+        for (Patient patient : patientsList) {
+            usedIds.add(patient.getId());
+        }
+
+        ArrayList<Patient> importedPatients = new ArrayList<>();
+        Map<Integer, String> rejectedRows = new TreeMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(filePath))) {
+            int rowNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Patient patient = parseRecord(line);
+                    if (!usedIds.add(patient.getId())) {
+                        throw new NurseSchedException(ExceptionMessage.PATIENT_ID_EXIST);
+                    }
+                    importedPatients.add(patient);
+                } catch (NurseSchedException e) {
+                    rejectedRows.put(rowNumber, e.getMessage());
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new NurseSchedException(ExceptionMessage.PATIENT_FILE_NOT_READABLE);
+        }
+
+        if (!importedPatients.isEmpty()) {
+            patientsList.addAll(importedPatients);
+            PatientStorage.overwriteSaveFile(patientsList);
+        }
+        System.out.print(formatReport(filePath, importedPatients.size(), rejectedRows));
+    }
+
+    /**
+     * Writes every patient to the file, replacing its contents.
+     *
+     * @param filePath The path of the file to write.
+     * @throws NurseSchedException If the file cannot be written.
+     */
+    public static void exportToFile(String filePath) throws NurseSchedException {
+        ArrayList<Patient> patientsList = Patient.getPatientsList();
+        try {
+            Path path = Path.of(filePath);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path)) {
+                for (Patient patient : patientsList) {
+                    writer.write(PatientStorage.formatString(patient));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new NurseSchedException(ExceptionMessage.PATIENT_FILE_NOT_WRITABLE);
+        }
+        System.out.println("Exported " + patientsList.size() + " patients to " + filePath);
+    }
+
+    private static Patient parseRecord(String line) throws NurseSchedException {
+        String[] parts = line.split(" \\| ", 6);
+        if (parts.length < 5) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_PATIENT_RECORD);
+        }
+        String notes = parts.length > 5 ? parts[5].trim() : "";
+        return new Patient(parts[0].trim(), parts[1].trim(), parts[2].trim(), parts[3].trim(), parts[4].trim(),
+                notes, true);
+    }
+
+    private static String formatReport(String filePath, int importedCount, Map<Integer, String> rejectedRows) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Imported ").append(importedCount).append(" patients from ").append(filePath).append('\n');
+        if (rejectedRows.isEmpty()) {
+            return sb.toString();
+        }
+
+        sb.append("Rejected ").append(rejectedRows.size()).append(" records:\n");
+        int reported = 0;
+        for (Map.Entry<Integer, String> entry : rejectedRows.entrySet()) {
+            if (reported == MAX_REPORTED_ROWS) {
+                sb.append("... and ").append(rejectedRows.size() - reported).append(" more rejected records\n");
+                break;
+            }
+            sb.append("Line ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+            reported++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.nursesched.schedule;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Groups the entries of a list by date, keeping each date's entries sorted.
+ * <p>
+ * The index is rebuilt lazily by {@link #refresh(List, int)} whenever the source list has been replaced, has
+ * changed size, or its owner reports a new modification count. Lookups for one date are then O(log D) in the
+ * number of dates, and the entries of a date are already in order, so callers can sweep over them directly.
+ * Owners that add or remove entries themselves report the change through
+ * {@link #update(List, int, int, Object, Object)} instead, which costs O(log n) rather than a rebuild.
+ * </p>
+ *
+ * @param <T> The type of entry being indexed, e.g. appointments or shifts.
+ */
+public class DateIndex<T> {
+    private final Function<T, LocalDate> dateOf;
+    private final Comparator<T> order;
+    private final TreeMap<LocalDate, List<T>> entriesByDate = new TreeMap<>();
+
+    private List<T> source;
+    private int sourceSize = -1;
+    private int sourceModificationCount = -1;
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param dateOf Returns the date of an entry.
+     * @param order  The order of the entries within a date, e.g. by start time.
+     */
+    public DateIndex(Function<T, LocalDate> dateOf, Comparator<T> order) {
+        this.dateOf = dateOf;
+        this.order = order;
+    }
+
+    /**
+     * Rebuilds the index if the source list may have changed since it was last built.
+     *
+     * @param entries           The source list.
+     * @param modificationCount A counter that the owner of the list increases whenever an entry is replaced.
+     */
+    public void refresh(List<T> entries, int modificationCount) {
+        if (entries == source && entries.size() == sourceSize && modificationCount == sourceModificationCount) {
+            return;
+        }
+
+        entriesByDate.clear();
+        for (T entry : entries) {
+            entriesByDate.computeIfAbsent(dateOf.apply(entry), date -> new ArrayList<>()).add(entry);
+        }
+        for (List<T> dayEntries : entriesByDate.values()) {
+            dayEntries.sort(order);
+        }
+        source = entries;
+        sourceSize = entries.size();
+        sourceModificationCount = modificationCount;
+    }
+
+    /**
+     * Applies a change that has just been made to the source list, so that adding, removing or replacing an entry
+     * does not cost a rebuild. The removed entry must still have the date it was indexed under. If the index was
+     * not up to date before the change, nothing is done, and the index is rebuilt on the next
+     * {@link #refresh(List, int)}.
+     *
+     * @param entries              The source list, after the change.
+     * @param oldModificationCount The modification count before the change.
+     * @param newModificationCount The modification count after the change.
+     * @param removed              The entry removed from the list, or {@code null}.
+     * @param added                The entry added to the list, or {@code null}.
+     */
+    public void update(List<T> entries, int oldModificationCount, int newModificationCount, T removed, T added) {
+        int oldSize = entries.size() - (added == null ? 0 : 1) + (removed == null ? 0 : 1);
+        if (entries != source || oldSize != sourceSize || oldModificationCount != sourceModificationCount) {
+            return;
+        }
+        if (removed != null) {
+            LocalDate date = dateOf.apply(removed);
+            List<T> dayEntries = entriesByDate.get(date);
+            int index = dayEntries == null ? -1 : indexOf(dayEntries, removed);
+            if (index < 0) {
+                source = null;
+                return;
+            }
+            dayEntries.remove(index);
+            if (dayEntries.isEmpty()) {
+                entriesByDate.remove(date);
+            }
+        }
+        if (added != null) {
+            List<T> dayEntries = entriesByDate.computeIfAbsent(dateOf.apply(added), date -> new ArrayList<>());
+            dayEntries.add(upperBound(dayEntries, added), added);
+        }
+        sourceSize = entries.size();
+        sourceModificationCount = newModificationCount;
+    }
+
+    /**
+     * Returns the position of the first entry of a date that sorts after {@code entry}.
+     */
+    private int upperBound(List<T> dayEntries, T entry) {
+        int low = 0;
+        int high = dayEntries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(dayEntries.get(mid), entry) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of {@code entry} itself among the entries of its date that tie with it, or -1.
+     */
+    private int indexOf(List<T> dayEntries, T entry) {
+        int low = 0;
+        int high = dayEntries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(dayEntries.get(mid), entry) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < dayEntries.size() && order.compare(dayEntries.get(i), entry) == 0; i++) {
+            if (dayEntries.get(i) == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the sorted entries on a date.
+     *
+     * @param date The date to look up.
+     * @return An unmodifiable view of the entries, which is empty if there are none.
+     */
+    public List<T> get(LocalDate date) {
+        List<T> dayEntries = entriesByDate.get(date);
+        return dayEntries == null ? Collections.emptyList() : Collections.unmodifiableList(dayEntries);
+    }
+
+    /**
+     * Returns the entries of every date from {@code from} to {@code to}, both inclusive, in date order.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return An unmodifiable view of the dates in the range.
+     */
+    public NavigableMap<LocalDate, List<T>> getRange(LocalDate from, LocalDate to) {
+        return Collections.unmodifiableNavigableMap(entriesByDate.subMap(from, true, to, true));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.nursesched.schedule;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Maps the IDs of the entries of a list to the entries, e.g. appointment IDs to appointments.
+ * <p>
+ * Like {@link DateIndex}, the index is rebuilt lazily by {@link #refresh(List, int)} whenever the source list has
+ * been replaced, has changed size, or its owner reports a new modification count. Owners that change the list
+ * themselves report the change through {@link #update(List, int, int, Object, Object)} instead.
+ * </p>
+ *
+ * @param <T> The type of entry being indexed.
+ */
+public class IdIndex<T> {
+    private final ToIntFunction<T> idOf;
+    private final HashMap<Integer, T> entriesById = new HashMap<>();
+
+    private List<T> source;
+    private int sourceSize = -1;
+    private int sourceModificationCount = -1;
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param idOf Returns the ID of an entry.
+     */
+    public IdIndex(ToIntFunction<T> idOf) {
+        this.idOf = idOf;
+    }
+
+    /**
+     * Rebuilds the index if the source list may have changed since it was last built.
+     *
+     * @param entries           The source list.
+     * @param modificationCount A counter that the owner of the list increases whenever an entry is removed or
+     *                          replaced.
+     */
+    public void refresh(List<T> entries, int modificationCount) {
+        if (entries == source && entries.size() == sourceSize && modificationCount == sourceModificationCount) {
+            return;
+        }
+
+        entriesById.clear();
+        for (T entry : entries) {
+            entriesById.put(idOf.applyAsInt(entry), entry);
+        }
+        source = entries;
+        sourceSize = entries.size();
+        sourceModificationCount = modificationCount;
+    }
+
+    /**
+     * Applies a change that has just been made to the source list, so that adding, removing or replacing an entry
+     * does not cost a rebuild. If the index was not up to date before the change, nothing is done, and the index
+     * is rebuilt on the next {@link #refresh(List, int)}.
+     *
+     * @param entries              The source list, after the change.
+     * @param oldModificationCount The modification count before the change.
+     * @param newModificationCount The modification count after the change.
+     * @param removed              The entry removed from the list, or {@code null}.
+     * @param added                The entry added to the list, or {@code null}.
+     */
+    public void update(List<T> entries, int oldModificationCount, int newModificationCount, T removed, T added) {
+        int oldSize = entries.size() - (added == null ? 0 : 1) + (removed == null ? 0 : 1);
+        if (entries != source || oldSize != sourceSize || oldModificationCount != sourceModificationCount) {
+            return;
+        }
+        if (removed != null) {
+            entriesById.remove(idOf.applyAsInt(removed));
+        }
+        if (added != null) {
+            entriesById.put(idOf.applyAsInt(added), added);
+        }
+        sourceSize = entries.size();
+        sourceModificationCount = newModificationCount;
+    }
+
+    /**
+     * Returns the entry with an ID.
+     *
+     * @param id The ID to look up.
+     * @return The entry, or {@code null} if there is none.
+     */
+    public T get(int id) {
+        return entriesById.get(id);
+    }
+}
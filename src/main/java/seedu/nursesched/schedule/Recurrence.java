@@ -0,0 +1,197 @@
+package seedu.nursesched.schedule;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * A rule for something that happens every fixed number of days, e.g. every 7 days from a first date.
+ * <p>
+ * The rule can stop after a last date, after a number of occurrences, or never. Whether it occurs on a date is
+ * answered with arithmetic on the day number, so a long series never has to be expanded to be queried.
+ * </p>
+ */
+public class Recurrence {
+    public static final int MAX_INTERVAL_DAYS = 365;
+    public static final int MAX_OCCURRENCES = 1000;
+    public static final int MAX_YEARS = 10;
+
+    private final LocalDate firstDate;
+    private final int intervalDays;
+    private final LocalDate untilDate;
+    private final int count;
+    private final LocalDate lastDate;
+
+    /**
+     * Constructs a recurrence rule.
+     *
+     * @param firstDate    The date of the first occurrence.
+     * @param intervalDays The number of days between occurrences, e.g. 7 for weekly.
+     * @param untilDate    The date after which there are no more occurrences, or null.
+     * @param count        The number of occurrences, or 0 if there is no limit.
+     */
+    public Recurrence(LocalDate firstDate, int intervalDays, LocalDate untilDate, int count) {
+        assert intervalDays >= 1 : "Interval must be at least one day";
+        assert count >= 0 : "Count cannot be negative";
+
+        this.firstDate = firstDate;
+        this.intervalDays = intervalDays;
+        this.untilDate = untilDate;
+        this.count = count;
+
+        LocalDate last = count > 0 ? firstDate.plusDays((long) (count - 1) * intervalDays) : null;
+        if (untilDate != null && !untilDate.isBefore(firstDate)) {
+            long lastIndex = (untilDate.toEpochDay() - firstDate.toEpochDay()) / intervalDays;
+            LocalDate lastBeforeUntil = firstDate.plusDays(lastIndex * intervalDays);
+            last = last == null || lastBeforeUntil.isBefore(last) ? lastBeforeUntil : last;
+        }
+        this.lastDate = last;
+    }
+
+    /**
+     * Parses how often something repeats into a number of days.
+     *
+     * @param interval "daily", "weekly", or a number of days from 1 to {@value #MAX_INTERVAL_DAYS}.
+     * @return The number of days between occurrences, or 0 if the interval is not valid.
+     */
+    public static int parseIntervalDays(String interval) {
+        switch (interval.toLowerCase()) {
+        case "daily":
+            return 1;
+        case "weekly":
+            return 7;
+        default:
+            try {
+                int days = Integer.parseInt(interval);
+                return days >= 1 && days <= MAX_INTERVAL_DAYS ? days : 0;
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns whether a series is short enough to be stored and queried: at most {@value #MAX_OCCURRENCES}
+     * occurrences, and a last date at most {@value #MAX_YEARS} years after the first. Longer series could have
+     * dates past the last one {@link LocalDate} can hold.
+     *
+     * @param firstDate The date of the first occurrence.
+     * @param untilDate The date after which there are no more occurrences, or null.
+     * @param count     The number of occurrences, or 0 if there is no limit.
+     */
+    public static boolean isWithinLimits(LocalDate firstDate, LocalDate untilDate, int count) {
+        if (count < 0 || count > MAX_OCCURRENCES) {
+            return false;
+        }
+        if (untilDate == null) {
+            return true;
+        }
+        // Compared as a period rather than with plusYears, which throws for a first date near the largest one
+        Period length = Period.between(firstDate, untilDate);
+        long maxMonths = MAX_YEARS * 12L;
+        return length.toTotalMonths() < maxMonths || (length.toTotalMonths() == maxMonths && length.getDays() == 0);
+    }
+
+    /**
+     * Returns whether there is an occurrence on a date.
+     */
+    public boolean occursOn(LocalDate date) {
+        long daysFromFirst = date.toEpochDay() - firstDate.toEpochDay();
+        return daysFromFirst >= 0 && daysFromFirst % intervalDays == 0
+                && (lastDate == null || !date.isAfter(lastDate));
+    }
+
+    /**
+     * Returns the first occurrence on or after a date, or null if the series has ended by then.
+     */
+    public LocalDate getFirstOccurrenceFrom(LocalDate date) {
+        LocalDate occurrence = firstDate;
+        if (date.isAfter(firstDate)) {
+            long daysFromFirst = date.toEpochDay() - firstDate.toEpochDay();
+            long occurrenceIndex = (daysFromFirst + intervalDays - 1) / intervalDays;
+            occurrence = firstDate.plusDays(occurrenceIndex * intervalDays);
+        }
+        return lastDate != null && occurrence.isAfter(lastDate) ? null : occurrence;
+    }
+
+    /**
+     * Returns the occurrence after a given occurrence, or null if the series ends with it.
+     */
+    public LocalDate getNextOccurrence(LocalDate occurrence) {
+        LocalDate next = occurrence.plusDays(intervalDays);
+        return lastDate != null && next.isAfter(lastDate) ? null : next;
+    }
+
+    /**
+     * Returns the first date on which both this and another rule occur, or null if there is none.
+     * Occurrences are evenly spaced, so the common dates are found with the Chinese remainder theorem.
+     */
+    public LocalDate findCommonDate(Recurrence other) {
+        long firstDay = firstDate.toEpochDay();
+        long otherFirstDay = other.firstDate.toEpochDay();
+        long gcd = BigInteger.valueOf(intervalDays).gcd(BigInteger.valueOf(other.intervalDays)).longValue();
+        long difference = otherFirstDay - firstDay;
+        if (Math.floorMod(difference, gcd) != 0) {
+            return null;
+        }
+
+        // Solve firstDay + k * intervalDays = otherFirstDay (mod other.intervalDays) for k
+        long modulus = other.intervalDays / gcd;
+        long k = 0;
+        if (modulus > 1) {
+            long inverse = BigInteger.valueOf(intervalDays / gcd).modInverse(BigInteger.valueOf(modulus))
+                    .longValue();
+            k = Math.floorMod((difference / gcd) % modulus * inverse, modulus);
+        }
+        long commonDay = firstDay + k * intervalDays;
+        long period = intervalDays / gcd * other.intervalDays;
+
+        long earliestDay = Math.max(firstDay, otherFirstDay);
+        if (commonDay < earliestDay) {
+            commonDay += (earliestDay - commonDay + period - 1) / period * period;
+        }
+        LocalDate commonDate = LocalDate.ofEpochDay(commonDay);
+        boolean isWithinSeries = (lastDate == null || !commonDate.isAfter(lastDate))
+                && (other.lastDate == null || !commonDate.isAfter(other.lastDate));
+        return isWithinSeries ? commonDate : null;
+    }
+
+    /**
+     * Returns how often the rule repeats and when it stops, e.g. "weekly from 2026-11-02, 3 times".
+     */
+    @Override
+    public String toString() {
+        String repeats = intervalDays == 1 ? "daily" : intervalDays == 7 ? "weekly" : "every " + intervalDays + " days";
+        repeats += " from " + firstDate;
+        if (untilDate != null) {
+            repeats += " until " + untilDate;
+        }
+        if (count > 0) {
+            repeats += ", " + count + " times";
+        }
+        return repeats;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    public LocalDate getUntilDate() {
+        return untilDate;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the date of the last occurrence, or null if the series never ends.
+     */
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.nursesched.schedule;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.shift.Shift;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks the appointments against the nurse's own shifts.
+ * <p>
+ * Appointments and shifts are each read in date and time order, and neither overlaps others of its own kind, so
+ * both streams are merge-joined in one pass: a shift pointer only moves forward, and each appointment is only
+ * compared with the shifts around it. This finds appointments that are not fully covered by shifts, and shifts
+ * that no appointment falls in, in time linear in the number of appointments and shifts.
+ * </p>
+ */
+public class ScheduleChecker {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final List<Appointment> uncoveredAppointments = new ArrayList<>();
+    private final List<Shift> idleShifts = new ArrayList<>();
+
+    /**
+     * Merge-joins appointments and shifts that are both sorted by date and start time.
+     *
+     * @param appointments The appointments, none overlapping another.
+     * @param shifts       The shifts, none overlapping another.
+     */
+    ScheduleChecker(List<Appointment> appointments, List<Shift> shifts) {
+        boolean[] hasAppointment = new boolean[shifts.size()];
+        int firstShift = 0;
+        for (Appointment appointment : appointments) {
+            long start = toMinutes(appointment.getLocalDate(), appointment.getLocalStartTime());
+            long end = toMinutes(appointment.getLocalDate(), appointment.getLocalEndTime());
+
+            // Shifts ending before this appointment cannot contain any later appointment either
+            while (firstShift < shifts.size() && shiftEnd(shifts.get(firstShift)) <= start) {
+                firstShift++;
+            }
+
+            long coveredUntil = start;
+            for (int i = firstShift; i < shifts.size() && shiftStart(shifts.get(i)) < end; i++) {
+                hasAppointment[i] = true;
+                if (shiftStart(shifts.get(i)) <= coveredUntil) {
+                    coveredUntil = Math.max(coveredUntil, shiftEnd(shifts.get(i)));
+                }
+            }
+            if (coveredUntil < end) {
+                uncoveredAppointments.add(appointment);
+            }
+        }
+
+        for (int i = 0; i < shifts.size(); i++) {
+            if (!hasAppointment[i]) {
+                idleShifts.add(shifts.get(i));
+            }
+        }
+    }
+
+    /**
+     * Checks the appointments and shifts from {@code from} to {@code to}, both inclusive, including occurrences
+     * of recurring appointments and shifts, and prints the appointments outside the shifts and the shifts with
+     * no appointments.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     */
+    public static void printCheck(LocalDate from, LocalDate to) {
+        assert !from.isAfter(to) : "The first date cannot be after the last date";
+        ScheduleChecker checker = check(from, to);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Schedule check from ").append(from).append(" to ").append(to).append(":\n");
+        if (checker.uncoveredAppointments.isEmpty() && checker.idleShifts.isEmpty()) {
+            sb.append("Every appointment is within a shift, and every shift has an appointment.\n");
+        }
+        if (!checker.uncoveredAppointments.isEmpty()) {
+            sb.append("Appointments outside your shifts (").append(checker.uncoveredAppointments.size())
+                    .append("):\n");
+            for (Appointment appointment : checker.uncoveredAppointments) {
+                sb.append(appointment).append('\n');
+            }
+        }
+        if (!checker.idleShifts.isEmpty()) {
+            sb.append("Shifts with no appointments (").append(checker.idleShifts.size()).append("):\n");
+            for (Shift shift : checker.idleShifts) {
+                sb.append(shift).append('\n');
+            }
+        }
+        System.out.print(sb);
+    }
+
+    /**
+     * Checks the appointments and shifts from {@code from} to {@code to}, both inclusive.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return The result of the check.
+     */
+    public static ScheduleChecker check(LocalDate from, LocalDate to) {
+        return new ScheduleChecker(Appointment.getAppointmentsBetween(from, to), Shift.getShiftsBetween(from, to));
+    }
+
+    /**
+     * Returns the appointments that are not entirely within one or more back-to-back shifts, in time order.
+     */
+    public List<Appointment> getUncoveredAppointments() {
+        return uncoveredAppointments;
+    }
+
+    /**
+     * Returns the shifts that no appointment overlaps, in time order.
+     */
+    public List<Shift> getIdleShifts() {
+        return idleShifts;
+    }
+
+    private static long shiftStart(Shift shift) {
+        return toMinutes(shift.getDate(), shift.getStartTime());
+    }
+
+    private static long shiftEnd(Shift shift) {
+        return toMinutes(shift.getDate(), shift.getEndTime());
+    }
+
+    private static long toMinutes(LocalDate date, LocalTime time) {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+}
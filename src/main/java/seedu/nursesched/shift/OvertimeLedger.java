@@ -0,0 +1,131 @@
+package seedu.nursesched.shift;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps running totals of overtime hours by date, so the overtime of any date range is found without scanning
+ * every shift.
+ * <p>
+ * The totals are held in a Fenwick tree over day numbers counted from the earliest date seen, so adding
+ * overtime to a date and summing a date range are both O(log D) in the number of days covered. The range of
+ * days grows, doubling in size, when a date outside it is added.
+ * </p>
+ */
+class OvertimeLedger {
+    private static final int MIN_CAPACITY = 64;
+
+    private long firstEpochDay;
+    private double[] dayTotals;
+    private double[] tree;
+
+    /**
+     * Constructs a ledger holding the overtime of every shift in the list.
+     *
+     * @param shifts The shifts to total.
+     */
+    OvertimeLedger(List<Shift> shifts) {
+        long minEpochDay = Long.MAX_VALUE;
+        long maxEpochDay = Long.MIN_VALUE;
+        for (Shift shift : shifts) {
+            minEpochDay = Math.min(minEpochDay, shift.getDate().toEpochDay());
+            maxEpochDay = Math.max(maxEpochDay, shift.getDate().toEpochDay());
+        }
+        if (shifts.isEmpty()) {
+            minEpochDay = LocalDate.now().toEpochDay();
+            maxEpochDay = minEpochDay;
+        }
+
+        firstEpochDay = minEpochDay;
+        dayTotals = new double[Math.max(MIN_CAPACITY, (int) (maxEpochDay - minEpochDay + 1))];
+        for (Shift shift : shifts) {
+            dayTotals[(int) (shift.getDate().toEpochDay() - firstEpochDay)] += shift.getOvertimeHours();
+        }
+        rebuildTree();
+    }
+
+    /**
+     * Builds the Fenwick tree from the day totals in O(D), by pushing each node's sum up to its parent.
+     */
+    private void rebuildTree() {
+        tree = new double[dayTotals.length + 1];
+        for (int i = 1; i <= dayTotals.length; i++) {
+            tree[i] += dayTotals[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= dayTotals.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Grows the range of days, doubling its size, until it covers the given day.
+     */
+    private void ensureCovered(long epochDay) {
+        if (epochDay >= firstEpochDay && epochDay < firstEpochDay + dayTotals.length) {
+            return;
+        }
+
+        long newFirstEpochDay = Math.min(firstEpochDay, epochDay);
+        long newEndEpochDay = Math.max(firstEpochDay + dayTotals.length, epochDay + 1);
+        int capacity = dayTotals.length;
+        while (capacity < newEndEpochDay - newFirstEpochDay) {
+            capacity *= 2;
+        }
+        if (epochDay < firstEpochDay) {
+            newFirstEpochDay = newEndEpochDay - capacity;
+        }
+
+        double[] newDayTotals = new double[capacity];
+        System.arraycopy(dayTotals, 0, newDayTotals, (int) (firstEpochDay - newFirstEpochDay), dayTotals.length);
+        firstEpochDay = newFirstEpochDay;
+        dayTotals = newDayTotals;
+        rebuildTree();
+    }
+
+    /**
+     * Adds overtime hours to a date. A negative amount removes hours.
+     *
+     * @param date  The date of the shift.
+     * @param hours The change in overtime hours.
+     */
+    void add(LocalDate date, double hours) {
+        if (hours == 0) {
+            return;
+        }
+        ensureCovered(date.toEpochDay());
+        int index = (int) (date.toEpochDay() - firstEpochDay);
+        dayTotals[index] += hours;
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] += hours;
+        }
+    }
+
+    /**
+     * Returns the total overtime hours from the start of the ledger up to and including a day index.
+     */
+    private double prefixSum(long index) {
+        if (index < 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = (int) Math.min(index + 1, dayTotals.length); i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the total overtime hours from {@code from} to {@code to}, both inclusive.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return The total overtime hours, or 0 if {@code from} is after {@code to}.
+     */
+    double sum(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        return prefixSum(to.toEpochDay() - firstEpochDay) - prefixSum(from.toEpochDay() - firstEpochDay - 1);
+    }
+}
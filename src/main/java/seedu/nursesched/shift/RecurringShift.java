@@ -0,0 +1,111 @@
+package seedu.nursesched.shift;
+
+import seedu.nursesched.schedule.Recurrence;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Represents a shift that repeats every fixed number of days, e.g. a nurse's weekly Monday ward round.
+ * <p>
+ * Only the {@link Recurrence} rule is stored, as one line of the shift save file. Occurrences are created as
+ * {@link Shift} objects only for the dates being listed or checked, so a long rotation costs no more memory or
+ * disk space than a single shift.
+ * </p>
+ */
+public class RecurringShift {
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final Recurrence recurrence;
+    private final String shiftTask;
+
+    /**
+     * Constructs a recurring shift.
+     *
+     * @param startTime    The start time of each occurrence.
+     * @param endTime      The end time of each occurrence.
+     * @param firstDate    The date of the first occurrence.
+     * @param intervalDays The number of days between occurrences, e.g. 7 for a weekly shift.
+     * @param untilDate    The date after which there are no more occurrences, or null.
+     * @param count        The number of occurrences, or 0 if there is no limit.
+     * @param shiftTask    The task assigned during each occurrence.
+     */
+    public RecurringShift(LocalTime startTime, LocalTime endTime, LocalDate firstDate, int intervalDays,
+            LocalDate untilDate, int count, String shiftTask) {
+        assert startTime.isBefore(endTime) : "Start time must be before end time";
+
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.recurrence = new Recurrence(firstDate, intervalDays, untilDate, count);
+        this.shiftTask = shiftTask;
+    }
+
+    /**
+     * Returns whether the shift has an occurrence on a date.
+     */
+    public boolean occursOn(LocalDate date) {
+        return recurrence.occursOn(date);
+    }
+
+    /**
+     * Returns whether an occurrence would overlap a shift with the given times on the same date. Shifts that
+     * only touch, e.g. one ending at 15:00 and the next starting at 15:00, do not overlap.
+     */
+    boolean overlaps(LocalTime otherStartTime, LocalTime otherEndTime) {
+        return startTime.isBefore(otherEndTime) && endTime.isAfter(otherStartTime);
+    }
+
+    /**
+     * Returns the first date on which both this and another recurring shift occur, or null if there is none.
+     */
+    LocalDate findCommonDate(RecurringShift other) {
+        return recurrence.findCommonDate(other.recurrence);
+    }
+
+    Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    /**
+     * Returns the occurrence on a date as a shift.
+     */
+    Shift toOccurrence(LocalDate date) {
+        return new Shift(this, date);
+    }
+
+    @Override
+    public String toString() {
+        return "From: " + startTime + ", " +
+                "To: " + endTime + ", " +
+                "Repeats: " + recurrence + ", " +
+                "shiftTask: " + shiftTask;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public LocalDate getFirstDate() {
+        return recurrence.getFirstDate();
+    }
+
+    public int getIntervalDays() {
+        return recurrence.getIntervalDays();
+    }
+
+    public LocalDate getUntilDate() {
+        return recurrence.getUntilDate();
+    }
+
+    public int getCount() {
+        return recurrence.getCount();
+    }
+
+    public String getShiftTask() {
+        return shiftTask;
+    }
+}
@@ -0,0 +1,365 @@
+package seedu.nursesched.shift;
+
+import seedu.nursesched.exception.ExceptionMessage;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.storage.ShiftStorage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generates a roster of shifts over a number of weeks from a set of {@link ShiftTemplate}s.
+ * <p>
+ * Every day is either off or covered by one template. A roster must respect these constraints:
+ * </p>
+ * <ul>
+ *     <li>No shift is added on a day that already has a shift, or before the current time.</li>
+ *     <li>There are at least {@link #MIN_REST_MINUTES} minutes of rest between consecutive shifts.</li>
+ *     <li>Each seven-day block has at most the given number of shifts, counting existing ones.</li>
+ * </ul>
+ * <p>
+ * Among those rosters, the one with the highest score is chosen. Each shift scores points, with a bonus for the
+ * template that the week rotates to, and points are taken off for changing template between consecutive days
+ * and for a single day off between two working days. Since the score only depends on the days within a week
+ * and on the two days before it, each week is searched exhaustively for the best plan for every state of the
+ * two days before the week and of its last two days. A state is the choice on the later day and whether the
+ * earlier day is worked, which is all that the next day is scored on. The weeks are searched in parallel on
+ * the fork/join pool, and the week plans are then chained together with a single pass of dynamic programming
+ * over the weeks.
+ * </p>
+ */
+public class RosterGenerator {
+    public static final int DEFAULT_MAX_SHIFTS_PER_WEEK = 5;
+    public static final int MAX_WEEKS = 52;
+    static final long MIN_REST_MINUTES = 11 * 60;
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final int SHIFT_SCORE = 10;
+    private static final int PREFERRED_TEMPLATE_BONUS = 2;
+    private static final int TEMPLATE_CHANGE_PENALTY = 3;
+    private static final int SPLIT_DAY_OFF_PENALTY = 1;
+    private static final int NO_PLAN = Integer.MIN_VALUE;
+    private static final int OFF = 0;
+
+    private final LocalDate startDate;
+    private final int weeks;
+    private final List<ShiftTemplate> templates;
+    private final int maxShiftsPerWeek;
+    private final LocalDateTime earliestStart;
+    private final Map<LocalDate, LocalTime[]> existingHours = new HashMap<>();
+    private final boolean[][] isRestLongEnough;
+    private final WeekPlan[] weekPlans;
+
+    /**
+     * The best plans for one week. A choice is {@link #OFF} or a template number, which is the template's
+     * position in {@link #templates} plus one. Plans are indexed by the state of the two days before the week
+     * and by the state of the last two days of the week, see {@link #toState(int, boolean, int)}.
+     */
+    private static class WeekPlan {
+        private final int[][] scores;
+        private final int[][][] choices;
+
+        private WeekPlan(int stateCount) {
+            scores = new int[stateCount][stateCount];
+            choices = new int[stateCount][stateCount][];
+            for (int[] row : scores) {
+                Arrays.fill(row, NO_PLAN);
+            }
+        }
+    }
+
+    /**
+     * Searches a range of weeks, splitting the range in half until a single week is left.
+     */
+    private static class WeekSearch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RosterGenerator generator;
+        private final int fromWeek;
+        private final int toWeek;
+
+        private WeekSearch(RosterGenerator generator, int fromWeek, int toWeek) {
+            this.generator = generator;
+            this.fromWeek = fromWeek;
+            this.toWeek = toWeek;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWeek - fromWeek == 1) {
+                generator.weekPlans[fromWeek] = generator.searchWeek(fromWeek);
+                return;
+            }
+            int midWeek = (fromWeek + toWeek) >>> 1;
+            invokeAll(new WeekSearch(generator, fromWeek, midWeek), new WeekSearch(generator, midWeek, toWeek));
+        }
+    }
+
+    private RosterGenerator(LocalDate startDate, int weeks, List<ShiftTemplate> templates, int maxShiftsPerWeek) {
+        this.startDate = startDate;
+        this.weeks = weeks;
+        this.templates = templates;
+        this.maxShiftsPerWeek = maxShiftsPerWeek;
+        this.earliestStart = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        this.weekPlans = new WeekPlan[weeks];
+
+        for (Shift shift : Shift.getShiftsBetween(startDate.minusDays(2), startDate.plusWeeks(weeks))) {
+            LocalTime[] hours = existingHours.get(shift.getDate());
+            if (hours == null) {
+                existingHours.put(shift.getDate(), new LocalTime[] {shift.getStartTime(), shift.getEndTime()});
+                continue;
+            }
+            if (shift.getStartTime().isBefore(hours[0])) {
+                hours[0] = shift.getStartTime();
+            }
+            if (shift.getEndTime().isAfter(hours[1])) {
+                hours[1] = shift.getEndTime();
+            }
+        }
+
+        int choiceCount = templates.size() + 1;
+        isRestLongEnough = new boolean[choiceCount][choiceCount];
+        for (int previous = 0; previous < choiceCount; previous++) {
+            for (int next = 0; next < choiceCount; next++) {
+                isRestLongEnough[previous][next] = previous == OFF || next == OFF
+                        || hasEnoughRest(getTemplate(previous).getEndTime(), getTemplate(next).getStartTime());
+            }
+        }
+    }
+
+    /**
+     * Generates a roster, adds its shifts to the shift list and saves them with a single write.
+     *
+     * @param startDate        The first date of the roster.
+     * @param weeks            The number of seven-day blocks to generate, from 1 to {@link #MAX_WEEKS}.
+     * @param templates        The templates to rotate through, one per week, in order.
+     * @param maxShiftsPerWeek The maximum number of shifts in each seven-day block, from 1 to 7.
+     * @throws NurseSchedException If the start date has already passed.
+     */
+    public static void generateRoster(LocalDate startDate, int weeks, List<ShiftTemplate> templates,
+            int maxShiftsPerWeek) throws NurseSchedException {
+        assert weeks >= 1 && weeks <= MAX_WEEKS : "Number of weeks must be between 1 and " + MAX_WEEKS;
+        assert !templates.isEmpty() : "At least one template is required";
+        assert maxShiftsPerWeek >= 1 && maxShiftsPerWeek <= DAYS_PER_WEEK : "Shifts per week must be 1 to 7";
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_DATE);
+        }
+
+        RosterGenerator generator = new RosterGenerator(startDate, weeks, templates, maxShiftsPerWeek);
+        ForkJoinPool.commonPool().invoke(new WeekSearch(generator, 0, weeks));
+        ArrayList<Shift> roster = generator.buildRoster();
+
+        if (!roster.isEmpty()) {
+            Shift.addShifts(roster);
+            ShiftStorage.overwriteSaveFile(Shift.getShiftList());
+        }
+        System.out.println(generator.formatSummary(roster));
+    }
+
+    private ShiftTemplate getTemplate(int choice) {
+        return templates.get(choice - 1);
+    }
+
+    /**
+     * Returns the index of the state of two consecutive days.
+     *
+     * @param choice        The choice on the later day.
+     * @param isDayWorking  Whether the earlier day is worked, by a new or an existing shift.
+     * @param choiceCount   The number of choices, {@link #OFF} included.
+     */
+    private static int toState(int choice, boolean isDayWorking, int choiceCount) {
+        return choice + (isDayWorking ? choiceCount : 0);
+    }
+
+    private static boolean hasEnoughRest(LocalTime previousDayEnd, LocalTime nextDayStart) {
+        long restMinutes = MINUTES_PER_DAY - previousDayEnd.toSecondOfDay() / 60 + nextDayStart.toSecondOfDay() / 60;
+        return restMinutes >= MIN_REST_MINUTES;
+    }
+
+    /**
+     * Returns whether a template can be placed on a date, given the current time and the existing shifts on the
+     * date and on the days around it.
+     */
+    private boolean isAllowed(ShiftTemplate template, LocalDate date) {
+        if (date.atTime(template.getStartTime()).isBefore(earliestStart)) {
+            return false;
+        }
+        LocalTime[] previousDay = existingHours.get(date.minusDays(1));
+        if (previousDay != null && !hasEnoughRest(previousDay[1], template.getStartTime())) {
+            return false;
+        }
+        LocalTime[] nextDay = existingHours.get(date.plusDays(1));
+        return nextDay == null || hasEnoughRest(template.getEndTime(), nextDay[0]);
+    }
+
+    /**
+     * Finds the best plan of a week for every state of the two days before the week and of its last two days.
+     */
+    private WeekPlan searchWeek(int week) {
+        int choiceCount = templates.size() + 1;
+        LocalDate firstDate = startDate.plusDays((long) week * DAYS_PER_WEEK);
+        boolean[] hasExisting = new boolean[DAYS_PER_WEEK];
+        boolean[][] isAllowed = new boolean[DAYS_PER_WEEK][choiceCount];
+        int existingCount = 0;
+        for (int day = 0; day < DAYS_PER_WEEK; day++) {
+            LocalDate date = firstDate.plusDays(day);
+            hasExisting[day] = existingHours.containsKey(date);
+            existingCount += hasExisting[day] ? 1 : 0;
+            isAllowed[day][OFF] = true;
+            for (int choice = 1; choice < choiceCount && !hasExisting[day]; choice++) {
+                isAllowed[day][choice] = isAllowed(getTemplate(choice), date);
+            }
+        }
+        boolean isDayBeforeExisting = existingHours.containsKey(firstDate.minusDays(1));
+
+        WeekSearchState state = new WeekSearchState(new WeekPlan(2 * choiceCount), hasExisting, isAllowed,
+                1 + week % templates.size());
+        for (int entryChoice = 0; entryChoice < choiceCount; entryChoice++) {
+            for (boolean isTwoDaysBeforeWorking : new boolean[] {false, true}) {
+                state.entry = toState(entryChoice, isTwoDaysBeforeWorking, choiceCount);
+                state.search(0, entryChoice, entryChoice != OFF || isDayBeforeExisting, isTwoDaysBeforeWorking,
+                        existingCount, 0);
+            }
+        }
+        return state.plan;
+    }
+
+    /**
+     * The depth-first search over the choices of one week.
+     */
+    private class WeekSearchState {
+        private final WeekPlan plan;
+        private final boolean[] hasExisting;
+        private final boolean[][] isAllowed;
+        private final int preferredChoice;
+        private final int[] current = new int[DAYS_PER_WEEK];
+        private int entry;
+
+        private WeekSearchState(WeekPlan plan, boolean[] hasExisting, boolean[][] isAllowed, int preferredChoice) {
+            this.plan = plan;
+            this.hasExisting = hasExisting;
+            this.isAllowed = isAllowed;
+            this.preferredChoice = preferredChoice;
+        }
+
+        private void search(int day, int previousChoice, boolean isPreviousWorking, boolean isTwoDaysAgoWorking,
+                int shiftCount, int score) {
+            if (day == DAYS_PER_WEEK) {
+                int exit = toState(current[DAYS_PER_WEEK - 1], isTwoDaysAgoWorking, isRestLongEnough.length);
+                if (score > plan.scores[entry][exit]) {
+                    plan.scores[entry][exit] = score;
+                    plan.choices[entry][exit] = current.clone();
+                }
+                return;
+            }
+
+            for (int choice = 0; choice < isAllowed[day].length; choice++) {
+                if (!isAllowed[day][choice] || !isRestLongEnough[previousChoice][choice]) {
+                    continue;
+                }
+                boolean isWorking = choice != OFF || hasExisting[day];
+                int nextScore = score;
+                int nextShiftCount = shiftCount;
+                if (choice != OFF) {
+                    if (shiftCount == maxShiftsPerWeek) {
+                        continue;
+                    }
+                    nextShiftCount++;
+                    nextScore += SHIFT_SCORE + (choice == preferredChoice ? PREFERRED_TEMPLATE_BONUS : 0);
+                    if (previousChoice != OFF && previousChoice != choice) {
+                        nextScore -= TEMPLATE_CHANGE_PENALTY;
+                    }
+                }
+                if (isWorking && !isPreviousWorking && isTwoDaysAgoWorking) {
+                    nextScore -= SPLIT_DAY_OFF_PENALTY;
+                }
+                current[day] = choice;
+                search(day + 1, choice, isWorking, isPreviousWorking, nextShiftCount, nextScore);
+            }
+        }
+    }
+
+    /**
+     * Chains the week plans together, choosing the plan of each week that gives the highest total score.
+     */
+    private ArrayList<Shift> buildRoster() {
+        int stateCount = 2 * (templates.size() + 1);
+        int[] bestScores = new int[stateCount];
+        Arrays.fill(bestScores, NO_PLAN);
+        bestScores[toState(OFF, existingHours.containsKey(startDate.minusDays(2)), templates.size() + 1)] = 0;
+        int[][] bestEntries = new int[weeks][stateCount];
+
+        for (int week = 0; week < weeks; week++) {
+            int[] nextScores = new int[stateCount];
+            Arrays.fill(nextScores, NO_PLAN);
+            for (int entry = 0; entry < stateCount; entry++) {
+                for (int exit = 0; exit < stateCount && bestScores[entry] != NO_PLAN; exit++) {
+                    int weekScore = weekPlans[week].scores[entry][exit];
+                    if (weekScore != NO_PLAN && bestScores[entry] + weekScore > nextScores[exit]) {
+                        nextScores[exit] = bestScores[entry] + weekScore;
+                        bestEntries[week][exit] = entry;
+                    }
+                }
+            }
+            bestScores = nextScores;
+        }
+
+        int exit = 0;
+        for (int state = 1; state < stateCount; state++) {
+            if (bestScores[state] > bestScores[exit]) {
+                exit = state;
+            }
+        }
+        int[][] chosen = new int[weeks][];
+        for (int week = weeks - 1; week >= 0; week--) {
+            int entry = bestEntries[week][exit];
+            chosen[week] = weekPlans[week].choices[entry][exit];
+            exit = entry;
+        }
+
+        ArrayList<Shift> roster = new ArrayList<>();
+        for (int week = 0; week < weeks; week++) {
+            for (int day = 0; day < DAYS_PER_WEEK; day++) {
+                if (chosen[week][day] == OFF) {
+                    continue;
+                }
+                ShiftTemplate template = getTemplate(chosen[week][day]);
+                LocalDate date = startDate.plusDays((long) week * DAYS_PER_WEEK + day);
+                roster.add(new Shift(template.getStartTime(), template.getEndTime(), date, template.getTask()));
+            }
+        }
+        return roster;
+    }
+
+    private String formatSummary(ArrayList<Shift> roster) {
+        LocalDate lastDate = startDate.plusDays((long) weeks * DAYS_PER_WEEK - 1);
+        Map<ShiftTemplate, Integer> counts = new EnumMap<>(ShiftTemplate.class);
+        for (Shift shift : roster) {
+            for (ShiftTemplate template : templates) {
+                if (template.getStartTime().equals(shift.getStartTime())) {
+                    counts.merge(template, 1, Integer::sum);
+                }
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Generated ").append(roster.size()).append(" shifts from ").append(startDate).append(" to ")
+                .append(lastDate);
+        for (ShiftTemplate template : templates) {
+            sb.append(template == templates.get(0) ? " (" : ", ").append(template.name().toLowerCase())
+                    .append(": ").append(counts.getOrDefault(template, 0));
+        }
+        return sb.append("). Use shift list to view them.").toString();
+    }
+}
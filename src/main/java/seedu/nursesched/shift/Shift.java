@@ -2,16 +2,27 @@ package seedu.nursesched.shift;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.schedule.DateIndex;
+import seedu.nursesched.schedule.IdIndex;
 import seedu.nursesched.storage.ShiftStorage;
+import seedu.nursesched.storage.StringPool;
+import seedu.nursesched.ui.ListPrinter;
+import seedu.nursesched.ui.RecordFormat;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
+import java.time.temporal.ChronoField;
+import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -23,20 +34,40 @@ import java.util.logging.SimpleFormatter;
  */
 public class Shift {
     protected static ArrayList<Shift> shiftList = new ArrayList<>();
+    protected static ArrayList<RecurringShift> recurringShiftList = new ArrayList<>();
     private static final Logger logr = Logger.getLogger("Shift");
-
+    private static OvertimeLedger overtimeLedger;
+    private static ArrayList<Shift> overtimeLedgerSource;
+    private static final DateIndex<Shift> dateIndex = new DateIndex<>(Shift::getDate,
+            Comparator.comparing(Shift::getStartTime));
+    private static int modificationCount = 0;
+    private static final StringPool shiftTaskPool = new StringPool(1024);
+    private static final Comparator<Shift> chronologicalOrder = Comparator.comparing(Shift::getDate)
+            .thenComparing(Shift::getStartTime).thenComparingInt(Shift::getId);
+    private static int nextId = 1;
+    private static final IdIndex<Shift> idIndex = new IdIndex<>(Shift::getId);
+
+    // The shift list as last known to be in chronological order, see ensureSorted
+    private static ArrayList<Shift> sortedSource;
+    private static int sortedSize = -1;
+    private static int sortedModificationCount = -1;
+
+    private final int id;
     private final LocalTime startTime;
     private final LocalTime endTime;
     private final LocalDate date;
     private final String shiftTask;
     private boolean isDone = false;
     private double overtimeHours = 0.0;
+    private final RecurringShift recurringShift;
 
     static {
         try {
-            shiftList = ShiftStorage.readFile();
+            shiftList = ShiftStorage.readFile(recurringShiftList);
+            nextId = Math.max(nextId, ShiftStorage.readArchivedNextId());
         } catch (Exception e) {
             shiftList = new ArrayList<>();
+            recurringShiftList = new ArrayList<>();
             System.out.println("Failed to load shifts. Starting with empty list.");
             logr.warning("ShiftStorage.readFile failed: " + e.getMessage());
         }
@@ -57,7 +88,7 @@ public class Shift {
     }
 
     /**
-     * Constructs a Shift object with specified details.
+     * Constructs a Shift object with specified details and a new ID.
      *
      * @param startTime The start time of the shift.
      * @param endTime   The end time of the shift.
@@ -65,21 +96,56 @@ public class Shift {
      * @param shiftTask The task assigned during the shift.
      */
     public Shift(LocalTime startTime, LocalTime endTime, LocalDate date, String shiftTask) {
+        this(nextId, startTime, endTime, date, shiftTask);
+    }
+
+    /**
+     * Constructs a Shift object with the ID it was given when it was first created, e.g. when it is read from the
+     * save file. New shifts are given IDs after the largest ID seen so far.
+     *
+     * @param id        The ID of the shift, which must be positive.
+     * @param startTime The start time of the shift.
+     * @param endTime   The end time of the shift.
+     * @param date      The date on which the shift occurs.
+     * @param shiftTask The task assigned during the shift.
+     */
+    public Shift(int id, LocalTime startTime, LocalTime endTime, LocalDate date, String shiftTask) {
+        assert id > 0 : "Shift ID must be positive";
         assert startTime != null : "Start time cannot be null";
         assert endTime != null : "End time cannot be null";
         assert date != null : "Date cannot be null";
         assert shiftTask != null && !shiftTask.isEmpty() : "Shift task cannot be null or empty";
         assert startTime.isBefore(endTime) : "Start time must be before end time";
 
+        this.id = id;
+        nextId = Math.max(nextId, id + 1);
         this.startTime = startTime;
         this.endTime = endTime;
         this.date = date;
-        this.shiftTask = shiftTask;
+        this.shiftTask = shiftTaskPool.canonicalize(shiftTask);
+        this.recurringShift = null;
         logr.info("Shift created: " + this);
     }
 
     /**
-     * Checks whether a new shift would overlap with any existing shift on the same date.
+     * Constructs the occurrence of a recurring shift on a date. Occurrences are created on every listing, so
+     * unlike shifts that are added, they are not logged, and they have no ID of their own.
+     *
+     * @param recurringShift The recurring shift.
+     * @param date           The date of the occurrence.
+     */
+    Shift(RecurringShift recurringShift, LocalDate date) {
+        this.id = 0;
+        this.startTime = recurringShift.getStartTime();
+        this.endTime = recurringShift.getEndTime();
+        this.date = date;
+        this.shiftTask = recurringShift.getShiftTask();
+        this.recurringShift = recurringShift;
+    }
+
+    /**
+     * Checks whether a new shift would overlap with any existing shift, or any occurrence of a recurring shift,
+     * on the same date.
      * A shift is considered overlapping if its time range intersects with any other shift's time range,
      * except when the new shift starts exactly when an existing one ends, or ends exactly when another starts.
      *
@@ -92,15 +158,13 @@ public class Shift {
      *         (excluding the one at {@code ignoreIndex}); {@code false} otherwise.
      */
     private static boolean hasOverlap(LocalTime newStart, LocalTime newEnd, LocalDate date, int ignoreIndex) {
-        for (int i = 0; i < shiftList.size(); i++) {
+        ensureSorted();
+        for (int i = firstIndexOn(date); i < shiftList.size() && shiftList.get(i).getDate().equals(date); i++) {
             if (i == ignoreIndex) {
                 continue;
             }
 
             Shift existing = shiftList.get(i);
-            if (!existing.getDate().equals(date)) {
-                continue;
-            }
 
             // Check Overlap
             boolean overlaps = !(newEnd.compareTo(existing.getStartTime()) <= 0 ||
@@ -109,6 +173,11 @@ public class Shift {
                 return true;
             }
         }
+        for (RecurringShift recurring : recurringShiftList) {
+            if (recurring.occursOn(date) && recurring.overlaps(newStart, newEnd)) {
+                return true;
+            }
+        }
         return false;
     }
 
@@ -137,48 +206,359 @@ public class Shift {
         }
 
         Shift shift = new Shift(startTime, endTime, date, shiftTask);
-        shiftList.add(shift);
+        insertSorted(shift);
         ShiftStorage.overwriteSaveFile(shiftList);
         System.out.println("Shift added");
     }
 
+    /**
+     * Adds shifts to the shift list, keeping it in chronological order.
+     *
+     * @param shifts The shifts to add.
+     */
+    public static void addShifts(List<Shift> shifts) {
+        ensureSorted();
+        shiftList.addAll(shifts);
+        shiftList.sort(chronologicalOrder);
+        markSorted();
+    }
+
+    /**
+     * Sorts the shift list into chronological order if it may have been changed without keeping it in order,
+     * e.g. right after it was read from a save file written before shifts were kept in order.
+     * <p>
+     * Shifts are ordered by date, start time and then ID. IDs are kept in the save file, so the order, and with it
+     * the shift numbers used by {@code shift del}, {@code shift mark} and {@code shift edit}, is the same after
+     * a restart. Methods that change the list keep it in order themselves and call {@link #markSorted()}, so
+     * this only sorts again after the list has been replaced or changed elsewhere.
+     * </p>
+     */
+    private static void ensureSorted() {
+        if (shiftList == sortedSource && shiftList.size() == sortedSize
+                && modificationCount == sortedModificationCount) {
+            return;
+        }
+        shiftList.sort(chronologicalOrder);
+        markSorted();
+    }
+
+    /**
+     * Records that the shift list is in chronological order as it is now.
+     */
+    private static void markSorted() {
+        sortedSource = shiftList;
+        sortedSize = shiftList.size();
+        sortedModificationCount = modificationCount;
+    }
+
+    /**
+     * Inserts a shift into the sorted shift list at its place in chronological order.
+     */
+    private static void insertSorted(Shift shift) {
+        ensureSorted();
+        int index = Collections.binarySearch(shiftList, shift, chronologicalOrder);
+        assert index < 0 : "Shift is already in the shift list";
+        shiftList.add(-index - 1, shift);
+        markSorted();
+        idIndex.update(shiftList, modificationCount, modificationCount, null, shift);
+        dateIndex.update(shiftList, modificationCount, modificationCount, null, shift);
+    }
+
+    /**
+     * Moves the shifts dated more than {@code retentionDays} days before {@code today} into the monthly shift
+     * archive files, and rewrites the save file without them. Archived shifts no longer count towards
+     * overtime reports.
+     *
+     * @param today         Today's date.
+     * @param retentionDays The number of days to keep past shifts for.
+     * @return The number of shifts archived.
+     * @throws IOException If the archive could not be written, in which case no shifts are archived and the shift list
+     *                     is unchanged, as the archive files are written all or nothing.
+     */
+    public static int archivePast(LocalDate today, int retentionDays) throws IOException {
+        ensureSorted();
+        // The list is in date order, so the shifts to archive are the ones before the first shift on the cutoff
+        int archivedCount = firstIndexOn(today.minusDays(retentionDays));
+        if (archivedCount == 0) {
+            return 0;
+        }
+        List<Shift> archived = shiftList.subList(0, archivedCount);
+        ShiftStorage.archive(archived, nextId);
+        if (isOvertimeLedgerCurrent()) {
+            for (Shift shift : archived) {
+                overtimeLedger.add(shift.getDate(), -shift.getOvertimeHours());
+            }
+        }
+        archived.clear();
+        modificationCount++;
+        markSorted();
+        ShiftStorage.overwriteSaveFile(shiftList);
+        logr.info("Archived " + archivedCount + " past shifts");
+        return archivedCount;
+    }
+
+    /**
+     * Returns the index of a shift in the sorted shift list, given its ID, so that commands can address a shift by
+     * an ID that does not change when other shifts are added or deleted.
+     *
+     * @param id The ID of the shift.
+     * @return The 0-based index of the shift, or -1 if there is none.
+     */
+    public static int indexOfId(int id) {
+        Shift shift = findById(id);
+        if (shift == null) {
+            return -1;
+        }
+        // IDs are unique and break ties in the order, so a binary search finds the shift itself
+        return Math.max(-1, Collections.binarySearch(shiftList, shift, chronologicalOrder));
+    }
+
+    /**
+     * Returns the shift with an ID, looked up in a hash map that is kept up to date with the shift list.
+     *
+     * @param id The ID of the shift.
+     * @return The shift, or {@code null} if there is none.
+     */
+    public static Shift findById(int id) {
+        ensureSorted();
+        idIndex.refresh(shiftList, modificationCount);
+        return idIndex.get(id);
+    }
+
+    /**
+     * Returns the index of the first shift on or after a date in the sorted shift list.
+     */
+    private static int firstIndexOn(LocalDate date) {
+        int low = 0;
+        int high = shiftList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (shiftList.get(mid).getDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Deletes a shift from the shift list based on the given index.
      *
      * @param index The index of the shift to be removed (0-based index).
+     * @throws NurseSchedException If there is no shift with that index.
      */
-    public static void deleteShiftByIndex(int index) {
+    public static void deleteShiftByIndex(int index) throws NurseSchedException {
         assert index >= 0 : "Shift index cannot be negative";
+        ensureSorted();
         if (index < 0 || index >= shiftList.size()) {
             logr.warning("Attempted to delete shift with invalid index: " + index);
-            System.out.println("Invalid shift index.");
-            return;
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
         }
         Shift removedShift = shiftList.remove(index);
+        modificationCount++;
+        markSorted();
+        idIndex.update(shiftList, modificationCount - 1, modificationCount, removedShift, null);
+        dateIndex.update(shiftList, modificationCount - 1, modificationCount, removedShift, null);
+        if (isOvertimeLedgerCurrent()) {
+            overtimeLedger.add(removedShift.getDate(), -removedShift.getOvertimeHours());
+        }
         ShiftStorage.overwriteSaveFile(shiftList);
         logr.info("Shift deleted: " + removedShift);
         System.out.println("Shift deleted.");
     }
 
     /**
-     * Displays all shifts currently stored in the shift list.
+     * Adds a new recurring shift, unless one of its occurrences would overlap an existing shift or an occurrence
+     * of another recurring shift.
+     *
+     * @param startTime    The start time of each occurrence.
+     * @param endTime      The end time of each occurrence.
+     * @param firstDate    The date of the first occurrence.
+     * @param intervalDays The number of days between occurrences.
+     * @param untilDate    The date after which there are no more occurrences, or null.
+     * @param count        The number of occurrences, or 0 if there is no limit.
+     * @param shiftTask    The task assigned during each occurrence.
+     * @throws NurseSchedException If the first date has passed, the times are invalid, an occurrence overlaps, or
+     *                             the series runs past the dates that can be stored.
+     */
+    public static void addRecurringShift(LocalTime startTime, LocalTime endTime, LocalDate firstDate,
+            int intervalDays, LocalDate untilDate, int count, String shiftTask) throws NurseSchedException {
+        if (firstDate.isBefore(LocalDate.now())) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_DATE);
+        }
+        if (!startTime.isBefore(endTime)) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_START_TIME);
+        }
+
+        RecurringShift recurringShift;
+        try {
+            recurringShift = new RecurringShift(startTime, endTime, firstDate, intervalDays, untilDate, count,
+                    shiftTask);
+            checkRecurringOverlaps(recurringShift);
+        } catch (DateTimeException e) {
+            // Some occurrence would fall after the last date a LocalDate can hold
+            logr.warning("Recurring shift runs past the supported dates: " + e.getMessage());
+            throw new NurseSchedException(ExceptionMessage.RECURRENCE_TOO_LONG);
+        }
+
+        recurringShiftList.add(recurringShift);
+        ShiftStorage.overwriteSaveFile(shiftList);
+        logr.info("Recurring shift added: " + recurringShift);
+        System.out.println("Recurring shift added:");
+        System.out.println(recurringShift);
+    }
+
+    /**
+     * Checks that no occurrence of a new recurring shift overlaps a shift or an occurrence of another recurring
+     * shift.
+     *
+     * @throws NurseSchedException If an occurrence overlaps.
+     */
+    private static void checkRecurringOverlaps(RecurringShift recurringShift) throws NurseSchedException {
+        for (Shift shift : shiftList) {
+            if (recurringShift.occursOn(shift.getDate())
+                    && recurringShift.overlaps(shift.getStartTime(), shift.getEndTime())) {
+                logr.warning("Recurring shift overlaps shift: " + shift);
+                throw new NurseSchedException(ExceptionMessage.SHIFT_TIMING_OVERLAP);
+            }
+        }
+        for (RecurringShift other : recurringShiftList) {
+            if (other.overlaps(recurringShift.getStartTime(), recurringShift.getEndTime())
+                    && recurringShift.findCommonDate(other) != null) {
+                logr.warning("Recurring shift overlaps recurring shift: " + other);
+                throw new NurseSchedException(ExceptionMessage.SHIFT_TIMING_OVERLAP);
+            }
+        }
+    }
+
+    /**
+     * Deletes a recurring shift, and so all of its occurrences.
+     *
+     * @param index The index of the recurring shift to be removed (0-based index).
+     * @throws NurseSchedException If there is no recurring shift at the index.
+     */
+    public static void deleteRecurringShift(int index) throws NurseSchedException {
+        if (index < 0 || index >= recurringShiftList.size()) {
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
+        }
+        RecurringShift removed = recurringShiftList.remove(index);
+        ShiftStorage.overwriteSaveFile(shiftList);
+        logr.info("Recurring shift deleted: " + removed);
+        System.out.println("Recurring shift deleted: " + removed);
+    }
+
+    /**
+     * Displays all shifts currently stored in the shift list, followed by the recurring shifts.
      * If no shifts are available, it notifies the user.
      */
     public static void listShifts() {
-        if (shiftList.isEmpty()) {
+        ensureSorted();
+        if (shiftList.isEmpty() && recurringShiftList.isEmpty()) {
             System.out.println("No shifts available.");
             return;
         }
 
-        System.out.println("List of all shifts:");
-        for (int i = 0; i < shiftList.size(); i++) {
-            Shift shift = shiftList.get(i);
-            System.out.printf("%d. %s %n", i + 1, shift);
+        if (!shiftList.isEmpty()) {
+            ListPrinter.println("List of all shifts:");
+            ListPrinter.printRows(shiftList.size(), (sb, i) -> shiftList.get(i).appendTo(sb.append(i + 1).append(". "))
+                    .append(" (#").append(shiftList.get(i).id).append(')'));
+        }
+        ListPrinter.flush();
+        if (!recurringShiftList.isEmpty()) {
+            listRecurringShifts();
+        }
+    }
+
+    /**
+     * Displays all recurring shifts, with the indexes used to delete them.
+     */
+    public static void listRecurringShifts() {
+        if (recurringShiftList.isEmpty()) {
+            System.out.println("No recurring shifts.");
+            return;
+        }
+        ListPrinter.println("Recurring shifts:");
+        for (int i = 0; i < recurringShiftList.size(); i++) {
+            ListPrinter.println((i + 1) + ". " + recurringShiftList.get(i) + " ");
+        }
+        ListPrinter.flush();
+    }
+
+    /**
+     * Displays every shift from {@code from} to {@code to}, both inclusive, in date and time order, including
+     * the occurrences of recurring shifts in that period.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     */
+    public static void listShifts(LocalDate from, LocalDate to) {
+        List<Shift> shifts = getShiftsBetween(from, to);
+        if (shifts.isEmpty()) {
+            System.out.println("No shifts from " + from + " to " + to + ".");
+            return;
+        }
+
+        ListPrinter.println("Shifts from " + from + " to " + to + ":");
+        ListPrinter.printRows(shifts.size(), (sb, i) -> shifts.get(i).appendTo(sb));
+        ListPrinter.flush();
+    }
+
+    /**
+     * Returns the shifts from {@code from} to {@code to}, both inclusive, sorted by date and start time.
+     * <p>
+     * The single shifts are read from a date index, visiting only the dates in the range, and occurrences of
+     * recurring shifts are merged into them with a priority queue holding the next occurrence of each recurring
+     * shift, so only the occurrences inside the range are ever created.
+     * </p>
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return The shifts in the range, including occurrences of recurring shifts.
+     */
+    public static List<Shift> getShiftsBetween(LocalDate from, LocalDate to) {
+        Comparator<Shift> chronological = Comparator.comparing(Shift::getDate).thenComparing(Shift::getStartTime);
+        dateIndex.refresh(shiftList, modificationCount);
+        List<Shift> singleShifts = new ArrayList<>();
+        for (List<Shift> dayShifts : dateIndex.getRange(from, to).values()) {
+            singleShifts.addAll(dayShifts);
         }
+        if (recurringShiftList.isEmpty()) {
+            return singleShifts;
+        }
+
+        PriorityQueue<Shift> nextOccurrences = new PriorityQueue<>(chronological);
+        for (RecurringShift recurring : recurringShiftList) {
+            LocalDate first = recurring.getRecurrence().getFirstOccurrenceFrom(from);
+            if (first != null && !first.isAfter(to)) {
+                nextOccurrences.add(recurring.toOccurrence(first));
+            }
+        }
+
+        List<Shift> shifts = new ArrayList<>(singleShifts.size() + nextOccurrences.size());
+        int singleIndex = 0;
+        while (!nextOccurrences.isEmpty()) {
+            Shift occurrence = nextOccurrences.peek();
+            if (singleIndex < singleShifts.size()
+                    && chronological.compare(singleShifts.get(singleIndex), occurrence) <= 0) {
+                shifts.add(singleShifts.get(singleIndex++));
+                continue;
+            }
+            nextOccurrences.poll();
+            shifts.add(occurrence);
+            RecurringShift recurring = occurrence.recurringShift;
+            LocalDate next = recurring.getRecurrence().getNextOccurrence(occurrence.getDate());
+            if (next != null && !next.isAfter(to)) {
+                nextOccurrences.add(recurring.toOccurrence(next));
+            }
+        }
+        shifts.addAll(singleShifts.subList(singleIndex, singleShifts.size()));
+        return shifts;
     }
 
-    public static void markShift(int index) {
+    public static void markShift(int index) throws NurseSchedException {
         assert index >= 0 && index < shiftList.size() : "Index must be valid and within bounds!";
+        ensureSorted();
         try {
             Shift shift = shiftList.get(index);
             if (shift.getStatus()) {
@@ -193,8 +573,8 @@ public class Shift {
             logr.info("Shift marked: " + shift);
             ShiftStorage.overwriteSaveFile(shiftList);
         } catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no shift with index: " + (index + 1));
             logr.warning("There is no shift with index: " + (index + 1));
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
         }
     }
 
@@ -202,9 +582,11 @@ public class Shift {
      * Unmarks a shift from the shift list (sets it as not done) based on the given index.
      *
      * @param index The index of the shift to be unmarked (0-based index).
+     * @throws NurseSchedException If there is no shift with that index.
      */
-    public static void unmarkShift(int index) {
+    public static void unmarkShift(int index) throws NurseSchedException {
         assert index >= 0 && index < shiftList.size() : "Index must be valid and within bounds!";
+        ensureSorted();
         try {
             Shift shift = shiftList.get(index);
             if (!shift.getStatus()) {
@@ -218,8 +600,8 @@ public class Shift {
             logr.info("Shift unmarked: " + shift);
             ShiftStorage.overwriteSaveFile(shiftList);
         } catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no shift with index: " + (index + 1));
             logr.warning("There is no shift with index: " + (index + 1));
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
         }
     }
 
@@ -236,6 +618,7 @@ public class Shift {
      */
     public static void editShift(int index, LocalTime newStartTime, LocalTime newEndTime,
                                  LocalDate newDate, String newTask) throws NurseSchedException {
+        ensureSorted();
         if (index < 0 || index >= shiftList.size()) {
             logr.warning("Attempted to edit shift with invalid index: " + index);
             throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
@@ -262,11 +645,20 @@ public class Shift {
             throw new NurseSchedException(ExceptionMessage.SHIFT_TIMING_OVERLAP);
         }
 
-        Shift updated = new Shift(updatedStart, updatedEnd, updatedDate, updatedTask);
+        Shift updated = new Shift(original.getId(), updatedStart, updatedEnd, updatedDate, updatedTask);
         updated.setDone(original.getStatus());
         updated.setOvertimeHours(original.getOvertimeHours());
 
-        shiftList.set(index, updated);
+        shiftList.remove(index);
+        modificationCount++;
+        markSorted();
+        idIndex.update(shiftList, modificationCount - 1, modificationCount, original, null);
+        dateIndex.update(shiftList, modificationCount - 1, modificationCount, original, null);
+        insertSorted(updated);
+        if (isOvertimeLedgerCurrent() && !updatedDate.equals(original.getDate())) {
+            overtimeLedger.add(original.getDate(), -original.getOvertimeHours());
+            overtimeLedger.add(updatedDate, original.getOvertimeHours());
+        }
         ShiftStorage.overwriteSaveFile(shiftList);
         System.out.println("Shift updated:");
         System.out.println(updated);
@@ -278,17 +670,20 @@ public class Shift {
      *
      * @param index The index of the shift to log overtime for (0-based).
      * @param hours The number of overtime hours to log. Must be non-negative.
+     * @throws NurseSchedException If there is no shift with that index, or the hours are negative.
      */
-    public static void logOvertime(int index, double hours) {
+    public static void logOvertime(int index, double hours) throws NurseSchedException {
+        ensureSorted();
         if (index < 0 || index >= shiftList.size()) {
-            System.out.println("Invalid shift index.");
-            return;
+            throw new NurseSchedException(ExceptionMessage.INVALID_SHIFT_NUMBER);
         }
         if (hours < 0) {
-            System.out.println("Overtime cannot be negative.");
-            return;
+            throw new NurseSchedException(ExceptionMessage.NEGATIVE_OVERTIME);
         }
         Shift shift = shiftList.get(index);
+        if (isOvertimeLedgerCurrent()) {
+            overtimeLedger.add(shift.getDate(), hours - shift.getOvertimeHours());
+        }
         shift.setOvertimeHours(hours);
         System.out.println("Logged overtime: " + hours + "h for shift:");
         System.out.println(shift);
@@ -296,12 +691,74 @@ public class Shift {
         ShiftStorage.overwriteSaveFile(shiftList);
     }
 
+    /**
+     * Returns whether the overtime ledger was built from the current shift list, and so can be updated in place.
+     */
+    private static boolean isOvertimeLedgerCurrent() {
+        return overtimeLedger != null && overtimeLedgerSource == shiftList;
+    }
+
+    /**
+     * Returns the running overtime totals of the shift list, building them first if the list has been replaced
+     * since they were last built, e.g. after the list was reloaded from the save file.
+     */
+    static OvertimeLedger getOvertimeLedger() {
+        if (!isOvertimeLedgerCurrent()) {
+            overtimeLedger = new OvertimeLedger(shiftList);
+            overtimeLedgerSource = shiftList;
+        }
+        return overtimeLedger;
+    }
+
+    /**
+     * Prints the total overtime hours from {@code from} to {@code to}, optionally broken down by ISO week or by
+     * month. Each total is a range sum over the overtime ledger, so no shift is scanned.
+     *
+     * @param from    The first date of the report.
+     * @param to      The last date of the report.
+     * @param groupBy "week", "month", or an empty string for the total only.
+     */
+    public static void printOvertimeReport(LocalDate from, LocalDate to, String groupBy) {
+        assert !from.isAfter(to) : "The first date cannot be after the last date";
+        OvertimeLedger ledger = getOvertimeLedger();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Overtime from ").append(from).append(" to ").append(to).append(": ")
+                .append(formatHours(ledger.sum(from, to))).append('\n');
+        LocalDate periodStart = from;
+        while (!groupBy.isEmpty() && !periodStart.isAfter(to)) {
+            LocalDate nextPeriodStart;
+            String label;
+            if (groupBy.equals("week")) {
+                nextPeriodStart = periodStart.with(ChronoField.DAY_OF_WEEK, 1).plusWeeks(1);
+                label = String.format("%d-W%02d", periodStart.get(IsoFields.WEEK_BASED_YEAR),
+                        periodStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            } else {
+                nextPeriodStart = periodStart.withDayOfMonth(1).plusMonths(1);
+                label = YearMonth.from(periodStart).toString();
+            }
+            LocalDate periodEnd = nextPeriodStart.minusDays(1).isAfter(to) ? to : nextPeriodStart.minusDays(1);
+            sb.append(label).append(": ").append(formatHours(ledger.sum(periodStart, periodEnd))).append('\n');
+            periodStart = nextPeriodStart;
+        }
+        System.out.print(sb);
+    }
+
+    private static String formatHours(double hours) {
+        return String.format("%.2fh", Math.abs(hours) < 0.005 ? 0.0 : hours);
+    }
+
     /**
      * Sorts the shift list in chronological order, first by date, then by start time.
-     * Updates the list in place and prints confirmation.
+     * Recurring shifts are sorted the same way by their first occurrence.
+     * The shift list is kept in this order anyway, so this mostly orders the recurring shifts, and saves both
+     * so that their numbers stay the same after a restart.
      */
     public static void sortShiftsChronologically() {
-        shiftList.sort(Comparator.comparing(Shift::getDate).thenComparing(Shift::getStartTime));
+        ensureSorted();
+        recurringShiftList.sort(Comparator.comparing(RecurringShift::getFirstDate)
+                .thenComparing(RecurringShift::getStartTime));
+        ShiftStorage.overwriteSaveFile(shiftList);
         System.out.println("Shifts sorted by date and start time.");
     }
 
@@ -348,17 +805,36 @@ public class Shift {
      */
     @Override
     public String toString() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        String formattedStartTime = startTime.format(formatter);
-        String formattedEndTime = endTime.format(formatter);
-        String markStatus = isDone ? "[X]" : "[ ]";
+        return appendTo(new StringBuilder(96)).toString();
+    }
 
-        String overtimeDisplay = overtimeHours > 0 ? ", Overtime: " + overtimeHours + "h" : "";
+    /**
+     * Appends the text returned by {@link #toString()} to a buffer without creating any intermediate strings.
+     *
+     * @param sb The buffer to append to.
+     * @return The buffer.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append(isDone ? "[X]" : "[ ]").append(" From: ");
+        RecordFormat.appendTime(sb, startTime).append(", To: ");
+        RecordFormat.appendTime(sb, endTime).append(", Date: ");
+        RecordFormat.appendDate(sb, date).append(", shiftTask: ").append(shiftTask);
+        if (overtimeHours > 0) {
+            sb.append(", Overtime: ").append(overtimeHours).append('h');
+        }
+        if (recurringShift != null) {
+            sb.append(" (recurring)");
+        }
+        return sb;
+    }
 
-        return markStatus + " From: " + formattedStartTime + ", " +
-                "To: " + formattedEndTime + ", " +
-                "Date: " + date + ", " +
-                "shiftTask: " + shiftTask + overtimeDisplay;
+    /**
+     * Retrieves the ID of the shift, which stays the same when the shift is edited or other shifts are removed.
+     *
+     * @return The ID, or 0 for an occurrence of a recurring shift.
+     */
+    public int getId() {
+        return id;
     }
 
     /**
@@ -397,6 +873,15 @@ public class Shift {
         return shiftTask;
     }
 
+    /**
+     * Returns whether the shift is an occurrence of a recurring shift rather than a shift in the shift list.
+     *
+     * @return {@code true} if the shift is an occurrence of a recurring shift.
+     */
+    public boolean isRecurring() {
+        return recurringShift != null;
+    }
+
     /**
      * Retrieves the list of all stored shifts.
      *
@@ -405,4 +890,23 @@ public class Shift {
     public static ArrayList<Shift> getShiftList() {
         return shiftList;
     }
+
+    /**
+     * Replaces the shift list in memory with the contents of the save file, discarding unsaved changes.
+     */
+    public static void reloadFromFile() {
+        ArrayList<RecurringShift> reloadedRecurringShifts = new ArrayList<>();
+        shiftList = ShiftStorage.readFile(reloadedRecurringShifts);
+        recurringShiftList = reloadedRecurringShifts;
+        nextId = Math.max(nextId, ShiftStorage.readArchivedNextId());
+    }
+
+    /**
+     * Retrieves the list of all recurring shifts.
+     *
+     * @return An {@code ArrayList<RecurringShift>} containing all recurring shifts.
+     */
+    public static ArrayList<RecurringShift> getRecurringShiftList() {
+        return recurringShiftList;
+    }
 }
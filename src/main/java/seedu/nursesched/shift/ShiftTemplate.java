@@ -0,0 +1,51 @@
+package seedu.nursesched.shift;
+
+import java.time.LocalTime;
+
+/**
+ * Represents a kind of shift that {@link RosterGenerator} can place on the roster, together with the task that
+ * must be covered during it.
+ * The night shift covers the early hours of its date, since a shift cannot run past midnight.
+ */
+public enum ShiftTemplate {
+    MORNING(LocalTime.of(7, 0), LocalTime.of(15, 0), "Morning ward rounds"),
+    EVENING(LocalTime.of(15, 0), LocalTime.of(23, 0), "Evening medication round"),
+    NIGHT(LocalTime.of(0, 0), LocalTime.of(7, 0), "Night observation");
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final String task;
+
+    ShiftTemplate(LocalTime startTime, LocalTime endTime, String task) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.task = task;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public String getTask() {
+        return task;
+    }
+
+    /**
+     * Returns the template with the given name, ignoring case, or null if there is none.
+     *
+     * @param name The name of the template, e.g. "morning".
+     * @return The matching template, or null.
+     */
+    public static ShiftTemplate fromName(String name) {
+        for (ShiftTemplate template : values()) {
+            if (template.name().equalsIgnoreCase(name.trim())) {
+                return template;
+            }
+        }
+        return null;
+    }
+}
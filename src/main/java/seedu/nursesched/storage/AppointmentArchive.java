@@ -0,0 +1,81 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.appointment.Appointment;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stores appointments that are done or past in compressed archive files, one per month, e.g.
+ * {@code data/archive/appt-2026-09.gz}, so that they no longer have to be kept in memory or rewritten on every save.
+ * <p>
+ * Archived appointments are only read by {@link #forEachBetween(LocalDate, LocalDate, Consumer)}, which streams the
+ * files of the months asked for one line at a time. See {@link MonthlyArchive} for the file format.
+ * </p>
+ */
+public class AppointmentArchive {
+    private static final MonthlyArchive<Appointment> archive = new MonthlyArchive<>("appt",
+            Appointment::getLocalDate, Comparator.comparing(Appointment::getLocalDate)
+            .thenComparing(Appointment::getLocalStartTime), AppointmentStorage::appendRecord);
+
+    /**
+     * Returns the path of the archive file of a month.
+     *
+     * @param month The month.
+     */
+    public static String getFilePath(YearMonth month) {
+        return archive.getFilePath(month);
+    }
+
+    /**
+     * Appends appointments to the archive files of the months they are in, each month in date and time order.
+     *
+     * @param appointments The appointments to archive.
+     * @param nextApptId   The next appointment ID to give out, which is kept for after a restart.
+     * @return The number of archive files written to.
+     * @throws IOException If an archive file could not be written, in which case none of the
+     *                     appointments are archived and they must be kept.
+     */
+    public static int append(List<Appointment> appointments, int nextApptId) throws IOException {
+        return archive.append(appointments, nextApptId);
+    }
+
+    /**
+     * Reads the archived appointments from {@code from} to {@code to}, both inclusive, passing each one on as soon
+     * as it is read. Only the archive files of the months in the range are opened, and no more than one line is
+     * held at a time. The appointments of each month come in the order they were archived.
+     *
+     * @param from   The first date.
+     * @param to     The last date.
+     * @param action Called with each archived appointment in the range.
+     */
+    public static void forEachBetween(LocalDate from, LocalDate to, Consumer<Appointment> action) {
+        archive.forEachLine(from, to, line -> {
+            Appointment appointment = parseLine(line);
+            if (appointment != null && !appointment.getLocalDate().isBefore(from)
+                    && !appointment.getLocalDate().isAfter(to)) {
+                action.accept(appointment);
+            }
+        });
+    }
+
+    private static Appointment parseLine(String line) {
+        try {
+            return AppointmentStorage.getDetails(line);
+        } catch (Exception e) {
+            System.out.println("Error parsing line of appointment archive: " + line);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the next appointment ID kept by the last archiving, or 1 if nothing has been archived.
+     */
+    public static int readNextApptId() {
+        return archive.readNextId();
+    }
+}
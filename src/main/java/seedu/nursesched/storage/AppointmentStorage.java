@@ -1,6 +1,8 @@
 package seedu.nursesched.storage;
 
 import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.metrics.StorageEvent;
+import seedu.nursesched.ui.RecordFormat;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -39,6 +41,7 @@ public class AppointmentStorage {
             return apptList;
         }
 
+        StorageEvent event = StorageEvent.start(FILE_PATH, "readFile");
         try (Scanner fileScanner = new Scanner(taskFile)) {
             int lineNumber = 0;
             while (fileScanner.hasNext()) {
@@ -57,6 +60,7 @@ public class AppointmentStorage {
         } catch (FileNotFoundException e) {
             System.out.println("File not found at: " + FILE_PATH);
         }
+        event.finish(taskFile::length, apptList.size());
         return apptList;
     }
 
@@ -64,12 +68,13 @@ public class AppointmentStorage {
     /**
      * Extracts appointment details from a string from the save file.
      * <p>
-     * Extracts status, patient ID, start time, end time, date, notes and importance.
+     * Extracts status, patient ID, start time, end time, date, notes, importance and appointment ID.
+     * Lines written before appointments had IDs give them new IDs in file order.
      * </p>
      * @param currentLine The formatted string containing appointment information.
      * @return            new Appointment object created with parsed information.
      */
-    private static Appointment getDetails(String currentLine) {
+    static Appointment getDetails(String currentLine) {
         String[] parts = currentLine.split(" \\| ");
 
         String status = parts[0];
@@ -85,7 +90,10 @@ public class AppointmentStorage {
         LocalTime startTime = LocalTime.parse(startTimeString);
         LocalTime endTime = LocalTime.parse(endTimeString);
         LocalDate date = LocalDate.parse(dateString);
-        Appointment appointment = new Appointment(id, startTime, endTime, date, notes, importance);
+        Appointment appointment = parts.length > 7
+                ? new Appointment(Integer.parseInt(parts[7]), id, Appointment.findPatientName(id), startTime, endTime,
+                        date, notes, importance)
+                : new Appointment(id, startTime, endTime, date, notes, importance);
         if (status.equals("true")) {
             appointment.setDone(true);
         }
@@ -96,24 +104,26 @@ public class AppointmentStorage {
      * Formats an Appointment object into a string for storage.
      * <p>
      * String format:
-     * [Status] | [Patient ID] | [Start Time] | [End Time] | [Date] | [Importance] | [Notes]
+     * [Status] | [Patient ID] | [Start Time] | [End Time] | [Date] | [Importance] | [Notes] | [Appointment ID]
      * </p>
      * @param appointment The appointment object to format.
      * @return            Formatted string for save file.
      */
     public static String formatString(Appointment appointment) {
-        int patientID = appointment.getID();
-        boolean apptStatus = appointment.getStatus();
-        String apptStartTime = appointment.getStartTime();
-        String apptEndTime = appointment.getEndTime();
-        String apptDate = appointment.getDate();
-        String apptNotes = appointment.getNotes();
-        int apptImportance = appointment.getImportance();
-
-
-        return apptStatus + " | " + patientID + " | " + apptStartTime
-                + " | " + apptEndTime + " | " + apptDate
-                + " | " + apptImportance + " | " + apptNotes;
+        return appendRecord(new StringBuilder(80), appointment).toString();
+    }
+
+    /**
+     * Appends the save file line of an appointment, as returned by {@link #formatString(Appointment)}, to a buffer.
+     */
+    static StringBuilder appendRecord(StringBuilder sb, Appointment appointment) {
+        sb.append(appointment.getStatus()).append(" | ").append(appointment.getID()).append(" | ");
+        RecordFormat.appendTime(sb, appointment.getLocalStartTime()).append(" | ");
+        RecordFormat.appendTime(sb, appointment.getLocalEndTime()).append(" | ");
+        RecordFormat.appendDate(sb, appointment.getLocalDate()).append(" | ")
+                .append(appointment.getImportance()).append(" | ").append(appointment.getNotes())
+                .append(" | ").append(appointment.getApptId());
+        return sb;
     }
 
 
@@ -122,13 +132,21 @@ public class AppointmentStorage {
      * @param apptList The ArrayList of Task objects to replace the save file with.
      */
     public static void overwriteSaveFile(ArrayList<Appointment> apptList) {
+        if (DeferredPersistence.deferOverwrite(FILE_PATH, () -> overwriteSaveFile(apptList))) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "overwriteSaveFile");
         try (FileWriter writer = new FileWriter(FILE_PATH)) {
+            RecordBuffer records = new RecordBuffer(writer);
             for (Appointment appt : apptList) {
-                writer.write(formatString(appt) + "\n");
+                appendRecord(records.getBuffer(), appt);
+                records.endRecord();
             }
+            records.flush();
         } catch (IOException e) {
             System.out.println("Error saving tasks: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length(), apptList.size());
     }
 
     /**
@@ -139,11 +157,18 @@ public class AppointmentStorage {
      * @param appt Appointment object to append to the storage file.
      */
     public static void appendToFile(Appointment appt) {
+        String line = formatString(appt) + "\n";
+        if (DeferredPersistence.deferAppend(FILE_PATH, line)) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "appendToFile");
+        long oldLength = event.isEnabled() ? new File(FILE_PATH).length() : 0;
         try (FileWriter writer = new FileWriter(FILE_PATH, true)) { // create a FileWriter in append mode
-            writer.write(formatString(appt) + "\n");
+            writer.write(line);
         } catch (IOException e) {
             System.out.println("Error saving tasks: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length() - oldLength, 1);
     }
 
 }
@@ -0,0 +1,124 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.metrics.StorageEvent;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds back save file writes while a batch of commands is running.
+ * <p>
+ * While deferral is active, the storage classes hand their writes to this class instead of touching the disk.
+ * Only the latest overwrite of each save file is kept, since it already contains every earlier change, and
+ * appends made before any overwrite are collected so that they can be written together. {@link #flush()} then
+ * writes each touched save file exactly once, and {@link #discard()} drops everything so that the files on
+ * disk still hold the state from before the batch.
+ * </p>
+ */
+public class DeferredPersistence {
+    private static final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private static boolean isActive = false;
+
+    /**
+     * The writes held back for one save file.
+     */
+    private static class PendingWrite {
+        private Runnable overwrite;
+        private final StringBuilder appendedLines = new StringBuilder();
+        private int appendedCount;
+    }
+
+    /**
+     * Starts deferring save file writes.
+     */
+    public static void begin() {
+        assert !isActive : "Deferred persistence has already begun";
+        pendingWrites.clear();
+        isActive = true;
+    }
+
+    public static boolean isActive() {
+        return isActive;
+    }
+
+    /**
+     * Holds back an overwrite of a save file, replacing any write already held back for it.
+     *
+     * @param filePath  The save file being overwritten.
+     * @param overwrite Writes the save file when run.
+     * @return {@code true} if the write was deferred, or {@code false} if the caller should write it now.
+     */
+    public static boolean deferOverwrite(String filePath, Runnable overwrite) {
+        if (!isActive) {
+            return false;
+        }
+        PendingWrite pendingWrite = new PendingWrite();
+        pendingWrite.overwrite = overwrite;
+        pendingWrites.put(filePath, pendingWrite);
+        return true;
+    }
+
+    /**
+     * Holds back a line appended to a save file.
+     * If an overwrite of the file is already held back, the line is dropped because the overwrite writes the
+     * whole list, which already contains the appended record.
+     *
+     * @param filePath The save file being appended to.
+     * @param line     The formatted line, including its line separator.
+     * @return {@code true} if the write was deferred, or {@code false} if the caller should write it now.
+     */
+    public static boolean deferAppend(String filePath, String line) {
+        if (!isActive) {
+            return false;
+        }
+        PendingWrite pendingWrite = pendingWrites.computeIfAbsent(filePath, path -> new PendingWrite());
+        if (pendingWrite.overwrite == null) {
+            pendingWrite.appendedLines.append(line);
+            pendingWrite.appendedCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Stops deferring and writes every touched save file once.
+     *
+     * @return The number of save files written.
+     */
+    public static int flush() {
+        isActive = false;
+        int filesWritten = pendingWrites.size();
+        for (Map.Entry<String, PendingWrite> entry : pendingWrites.entrySet()) {
+            PendingWrite pendingWrite = entry.getValue();
+            if (pendingWrite.overwrite != null) {
+                pendingWrite.overwrite.run();
+            } else {
+                appendLines(entry.getKey(), pendingWrite);
+            }
+        }
+        pendingWrites.clear();
+        return filesWritten;
+    }
+
+    /**
+     * Stops deferring and drops every held back write.
+     */
+    public static void discard() {
+        isActive = false;
+        pendingWrites.clear();
+    }
+
+    private static void appendLines(String filePath, PendingWrite pendingWrite) {
+        StorageEvent event = StorageEvent.start(filePath, "flushAppends");
+        String lines = pendingWrite.appendedLines.toString();
+        long oldLength = event.isEnabled() ? new File(filePath).length() : 0;
+        try (FileWriter writer = new FileWriter(filePath, true)) {
+            writer.write(lines);
+        } catch (IOException e) {
+            System.out.println("Error saving to " + filePath + ": " + e.getMessage());
+        }
+        event.finish(() -> new File(filePath).length() - oldLength, pendingWrite.appendedCount);
+    }
+}
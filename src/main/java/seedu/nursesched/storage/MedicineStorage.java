@@ -1,6 +1,7 @@
 package seedu.nursesched.storage;
 
 import seedu.nursesched.medicine.Medicine;
+import seedu.nursesched.metrics.StorageEvent;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -31,6 +32,7 @@ public class MedicineStorage {
             return medicineList;
         }
 
+        StorageEvent event = StorageEvent.start(FILE_PATH, "readFile");
         try (Scanner fileScanner = new Scanner(medicineFile)) {
             while (fileScanner.hasNext()) {
                 String currentLine = fileScanner.nextLine();
@@ -43,6 +45,7 @@ public class MedicineStorage {
         } catch (FileNotFoundException e) {
             System.out.println("File not found at: " + FILE_PATH);
         }
+        event.finish(medicineFile::length, medicineList.size());
 
         overwriteSaveFile(validLines);
         return medicineList;
@@ -103,12 +106,18 @@ public class MedicineStorage {
      * @param validLines The list of valid lines to save to the file.
      */
     public static void overwriteSaveFile(ArrayList<Medicine> validLines) {
+        if (DeferredPersistence.deferOverwrite(FILE_PATH, () -> overwriteSaveFile(validLines))) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "overwriteSaveFile");
         try (FileWriter writer = new FileWriter(FILE_PATH)) {
             for (Medicine line : validLines) {
-                writer.write(formatString(line) + "\n");
+                String formattedLine = formatString(line) + "\n";
+                writer.write(formattedLine);
             }
         } catch (IOException e) {
             System.out.println("Error saving medicines: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length(), validLines.size());
     }
 }
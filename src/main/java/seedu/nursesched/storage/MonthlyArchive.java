@@ -0,0 +1,254 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.metrics.StorageEvent;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores the records of one kind in compressed archive files, one per month, e.g.
+ * {@code data/archive/appt-2026-09.gz}, so that old records no longer have to be kept in memory or rewritten on
+ * every save.
+ * <p>
+ * Each archive file holds lines in the format of the save file of its kind. Archiving adds a new gzip member to
+ * the end of the file of each month, which {@link GZIPInputStream} reads back as one stream, so records already
+ * archived are only copied, never compressed again. {@link #forEachLine(LocalDate, LocalDate, Consumer)} streams
+ * the files of the months asked for one line at a time.
+ * </p>
+ * <p>
+ * The next ID to give out is kept in a file such as {@code data/archive/appt-next-id.txt}, so that new records are
+ * not given the IDs of archived ones once those are no longer in the save file.
+ * </p>
+ *
+ * @param <T> The type of record archived.
+ */
+class MonthlyArchive<T> {
+    private static final String DIRECTORY = "data/archive";
+
+    private final String name;
+    private final Function<T, LocalDate> dateOf;
+    private final Comparator<T> order;
+    private final BiConsumer<StringBuilder, T> appendRecord;
+
+    /**
+     * Constructs the archive of one kind of record.
+     *
+     * @param name         The prefix of the archive file names, e.g. "appt".
+     * @param dateOf       Returns the date that decides the month a record is archived in.
+     * @param order        The order in which the records of a month are written.
+     * @param appendRecord Appends the save file line of a record, without its line break, to a buffer.
+     */
+    MonthlyArchive(String name, Function<T, LocalDate> dateOf, Comparator<T> order,
+                   BiConsumer<StringBuilder, T> appendRecord) {
+        this.name = name;
+        this.dateOf = dateOf;
+        this.order = order;
+        this.appendRecord = appendRecord;
+    }
+
+    /**
+     * Returns the path of the archive file of a month.
+     */
+    String getFilePath(YearMonth month) {
+        return DIRECTORY + "/" + name + "-" + month + ".gz";
+    }
+
+    /**
+     * The new contents of the archive file of one month, written next to it until every month has been written.
+     */
+    private static class StagedMonth {
+        private final Path archiveFile;
+        private final Path stagedFile;
+        private final boolean isExisting;
+        private final long oldLength;
+        private final int recordCount;
+        private final StorageEvent event;
+
+        private StagedMonth(Path archiveFile, Path stagedFile, int recordCount, StorageEvent event) {
+            this.archiveFile = archiveFile;
+            this.stagedFile = stagedFile;
+            this.isExisting = Files.exists(archiveFile);
+            this.oldLength = archiveFile.toFile().length();
+            this.recordCount = recordCount;
+            this.event = event;
+        }
+    }
+
+    /**
+     * Appends records to the archive files of the months they are in.
+     * <p>
+     * Either all the records are archived or none are. Each month is first written to a temporary file holding a
+     * copy of its archive file followed by the new gzip member, and only once every month has been written are
+     * the temporary files moved over the archive files. If a move fails, the months already moved are cut back to
+     * their old length, so a failed run leaves no partly written member and no records that would be archived
+     * again by the next run.
+     * </p>
+     *
+     * @param records The records to archive.
+     * @param nextId  The next ID to give out, which is kept for after a restart.
+     * @return The number of archive files written to.
+     * @throws IOException If an archive file could not be written, in which case none of the records are archived
+     *                     and they must be kept.
+     */
+    int append(List<T> records, int nextId) throws IOException {
+        Map<YearMonth, List<T>> recordsByMonth = new TreeMap<>();
+        for (T entry : records) {
+            recordsByMonth.computeIfAbsent(YearMonth.from(dateOf.apply(entry)), month -> new ArrayList<>()).add(entry);
+        }
+
+        Files.createDirectories(new File(DIRECTORY).toPath());
+        try (FileWriter writer = new FileWriter(getNextIdFilePath())) {
+            writer.write(nextId + "\n");
+        }
+        List<StagedMonth> stagedMonths = new ArrayList<>();
+        int movedCount = 0;
+        try {
+            for (Map.Entry<YearMonth, List<T>> entry : recordsByMonth.entrySet()) {
+                List<T> monthRecords = entry.getValue();
+                monthRecords.sort(order);
+                stagedMonths.add(stageMonth(Path.of(getFilePath(entry.getKey())), monthRecords));
+            }
+            for (StagedMonth stagedMonth : stagedMonths) {
+                Files.move(stagedMonth.stagedFile, stagedMonth.archiveFile, StandardCopyOption.ATOMIC_MOVE);
+                movedCount++;
+            }
+        } catch (IOException e) {
+            for (StagedMonth stagedMonth : stagedMonths.subList(0, movedCount)) {
+                try {
+                    undoMove(stagedMonth);
+                } catch (IOException undoException) {
+                    e.addSuppressed(undoException);
+                }
+            }
+            throw e;
+        } finally {
+            for (StagedMonth stagedMonth : stagedMonths) {
+                Files.deleteIfExists(stagedMonth.stagedFile);
+            }
+        }
+
+        for (StagedMonth stagedMonth : stagedMonths) {
+            stagedMonth.event.finish(() -> stagedMonth.archiveFile.toFile().length() - stagedMonth.oldLength,
+                    stagedMonth.recordCount);
+        }
+        return recordsByMonth.size();
+    }
+
+    /**
+     * Writes a copy of the archive file of a month, followed by a new gzip member holding the records, to a
+     * temporary file in the archive directory.
+     */
+    private StagedMonth stageMonth(Path archiveFile, List<T> records) throws IOException {
+        StorageEvent event = StorageEvent.start(archiveFile.toString(), "append");
+        Path stagedFile = Files.createTempFile(archiveFile.getParent(), archiveFile.getFileName().toString(), ".tmp");
+        try {
+            StagedMonth stagedMonth = new StagedMonth(archiveFile, stagedFile, records.size(), event);
+            if (stagedMonth.isExisting) {
+                Files.copy(archiveFile, stagedFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(
+                    new FileOutputStream(stagedFile.toFile(), true)), StandardCharsets.UTF_8)) {
+                RecordBuffer buffer = new RecordBuffer(writer);
+                for (T entry : records) {
+                    appendRecord.accept(buffer.getBuffer(), entry);
+                    buffer.endRecord();
+                }
+                buffer.flush();
+            }
+            return stagedMonth;
+        } catch (IOException e) {
+            Files.deleteIfExists(stagedFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Puts back the archive file of a month that was replaced by its staged file, which starts with the old
+     * contents, by cutting it back to its old length, or deleting it if the month had no archive file before.
+     */
+    private static void undoMove(StagedMonth stagedMonth) throws IOException {
+        if (!stagedMonth.isExisting) {
+            Files.deleteIfExists(stagedMonth.archiveFile);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(stagedMonth.archiveFile, StandardOpenOption.WRITE)) {
+            channel.truncate(stagedMonth.oldLength);
+        }
+    }
+
+    /**
+     * Reads the lines of the archive files of the months from {@code from} to {@code to}, passing each one on as
+     * soon as it is read. The lines of each month come in the order they were archived, and may include records
+     * outside the dates asked for.
+     *
+     * @param from   A date in the first month.
+     * @param to     A date in the last month.
+     * @param action Called with each line.
+     */
+    void forEachLine(LocalDate from, LocalDate to, Consumer<String> action) {
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            File archiveFile = new File(getFilePath(month));
+            if (!archiveFile.exists()) {
+                continue;
+            }
+            StorageEvent event = StorageEvent.start(archiveFile.getPath(), "forEachLine");
+            int records = 0;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(new FileInputStream(archiveFile)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    records++;
+                    action.accept(line);
+                }
+            } catch (IOException e) {
+                System.out.println("Error reading archive " + archiveFile.getPath() + ": " + e.getMessage());
+            }
+            event.finish(archiveFile::length, records);
+        }
+    }
+
+    /**
+     * Returns the next ID kept by the last archiving, or 1 if nothing has been archived.
+     */
+    int readNextId() {
+        File nextIdFile = new File(getNextIdFilePath());
+        if (!nextIdFile.exists()) {
+            return 1;
+        }
+        try {
+            return Integer.parseInt(Files.readString(nextIdFile.toPath()).trim());
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("Error reading " + nextIdFile.getPath() + ": " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private String getNextIdFilePath() {
+        return DIRECTORY + "/" + name + "-next-id.txt";
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.nursesched.storage;
 
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.metrics.StorageEvent;
 import seedu.nursesched.patient.Patient;
 
 import java.io.File;
@@ -22,6 +23,7 @@ public class PatientStorage {
             return patientList;
         }
 
+        StorageEvent event = StorageEvent.start(FILE_PATH, "readFile");
         try (Scanner fileScanner = new Scanner(patientFile)) {
             int lineNumber = 0;
             while (fileScanner.hasNext()) {
@@ -39,6 +41,7 @@ public class PatientStorage {
         } catch (FileNotFoundException e) {
             System.out.println("File not found at: " + FILE_PATH);
         }
+        event.finish(patientFile::length, patientList.size());
         return patientList;
     }
 
@@ -64,12 +67,18 @@ public class PatientStorage {
     }
 
     public static void overwriteSaveFile(ArrayList<Patient> patientList) {
+        if (DeferredPersistence.deferOverwrite(FILE_PATH, () -> overwriteSaveFile(patientList))) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "overwriteSaveFile");
         try (FileWriter writer = new FileWriter(FILE_PATH)) {
             for (Patient patient : patientList) {
-                writer.write(formatString(patient) + "\n");
+                String line = formatString(patient) + "\n";
+                writer.write(line);
             }
         } catch (IOException e) {
             System.out.println("Error saving patient information: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length(), patientList.size());
     }
 }
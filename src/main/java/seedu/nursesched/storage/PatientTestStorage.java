@@ -1,6 +1,7 @@
 package seedu.nursesched.storage;
 
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.metrics.StorageEvent;
 import seedu.nursesched.patient.MedicalTest;
 
 import java.io.File;
@@ -22,6 +23,7 @@ public class PatientTestStorage {
             return patientTestList;
         }
 
+        StorageEvent event = StorageEvent.start(FILE_PATH, "readFile");
         try (Scanner fileScanner = new Scanner(patientTestFile)) {
             int lineNumber = 0;
             while (fileScanner.hasNext()) {
@@ -39,6 +41,7 @@ public class PatientTestStorage {
         } catch (FileNotFoundException e) {
             System.out.println("File not found at: " + FILE_PATH);
         }
+        event.finish(patientTestFile::length, patientTestList.size());
         return patientTestList;
     }
 
@@ -57,12 +60,18 @@ public class PatientTestStorage {
     }
 
     public static void overwriteSaveFile(ArrayList<MedicalTest> patientTestList) {
+        if (DeferredPersistence.deferOverwrite(FILE_PATH, () -> overwriteSaveFile(patientTestList))) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "overwriteSaveFile");
         try (FileWriter writer = new FileWriter(FILE_PATH)) {
             for (MedicalTest medicalTest : patientTestList) {
-                writer.write(formatString(medicalTest) + "\n");
+                String line = formatString(medicalTest) + "\n";
+                writer.write(line);
             }
         } catch (IOException e) {
             System.out.println("Error saving patient tests: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length(), patientTestList.size());
     }
 }
@@ -0,0 +1,57 @@
+package seedu.nursesched.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Collects the lines of a save file in one reusable buffer and writes them out in large chunks.
+ * <p>
+ * Each record is appended field by field into {@link #getBuffer()} and ended with {@link #endRecord()}, so saving
+ * a list creates no strings per record, unlike concatenating a line for each record and writing it on its own.
+ * </p>
+ */
+class RecordBuffer {
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private final Writer writer;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+    private char[] chars = new char[FLUSH_THRESHOLD + 1024];
+
+    RecordBuffer(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Returns the buffer to append the fields of the current record to.
+     */
+    StringBuilder getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Ends the current record with a line break, writing out the buffer if it is full.
+     *
+     * @throws IOException If the buffer could not be written.
+     */
+    void endRecord() throws IOException {
+        buffer.append('\n');
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes out every record ended so far. Must be called once all records have been ended.
+     *
+     * @throws IOException If the buffer could not be written.
+     */
+    void flush() throws IOException {
+        int length = buffer.length();
+        if (chars.length < length) {
+            chars = new char[length];
+        }
+        buffer.getChars(0, length, chars, 0);
+        writer.write(chars, 0, length);
+        buffer.setLength(0);
+    }
+}
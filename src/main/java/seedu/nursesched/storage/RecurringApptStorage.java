@@ -0,0 +1,128 @@
+package seedu.nursesched.storage;
+
+import seedu.nursesched.appointment.RecurringAppointment;
+import seedu.nursesched.metrics.StorageEvent;
+import seedu.nursesched.schedule.Recurrence;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Scanner;
+
+/**
+ * Provides persistent storage operations for recurring appointments.
+ * <p>
+ * Each recurring appointment is saved as a single line holding its recurrence rule, no matter how many times it
+ * repeats.
+ * </p>
+ */
+public class RecurringApptStorage {
+    private static final String FILE_PATH = "data/ApptRecurring.txt";
+    private static final String NO_END_DATE = "-";
+
+    /**
+     * Reads all recurring appointments from the save file.
+     * <p>
+     * If the save file doesn't exist, it creates the necessary directories and returns an empty ArrayList.
+     * </p>
+     *
+     * @return An ArrayList containing all recurring appointments read from the save file.
+     */
+    public static ArrayList<RecurringAppointment> readFile() {
+        File file = new File(FILE_PATH);
+        ArrayList<RecurringAppointment> recurringList = new ArrayList<>();
+
+        if (!file.exists()) {
+            file.getParentFile().mkdirs();
+            return recurringList;
+        }
+
+        StorageEvent event = StorageEvent.start(FILE_PATH, "readFile");
+        try (Scanner fileScanner = new Scanner(file)) {
+            int lineNumber = 0;
+            while (fileScanner.hasNext()) {
+                lineNumber++;
+                String currentLine = fileScanner.nextLine();
+
+                try {
+                    recurringList.add(getDetails(currentLine));
+                } catch (Exception e) {
+                    System.out.println("Error parsing line " + lineNumber + " of save file: " + currentLine);
+                    System.out.println("Consider removing that line from the save file. Bypassing line.");
+                }
+            }
+        } catch (FileNotFoundException e) {
+            System.out.println("File not found at: " + FILE_PATH);
+        }
+        event.finish(file::length, recurringList.size());
+        return recurringList;
+    }
+
+    /**
+     * Extracts the details of a recurring appointment from a line of the save file.
+     *
+     * @param currentLine The formatted string containing the recurring appointment.
+     * @return            A new RecurringAppointment object created with the parsed information.
+     */
+    private static RecurringAppointment getDetails(String currentLine) {
+        String[] parts = currentLine.split(" \\| ", 9);
+
+        int id = Integer.parseInt(parts[0]);
+        LocalTime startTime = LocalTime.parse(parts[1]);
+        LocalTime endTime = LocalTime.parse(parts[2]);
+        LocalDate firstDate = LocalDate.parse(parts[3]);
+        int intervalDays = Integer.parseInt(parts[4]);
+        LocalDate untilDate = parts[5].equals(NO_END_DATE) ? null : LocalDate.parse(parts[5]);
+        int count = Integer.parseInt(parts[6]);
+        int importance = Integer.parseInt(parts[7]);
+        String notes = parts.length > 8 ? parts[8] : "";
+        if (Recurrence.parseIntervalDays(parts[4]) == 0 || !Recurrence.isWithinLimits(firstDate, untilDate, count)) {
+            throw new IllegalArgumentException("Recurring appointment out of range: " + currentLine);
+        }
+        return new RecurringAppointment(id, startTime, endTime, firstDate, intervalDays, untilDate, count, notes,
+                importance);
+    }
+
+    /**
+     * Formats a recurring appointment into a string for storage.
+     * <p>
+     * String format:
+     * [Patient ID] | [Start Time] | [End Time] | [First Date] | [Interval Days] | [Until Date or -] | [Count]
+     * | [Importance] | [Notes]
+     * </p>
+     *
+     * @param appt The recurring appointment to format.
+     * @return     Formatted string for the save file.
+     */
+    public static String formatString(RecurringAppointment appt) {
+        String untilDate = appt.getUntilDate() == null ? NO_END_DATE : appt.getUntilDate().toString();
+        return appt.getID() + " | " + appt.getStartTime() + " | " + appt.getEndTime()
+                + " | " + appt.getFirstDate() + " | " + appt.getIntervalDays() + " | " + untilDate
+                + " | " + appt.getCount() + " | " + appt.getImportance() + " | " + appt.getNotes();
+    }
+
+    /**
+     * Overwrites the save file with the current list of recurring appointments.
+     *
+     * @param recurringList The list of recurring appointments to replace the save file with.
+     */
+    public static void overwriteSaveFile(ArrayList<RecurringAppointment> recurringList) {
+        if (DeferredPersistence.deferOverwrite(FILE_PATH, () -> overwriteSaveFile(recurringList))) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "overwriteSaveFile");
+        try (FileWriter writer = new FileWriter(FILE_PATH)) {
+            for (RecurringAppointment appt : recurringList) {
+                String line = formatString(appt) + "\n";
+                writer.write(line);
+            }
+        } catch (IOException e) {
+            System.out.println("Error saving recurring appointments: " + e.getMessage());
+        }
+        event.finish(() -> new File(FILE_PATH).length(), recurringList.size());
+    }
+}
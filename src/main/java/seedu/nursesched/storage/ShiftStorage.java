@@ -1,6 +1,10 @@
 package seedu.nursesched.storage;
 
+import seedu.nursesched.metrics.StorageEvent;
+import seedu.nursesched.schedule.Recurrence;
+import seedu.nursesched.shift.RecurringShift;
 import seedu.nursesched.shift.Shift;
+import seedu.nursesched.ui.RecordFormat;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -8,24 +12,33 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Scanner;
 
 /**
  * Provides persistent storage operations for shifts.
  * This class handles reading shifts from a local save file,
  * writing shifts to a file, and formatting shift data for storage.
+ * Recurring shifts are kept in the same file, one line per recurring shift, marked with {@value #RECURRING_MARKER}.
  */
 public class ShiftStorage {
     private static final String FILE_PATH = "data/Shift.txt";
+    private static final String RECURRING_MARKER = "R";
+    private static final String NO_END_DATE = "-";
+    private static final MonthlyArchive<Shift> archive = new MonthlyArchive<>("shift", Shift::getDate,
+            Comparator.comparing(Shift::getDate).thenComparing(Shift::getStartTime), ShiftStorage::appendRecord);
 
     /**
      * Reads all shifts from the shift save file.
      * If the save file doesn't exist, it creates the necessary directories and returns an empty ArrayList.
      *
+     * @param recurringShifts The list to add the recurring shifts in the save file to.
      * @return An ArrayList containing all shifts read from the storage file.
      */
-    public static ArrayList<Shift> readFile() {
+    public static ArrayList<Shift> readFile(ArrayList<RecurringShift> recurringShifts) {
         File file = new File(FILE_PATH);
         ArrayList<Shift> shiftList = new ArrayList<>();
 
@@ -34,19 +47,53 @@ public class ShiftStorage {
             return shiftList;
         }
 
+        StorageEvent event = StorageEvent.start(FILE_PATH, "readFile");
         try (Scanner fileScanner = new Scanner(file)) {
+            int lineNumber = 0;
             while (fileScanner.hasNextLine()) {
+                lineNumber++;
                 String currentLine = fileScanner.nextLine();
-                Shift shift = getDetails(currentLine);
-                shiftList.add(shift);
+
+                try {
+                    if (currentLine.startsWith(RECURRING_MARKER + " | ")) {
+                        recurringShifts.add(getRecurringDetails(currentLine));
+                    } else {
+                        shiftList.add(getDetails(currentLine));
+                    }
+                } catch (Exception e) {
+                    System.out.println("Error parsing line " + lineNumber + " of save file: " + currentLine);
+                    System.out.println("Consider removing that line from the save file. Bypassing line.");
+                }
             }
         } catch (FileNotFoundException e) {
             System.out.println("File not found at: " + FILE_PATH);
         }
 
+        event.finish(file::length, shiftList.size() + recurringShifts.size());
         return shiftList;
     }
 
+    /**
+     * Extracts recurring shift details from a string in the save file.
+     *
+     * @param currentLine The formatted string containing the recurring shift.
+     * @return A new RecurringShift object created with parsed information.
+     */
+    private static RecurringShift getRecurringDetails(String currentLine) {
+        String[] parts = currentLine.split(" \\| ", 8);
+
+        LocalTime startTime = LocalTime.parse(parts[1]);
+        LocalTime endTime = LocalTime.parse(parts[2]);
+        LocalDate firstDate = LocalDate.parse(parts[3]);
+        int intervalDays = Integer.parseInt(parts[4]);
+        LocalDate untilDate = parts[5].equals(NO_END_DATE) ? null : LocalDate.parse(parts[5]);
+        int count = Integer.parseInt(parts[6]);
+        if (Recurrence.parseIntervalDays(parts[4]) == 0 || !Recurrence.isWithinLimits(firstDate, untilDate, count)) {
+            throw new IllegalArgumentException("Recurring shift out of range: " + currentLine);
+        }
+        return new RecurringShift(startTime, endTime, firstDate, intervalDays, untilDate, count, parts[7]);
+    }
+
     /**
      * Extracts shift details from a string in the save file.
      *
@@ -63,7 +110,10 @@ public class ShiftStorage {
         String task = parts.length > 4 ? parts[4] : "";
         double overtime = parts.length > 5 ? Double.parseDouble(parts[5]) : 0.0;
 
-        Shift shift = new Shift(startTime, endTime, date, task);
+        // Save files written before shifts had IDs give them new IDs in file order
+        Shift shift = parts.length > 6
+                ? new Shift(Integer.parseInt(parts[6]), startTime, endTime, date, task)
+                : new Shift(startTime, endTime, date, task);
         shift.setDone(isDone);
         shift.setOvertimeHours(overtime);
         return shift;
@@ -71,32 +121,70 @@ public class ShiftStorage {
 
     /**
      * Formats a Shift object into a string for storage.
-     * Format: [Status] | [Start Time] | [End Time] | [Date] | [Task]
+     * Format: [Status] | [Start Time] | [End Time] | [Date] | [Task] | [Overtime Hours] | [ID]
      *
      * @param shift The Shift object to format.
      * @return Formatted string for save file.
      */
     public static String formatString(Shift shift) {
-        return shift.getStatus() + " | " + shift.getStartTime()
-                + " | " + shift.getEndTime()
-                + " | " + shift.getDate()
-                + " | " + shift.getShiftTask()
-                + " | " + shift.getOvertimeHours();
+        return appendRecord(new StringBuilder(64), shift).toString();
     }
 
     /**
-     * Overwrites the storage file with the current ArrayList of shifts.
+     * Appends the save file line of a shift, as returned by {@link #formatString(Shift)}, to a buffer.
+     */
+    static StringBuilder appendRecord(StringBuilder sb, Shift shift) {
+        sb.append(shift.getStatus()).append(" | ");
+        RecordFormat.appendIsoTime(sb, shift.getStartTime()).append(" | ");
+        RecordFormat.appendIsoTime(sb, shift.getEndTime()).append(" | ");
+        RecordFormat.appendDate(sb, shift.getDate()).append(" | ").append(shift.getShiftTask())
+                .append(" | ").append(shift.getOvertimeHours()).append(" | ").append(shift.getId());
+        return sb;
+    }
+
+    /**
+     * Formats a RecurringShift object into a string for storage.
+     * Format: R | [Start Time] | [End Time] | [First Date] | [Interval Days] | [Until Date or -] | [Count] | [Task]
+     *
+     * @param recurringShift The RecurringShift object to format.
+     * @return Formatted string for save file.
+     */
+    public static String formatString(RecurringShift recurringShift) {
+        LocalDate untilDate = recurringShift.getUntilDate();
+        return RECURRING_MARKER + " | " + recurringShift.getStartTime()
+                + " | " + recurringShift.getEndTime()
+                + " | " + recurringShift.getFirstDate()
+                + " | " + recurringShift.getIntervalDays()
+                + " | " + (untilDate == null ? NO_END_DATE : untilDate.toString())
+                + " | " + recurringShift.getCount()
+                + " | " + recurringShift.getShiftTask();
+    }
+
+    /**
+     * Overwrites the storage file with the current ArrayList of shifts and the current recurring shifts.
      *
      * @param shiftList The ArrayList of Shift objects to replace the save file with.
      */
     public static void overwriteSaveFile(ArrayList<Shift> shiftList) {
+        if (DeferredPersistence.deferOverwrite(FILE_PATH, () -> overwriteSaveFile(shiftList))) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "overwriteSaveFile");
         try (FileWriter writer = new FileWriter(FILE_PATH)) {
+            RecordBuffer records = new RecordBuffer(writer);
             for (Shift shift : shiftList) {
-                writer.write(formatString(shift) + "\n");
+                appendRecord(records.getBuffer(), shift);
+                records.endRecord();
+            }
+            for (RecurringShift recurringShift : Shift.getRecurringShiftList()) {
+                records.getBuffer().append(formatString(recurringShift));
+                records.endRecord();
             }
+            records.flush();
         } catch (IOException e) {
             System.out.println("Error saving shifts: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length(), shiftList.size() + Shift.getRecurringShiftList().size());
     }
 
     /**
@@ -106,10 +194,47 @@ public class ShiftStorage {
      * @param shift Shift object to append to the storage file.
      */
     public static void appendToFile(Shift shift) {
+        String line = formatString(shift) + "\n";
+        if (DeferredPersistence.deferAppend(FILE_PATH, line)) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "appendToFile");
+        long oldLength = event.isEnabled() ? new File(FILE_PATH).length() : 0;
         try (FileWriter writer = new FileWriter(FILE_PATH, true)) {
-            writer.write(formatString(shift) + "\n");
+            writer.write(line);
         } catch (IOException e) {
             System.out.println("Error saving shift: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length() - oldLength, 1);
+    }
+
+    /**
+     * Returns the path of the shift archive file of a month.
+     *
+     * @param month The month.
+     */
+    public static String getArchiveFilePath(YearMonth month) {
+        return archive.getFilePath(month);
+    }
+
+    /**
+     * Appends shifts to the monthly shift archive files, e.g. {@code data/archive/shift-2026-09.gz}, by date.
+     * See {@link MonthlyArchive} for the file format.
+     *
+     * @param shifts The shifts to archive.
+     * @param nextId The next shift ID to give out, which is kept for after a restart.
+     * @return The number of archive files written to.
+     * @throws IOException If an archive file could not be written, in which case none of the shifts
+     *                     are archived and they must be kept.
+     */
+    public static int archive(List<Shift> shifts, int nextId) throws IOException {
+        return archive.append(shifts, nextId);
+    }
+
+    /**
+     * Returns the next shift ID kept by the last archiving, or 1 if no shifts have been archived.
+     */
+    public static int readArchivedNextId() {
+        return archive.readNextId();
     }
 }
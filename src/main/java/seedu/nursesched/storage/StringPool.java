@@ -0,0 +1,53 @@
+package seedu.nursesched.storage;
+
+import java.util.HashMap;
+
+/**
+ * Canonicalizes the values of a field that takes few distinct values, so that equal values share one string.
+ * <p>
+ * Each line read from a save file is split into new strings, so 50k medical tests hold 50k copies of a handful of
+ * test names. Passing such fields through a pool keeps one copy of each value, and the copies read from the file
+ * become garbage straight away. A pool stops taking new values once it holds {@code capacity} of them, so a field
+ * that turns out to be mostly unique costs at most a bounded map and is otherwise left as it is.
+ * </p>
+ */
+public class StringPool {
+    private final HashMap<String, String> values = new HashMap<>();
+    private final int capacity;
+
+    /**
+     * Constructs an empty pool.
+     *
+     * @param capacity The largest number of distinct values to keep.
+     */
+    public StringPool(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pooled string equal to {@code value}, adding {@code value} to the pool if there is none.
+     *
+     * @param value The string to canonicalize, which may be {@code null}.
+     * @return An equal string, which is the same object for every equal value while the pool has room.
+     */
+    public synchronized String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String pooled = values.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (values.size() < capacity) {
+            values.put(value, value);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of distinct values in the pool.
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+}
@@ -2,7 +2,9 @@ package seedu.nursesched.storage;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.metrics.StorageEvent;
 import seedu.nursesched.task.Task;
+import seedu.nursesched.ui.RecordFormat;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -10,12 +12,17 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Scanner;
 
 public class TaskStorage {
     private static final String FILE_PATH = "data/Task.txt";
+    private static final MonthlyArchive<Task> archive = new MonthlyArchive<>("task", Task::getByDate,
+            Comparator.comparing(Task::getByDate).thenComparing(Task::getByTime), TaskStorage::appendRecord);
 
     /**
      * Reads the task data from the storage file and returns a list of tasks.
@@ -32,6 +39,7 @@ public class TaskStorage {
             return taskList;
         }
 
+        StorageEvent event = StorageEvent.start(FILE_PATH, "readFile");
         try (Scanner fileScanner = new Scanner(taskFile)) {
             while (fileScanner.hasNext()) {
                 String currentLine = fileScanner.nextLine();
@@ -44,12 +52,14 @@ public class TaskStorage {
         } catch (FileNotFoundException e) {
             System.out.println("File not found at: " + FILE_PATH);
         }
+        event.finish(taskFile::length, taskList.size());
         return taskList;
     }
 
     /**
      * Parses a string representing a task and returns a Task object.
-     * The expected format is: "completion status | description | due date | due time"
+     * The expected format is: "completion status | description | due date | due time | ID". Lines written
+     * before tasks had IDs have no ID field and give the tasks new IDs in file order.
      *
      * @param currentLine The line representing a task.
      * @return A Task object with the parsed values.
@@ -59,7 +69,7 @@ public class TaskStorage {
         try {
             String[] parts = currentLine.split(" \\| ");
 
-            if (parts.length != 4) {
+            if (parts.length != 4 && parts.length != 5) {
                 System.out.println("Invalid task format in storage file: " + currentLine);
                 return null;
             }
@@ -100,7 +110,9 @@ public class TaskStorage {
                 }
                 throw new NurseSchedException(ExceptionMessage.INVALID_DATETIME_FORMAT);
             }
-            return new Task(description, byDate, byTime, isDone);
+            return parts.length == 5
+                    ? new Task(Integer.parseInt(parts[4]), description, byDate, byTime, isDone)
+                    : new Task(description, byDate, byTime, isDone);
         } catch (Exception e) {
             System.out.println("Unexpected error while parsing tasks -> " + currentLine);
             return null;
@@ -109,16 +121,22 @@ public class TaskStorage {
 
     /**
      * Formats a Task object into a string representation suitable for saving.
-     * The format is: "completion status | description | due date | due time"
+     * The format is: "completion status | description | due date | due time | ID"
      *
      * @param task The Task object to format.
      * @return A formatted string representation of the task.
      */
     public static String formatString(Task task) {
-        return (task.getIsDone() ? "[X]" : "[ ]") + " | "
-                + task.getDescription() + " | "
-                + task.getByDate() + " | "
-                + task.getByTime();
+        return appendRecord(new StringBuilder(64), task).toString();
+    }
+
+    /**
+     * Appends the save file line of a task, as returned by {@link #formatString(Task)}, to a buffer.
+     */
+    static StringBuilder appendRecord(StringBuilder sb, Task task) {
+        sb.append(task.getIsDone() ? "[X]" : "[ ]").append(" | ").append(task.getDescription()).append(" | ");
+        RecordFormat.appendDate(sb, task.getByDate()).append(" | ");
+        return RecordFormat.appendIsoTime(sb, task.getByTime()).append(" | ").append(task.getId());
     }
 
     /**
@@ -127,12 +145,50 @@ public class TaskStorage {
      * @param taskList The list of tasks to save to the file.
      */
     public static void overwriteSaveFile(ArrayList<Task> taskList) {
+        if (DeferredPersistence.deferOverwrite(FILE_PATH, () -> overwriteSaveFile(taskList))) {
+            return;
+        }
+        StorageEvent event = StorageEvent.start(FILE_PATH, "overwriteSaveFile");
         try (FileWriter writer = new FileWriter(FILE_PATH)) {
+            RecordBuffer records = new RecordBuffer(writer);
             for (Task task : taskList) {
-                writer.write(formatString(task) + "\n");
+                appendRecord(records.getBuffer(), task);
+                records.endRecord();
             }
+            records.flush();
         } catch (IOException e) {
             System.out.println("Error saving tasks: " + e.getMessage());
         }
+        event.finish(() -> new File(FILE_PATH).length(), taskList.size());
+    }
+
+    /**
+     * Returns the path of the task archive file of a month.
+     *
+     * @param month The month.
+     */
+    public static String getArchiveFilePath(YearMonth month) {
+        return archive.getFilePath(month);
+    }
+
+    /**
+     * Appends tasks to the monthly task archive files, e.g. {@code data/archive/task-2026-09.gz}, by due date.
+     * See {@link MonthlyArchive} for the file format.
+     *
+     * @param tasks  The tasks to archive.
+     * @param nextId The next task ID to give out, which is kept for after a restart.
+     * @return The number of archive files written to.
+     * @throws IOException If an archive file could not be written, in which case none of the tasks
+     *                     are archived and they must be kept.
+     */
+    public static int archive(List<Task> tasks, int nextId) throws IOException {
+        return archive.append(tasks, nextId);
+    }
+
+    /**
+     * Returns the next task ID kept by the last archiving, or 1 if no tasks have been archived.
+     */
+    public static int readArchivedNextId() {
+        return archive.readNextId();
     }
 }
@@ -2,14 +2,19 @@ package seedu.nursesched.task;
 
 import seedu.nursesched.exception.ExceptionMessage;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.schedule.DateIndex;
+import seedu.nursesched.schedule.IdIndex;
 import seedu.nursesched.storage.TaskStorage;
+import seedu.nursesched.ui.ListPrinter;
+import seedu.nursesched.ui.RecordFormat;
 
 import java.io.File;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -23,7 +28,13 @@ import java.util.logging.Level;
 public class Task {
     private static ArrayList<Task> taskList;
     private static final Logger logr = Logger.getLogger("Task");
+    private static final DateIndex<Task> dateIndex = new DateIndex<>(t -> t.byDate,
+            Comparator.comparing((Task t) -> t.byTime));
+    private static final IdIndex<Task> idIndex = new IdIndex<>(Task::getId);
+    private static int modificationCount = 0;
+    private static int nextId = 1;
 
+    private final int id;
     private String description;
     private LocalDate byDate;
     private LocalTime byTime;
@@ -49,7 +60,7 @@ public class Task {
             logr.log(Level.SEVERE, "File logger not working", e);
         }
         taskList = TaskStorage.readFile();
-
+        nextId = Math.max(nextId, TaskStorage.readArchivedNextId());
     }
 
     /**
@@ -61,6 +72,23 @@ public class Task {
      * @param isDone The task's completion status, whether it is completed or not.
      */
     public Task(String description, LocalDate byDate, LocalTime byTime, boolean isDone) {
+        this(nextId, description, byDate, byTime, isDone);
+    }
+
+    /**
+     * Constructs a Task object with the ID it was given when it was first created, e.g. when it is read from the
+     * save file. New tasks are given IDs after the largest ID seen so far.
+     *
+     * @param id The ID of the task, which must be positive.
+     * @param description The task description.
+     * @param byDate The task's due date.
+     * @param byTime The task's due time.
+     * @param isDone The task's completion status, whether it is completed or not.
+     */
+    public Task(int id, String description, LocalDate byDate, LocalTime byTime, boolean isDone) {
+        assert id > 0 : "Task ID must be positive";
+        this.id = id;
+        nextId = Math.max(nextId, id + 1);
         this.description = description;
         this.byDate = byDate;
         this.byTime = byTime;
@@ -86,34 +114,59 @@ public class Task {
             logr.warning("Due date and time cannot be in the past!");
             throw new NurseSchedException(ExceptionMessage.INVALID_DUE_DATE_TIME);
         }
-        taskList.add(new Task(description, byDate, byTime, isDone));
+        Task task = new Task(description, byDate, byTime, isDone);
+        taskList.add(task);
+        idIndex.update(taskList, modificationCount, modificationCount, null, task);
+        dateIndex.update(taskList, modificationCount, modificationCount, null, task);
         TaskStorage.overwriteSaveFile(taskList);
         System.out.println("Task added: " + description);
         logr.info("Task added: " + description);
     }
 
     /**
-     * Deletes a task from the task list.
+     * Returns the task at an index of the task list, as numbered by {@code task list}.
      *
-     * @param index The index of the task to be deleted from the list.
+     * @param index The 1-based index of the task.
+     * @return The task.
      * @throws NurseSchedException If the task index is out of range.
      */
-    public static void deleteTask(int index) throws NurseSchedException {
+    public static Task getTask(int index) throws NurseSchedException {
         assert index > 0
                 : "Task index should not be negative.";
         if (index > taskList.size()) {
             logr.warning("Task index out of range.");
             throw new NurseSchedException(ExceptionMessage.TASK_INDEX_OUT_OF_BOUNDS);
         }
-        try {
-            taskList.remove(index - 1);
-            TaskStorage.overwriteSaveFile(taskList);
-            System.out.println("Task deleted successfully!");
-            logr.info("Task deleted.");
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no index " + index + " in the task list!");
-            logr.warning("There is no index " + index + " in the task list!");
+        return taskList.get(index - 1);
+    }
+
+    /**
+     * Deletes a task from the task list.
+     *
+     * @param index The index of the task to be deleted from the list.
+     * @throws NurseSchedException If the task index is out of range.
+     */
+    public static void deleteTask(int index) throws NurseSchedException {
+        deleteTask(getTask(index));
+    }
+
+    /**
+     * Deletes a task from the task list, e.g. one found by {@link #findById(int)}.
+     *
+     * @param task The task to be deleted.
+     * @throws NurseSchedException If the task is not in the task list.
+     */
+    public static void deleteTask(Task task) throws NurseSchedException {
+        if (!taskList.remove(task)) {
+            logr.warning("Task not in the task list: " + task);
+            throw new NurseSchedException(ExceptionMessage.TASK_ID_NOT_FOUND);
         }
+        modificationCount++;
+        idIndex.update(taskList, modificationCount - 1, modificationCount, task, null);
+        dateIndex.update(taskList, modificationCount - 1, modificationCount, task, null);
+        TaskStorage.overwriteSaveFile(taskList);
+        System.out.println("Task deleted successfully!");
+        logr.info("Task deleted.");
     }
 
     /**
@@ -123,26 +176,24 @@ public class Task {
      * @throws NurseSchedException If task index is out of range.
      */
     public static void markTask(int index) throws NurseSchedException {
-        assert index > 0
-                : "Task index should not be negative.";
-        if (index > taskList.size()) {
-            logr.warning("Task index out of range.");
-            throw new NurseSchedException(ExceptionMessage.TASK_INDEX_OUT_OF_BOUNDS);
-        }
-        try {
-            Task task = taskList.get(index - 1);
-            if (task.getIsDone()) {
-                logr.warning("Invalid attempt to mark an already marked task.");
-                throw new NurseSchedException(ExceptionMessage.MARKING_A_MARKED_TASK);
-            }
-            task.setIsDone(true);
-            TaskStorage.overwriteSaveFile(taskList);
-            System.out.println("Task marked: " + taskList.get(index - 1).toString());
-            logr.info("Task marked: " + taskList.get(index - 1).description);
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no index " + index + " in the task list!");
-            logr.warning("There is no index " + index + " in the task list!");
+        markTask(getTask(index));
+    }
+
+    /**
+     * Marks a task as done.
+     *
+     * @param task The task to be marked.
+     * @throws NurseSchedException If the task is already done.
+     */
+    public static void markTask(Task task) throws NurseSchedException {
+        if (task.getIsDone()) {
+            logr.warning("Invalid attempt to mark an already marked task.");
+            throw new NurseSchedException(ExceptionMessage.MARKING_A_MARKED_TASK);
         }
+        task.setIsDone(true);
+        TaskStorage.overwriteSaveFile(taskList);
+        System.out.println("Task marked: " + task);
+        logr.info("Task marked: " + task.description);
     }
 
     /**
@@ -152,26 +203,24 @@ public class Task {
      * @throws NurseSchedException If task index is out of range.
      */
     public static void unmarkTask(int index) throws NurseSchedException {
-        assert index > 0
-                : "Task index should not be negative.";
-        if (index > taskList.size()) {
-            logr.warning("Task index out of range.");
-            throw new NurseSchedException(ExceptionMessage.TASK_INDEX_OUT_OF_BOUNDS);
-        }
-        try {
-            Task task = taskList.get(index - 1);
-            if (!task.getIsDone()) {
-                logr.warning("Invalid attempt to unmark an already unmarked task.");
-                throw new NurseSchedException(ExceptionMessage.UNMARKING_AN_UNMARKED_TASK);
-            }
-            task.setIsDone(false);
-            TaskStorage.overwriteSaveFile(taskList);
-            System.out.println("Task unmarked: " + taskList.get(index - 1).toString());
-            logr.info("Task unmarked: " + taskList.get(index - 1).description);
-        } catch (IndexOutOfBoundsException e) {
-            System.out.println("There is no index " + index + " in the task list!");
-            logr.warning("There is no index " + index + " in the task list!");
+        unmarkTask(getTask(index));
+    }
+
+    /**
+     * Unmarks a task as undone.
+     *
+     * @param task The task to be unmarked.
+     * @throws NurseSchedException If the task is not done.
+     */
+    public static void unmarkTask(Task task) throws NurseSchedException {
+        if (!task.getIsDone()) {
+            logr.warning("Invalid attempt to unmark an already unmarked task.");
+            throw new NurseSchedException(ExceptionMessage.UNMARKING_AN_UNMARKED_TASK);
         }
+        task.setIsDone(false);
+        TaskStorage.overwriteSaveFile(taskList);
+        System.out.println("Task unmarked: " + task);
+        logr.info("Task unmarked: " + task.description);
     }
 
     /**
@@ -183,13 +232,48 @@ public class Task {
             return;
         }
         int listSize = taskList.size();
-        for (int index = 0; index < listSize; index++) {
-            System.out.println((index + 1) + ". " + taskList.get(index).toString());
-        }
-        System.out.println("You have " + listSize + (listSize == 1 ? " task!" : " tasks!"));
+        ListPrinter.printRows(listSize, (sb, i) -> taskList.get(i).appendTo(sb.append(i + 1).append(". "))
+                .append(" (#").append(taskList.get(i).id).append(')'));
+        ListPrinter.println("You have " + listSize + (listSize == 1 ? " task!" : " tasks!"));
+        ListPrinter.flush();
         logr.info("All tasks listed");
     }
 
+    /**
+     * Lists the tasks due from {@code from} to {@code to}, both inclusive, in order of due date and time.
+     * <p>
+     * Only the dates in the range are visited in the date index, so a week's tasks cost O(log D + k) however
+     * many tasks are stored.
+     * </p>
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     */
+    public static void listTasks(LocalDate from, LocalDate to) {
+        List<Task> tasks = getTasksBetween(from, to);
+        ListPrinter.printRows(tasks.size(), (sb, i) -> tasks.get(i).appendTo(sb));
+        ListPrinter.println("You have " + tasks.size() + (tasks.size() == 1 ? " task" : " tasks")
+                + " due from " + from + " to " + to + "!");
+        ListPrinter.flush();
+        logr.info("Tasks from " + from + " to " + to + " listed");
+    }
+
+    /**
+     * Returns the tasks due from {@code from} to {@code to}, both inclusive, in order of due date and time.
+     *
+     * @param from The first date.
+     * @param to   The last date.
+     * @return The tasks in the range.
+     */
+    public static List<Task> getTasksBetween(LocalDate from, LocalDate to) {
+        dateIndex.refresh(taskList, modificationCount);
+        List<Task> tasks = new ArrayList<>();
+        for (List<Task> dayTasks : dateIndex.getRange(from, to).values()) {
+            tasks.addAll(dayTasks);
+        }
+        return tasks;
+    }
+
     /**
      * Edits a task's {@code description}, {@code byDate} and/or {@code byTime}.
      *
@@ -202,18 +286,28 @@ public class Task {
      */
     public static void editTask(int index, String description,
                                 LocalDate byDate, LocalTime byTime) throws NurseSchedException {
-        assert index > 0
-                : "Task index should not be negative.";
         logr.info("Attempting to edit task " + index);
-
-        if (index > taskList.size()) {
-            logr.warning("Task index out of range.");
+        Task task;
+        try {
+            task = getTask(index);
+        } catch (NurseSchedException e) {
             System.out.println("Task could not be edited!");
-            throw new NurseSchedException(ExceptionMessage.TASK_INDEX_OUT_OF_BOUNDS);
+            throw e;
         }
+        editTask(task, description, byDate, byTime);
+    }
 
-        Task task = taskList.get(index - 1);
-
+    /**
+     * Edits a task's {@code description}, {@code byDate} and/or {@code byTime}.
+     *
+     * @param task The task to be edited, e.g. one found by {@link #findById(int)}.
+     * @param description The new description of the task.
+     * @param byDate The new due date of the task.
+     * @param byTime The new due time of the task.
+     * @throws NurseSchedException If the {@code byDate} and {@code byTime} is in the past.
+     */
+    public static void editTask(Task task, String description,
+                                LocalDate byDate, LocalTime byTime) throws NurseSchedException {
         LocalDate originalDate = task.getByDate();
         LocalTime originalTime = task.getByTime();
         LocalDate dateNow = LocalDate.now();
@@ -273,6 +367,50 @@ public class Task {
         }
     }
 
+    /**
+     * Moves the done tasks that were due more than {@code retentionDays} days before {@code today} into the
+     * monthly task archive files, and rewrites the save file without them.
+     *
+     * @param today         Today's date.
+     * @param retentionDays The number of days to keep done tasks for after they were due.
+     * @return The number of tasks archived.
+     * @throws IOException If the archive could not be written, in which case no tasks are archived and the task list
+     *                     is unchanged, as the archive files are written all or nothing.
+     */
+    public static int archiveDone(LocalDate today, int retentionDays) throws IOException {
+        LocalDate cutoff = today.minusDays(retentionDays);
+        ArrayList<Task> archived = new ArrayList<>();
+        for (Task task : taskList) {
+            if (task.isDone && task.byDate.isBefore(cutoff)) {
+                archived.add(task);
+            }
+        }
+        if (archived.isEmpty()) {
+            return 0;
+        }
+        TaskStorage.archive(archived, nextId);
+        taskList.removeIf(task -> task.isDone && task.byDate.isBefore(cutoff));
+        modificationCount++;
+        TaskStorage.overwriteSaveFile(taskList);
+        logr.info("Archived " + archived.size() + " done tasks");
+        return archived.size();
+    }
+
+    /**
+     * Returns the task with an ID, looked up in a hash map that is kept up to date with the task list.
+     *
+     * @param id The ID of the task.
+     * @return The task, or {@code null} if there is none.
+     */
+    public static Task findById(int id) {
+        idIndex.refresh(taskList, modificationCount);
+        return idIndex.get(id);
+    }
+
+    public int getId() {
+        return id;
+    }
+
     public String getDescription() {
         return description;
     }
@@ -287,6 +425,7 @@ public class Task {
 
     public void setByDate(LocalDate byDate) {
         this.byDate = byDate;
+        modificationCount++;
     }
 
     public LocalTime getByTime() {
@@ -295,6 +434,7 @@ public class Task {
 
     public void setByTime(LocalTime byTime) {
         this.byTime = byTime;
+        modificationCount++;
     }
 
     public boolean getIsDone() {
@@ -309,17 +449,32 @@ public class Task {
         return taskList;
     }
 
+    /**
+     * Replaces the task list in memory with the contents of the save file, discarding unsaved changes.
+     */
+    public static void reloadFromFile() {
+        taskList = TaskStorage.readFile();
+        nextId = Math.max(nextId, TaskStorage.readArchivedNextId());
+    }
+
     public static void resetTaskList() {
         taskList = new ArrayList<Task>();
     }
 
     @Override
     public String toString() {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd MMM yyyy");
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("hh:mm a");
-        return (isDone ? "[X] " : "[ ] ")
-                + description
-                + ", By: " + byDate.format(dateFormatter)
-                + ", " + byTime.format(timeFormatter);
+        return appendTo(new StringBuilder(64)).toString();
+    }
+
+    /**
+     * Appends the text returned by {@link #toString()} to a buffer without creating any intermediate strings.
+     *
+     * @param sb The buffer to append to.
+     * @return The buffer.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        sb.append(isDone ? "[X] " : "[ ] ").append(description).append(", By: ");
+        RecordFormat.appendLongDate(sb, byDate).append(", ");
+        return RecordFormat.appendTwelveHourTime(sb, byTime);
     }
 }
@@ -0,0 +1,371 @@
+package seedu.nursesched.tools;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Random;
+
+/**
+ * Writes a synthetic NurseSched dataset for scale testing.
+ * <p>
+ * The generated files use exactly the line formats read by the classes in {@code seedu.nursesched.storage},
+ * so they can be dropped into {@code data/} and loaded by the app. Every appointment and medical test refers
+ * to a generated patient, appointments never clash with each other and shifts never overlap.
+ * </p>
+ * <p>
+ * Optionally, it also writes {@code commands.txt}, a command script over the generated records for
+ * {@link ReplayHarness}.
+ * </p>
+ * Usage: {@code DatasetGenerator [--scale N] [--patients N] [--commands N] [--out DIR] [--seed N]
+ * [--start YYYY-MM-DD]}
+ */
+public class DatasetGenerator {
+    /** Patient IDs must be exactly four digits, so at most 9000 IDs (1000 to 9999) are available. */
+    private static final int MAX_PATIENTS = 9000;
+    private static final int FIRST_PATIENT_ID = 1000;
+    private static final int DEFAULT_SCALE = 10_000;
+
+    private static final LocalTime FIRST_APPT_SLOT = LocalTime.of(8, 0);
+    private static final int APPT_SLOT_MINUTES = 30;
+    private static final int APPT_SLOTS_PER_DAY = 20;
+
+    private static final String[] FIRST_NAMES = {
+        "Aisha", "Benjamin", "Chloe", "Daniel", "Emily", "Farhan", "Grace", "Hao", "Isabel", "Jun",
+        "Kavya", "Liam", "Mei", "Nur", "Oliver", "Priya", "Qi", "Rahul", "Siti", "Tan",
+        "Uma", "Victor", "Wei", "Xin", "Yusuf", "Zara"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh", "Teo",
+        "Kumar", "Rahman", "Singh", "Ibrahim", "Fernandez", "Smith", "Chen", "Yeo"
+    };
+    private static final String[] PATIENT_NOTES = {
+        "", "Allergic to penicillin", "Diabetic", "Hypertension", "Uses a wheelchair", "Hard of hearing",
+        "Lives alone", "Requires interpreter"
+    };
+    private static final String[] TEST_NAMES = {
+        "Full Blood Count", "Lipid Panel", "HbA1c", "Urinalysis", "Chest X-Ray", "ECG",
+        "Liver Function Test", "Renal Panel", "Thyroid Function Test", "Blood Glucose"
+    };
+    private static final String[] TEST_RESULTS = {"Normal", "Abnormal", "Borderline", "Pending review"};
+    private static final String[] APPT_NOTES = {
+        "", "Follow-up", "Review blood results", "Dressing change", "Medication review", "Needs a wheelchair",
+        "Post-op check", "Physiotherapy"
+    };
+    private static final String[] MEDICINE_NAMES = {
+        "Paracetamol", "Ibuprofen", "Amoxicillin", "Metformin", "Amlodipine", "Atorvastatin", "Omeprazole",
+        "Salbutamol", "Prednisolone", "Cetirizine", "Losartan", "Insulin Glargine", "Warfarin", "Furosemide"
+    };
+    private static final int[] MEDICINE_STRENGTHS = {5, 10, 20, 40, 50, 100, 250, 500};
+    private static final LocalTime[][] SHIFT_TEMPLATES = {
+        {LocalTime.of(0, 0), LocalTime.of(7, 0)},
+        {LocalTime.of(7, 0), LocalTime.of(15, 0)},
+        {LocalTime.of(15, 0), LocalTime.of(23, 0)}
+    };
+    private static final String[] SHIFT_TASKS = {
+        "Ward rounds", "Medication round", "ICU cover", "Triage", "Wound care clinic", "Admissions"
+    };
+    private static final String[] TASK_DESCRIPTIONS = {
+        "Restock ward supplies", "Review discharge summary", "Update care plan", "Call pharmacy",
+        "Check crash cart", "Complete incident report", "Handover notes", "Order lab kits"
+    };
+
+    private final Random random;
+    private final File outDir;
+    private final int scale;
+    private final int patientCount;
+    private final LocalDate startDate;
+    private int commandCount;
+
+    /**
+     * Constructs a generator for the given options.
+     *
+     * @param outDir       The directory to write the save files into.
+     * @param scale        The number of records to write to every file other than the patient file.
+     * @param patientCount The number of patients to generate.
+     * @param seed         The random seed, so that the same options always produce the same dataset.
+     * @param startDate    The first date used for appointments, shifts and tasks.
+     */
+    public DatasetGenerator(File outDir, int scale, int patientCount, long seed, LocalDate startDate) {
+        assert scale >= 0 : "Scale cannot be negative";
+        assert patientCount > 0 && patientCount <= MAX_PATIENTS : "Patient count must be between 1 and 9000";
+
+        this.outDir = outDir;
+        this.scale = scale;
+        this.patientCount = patientCount;
+        this.random = new Random(seed);
+        this.startDate = startDate;
+    }
+
+    /**
+     * Writes every save file.
+     *
+     * @throws IOException If any of the files cannot be written.
+     */
+    public void generate() throws IOException {
+        outDir.mkdirs();
+        writePatients();
+        writePatientTests();
+        writeAppointments();
+        writeShifts();
+        writeTasks();
+        writeMedicines();
+        if (commandCount > 0) {
+            writeCommandScript();
+        }
+    }
+
+    /**
+     * Also writes a replay script of the given number of commands when {@link #generate()} is called.
+     *
+     * @param commandCount The number of commands to write, or 0 to skip the script.
+     */
+    public void setCommandCount(int commandCount) {
+        this.commandCount = commandCount;
+    }
+
+    private int patientId(int index) {
+        return FIRST_PATIENT_ID + index;
+    }
+
+    private int randomPatientId() {
+        return patientId(random.nextInt(patientCount));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private BufferedWriter open(String fileName) throws IOException {
+        return new BufferedWriter(new FileWriter(new File(outDir, fileName)), 1 << 16);
+    }
+
+    /** Format: ID | NAME | AGE | GENDER | CONTACT | NOTES */
+    private void writePatients() throws IOException {
+        try (BufferedWriter writer = open("Patient.txt")) {
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < patientCount; i++) {
+                line.setLength(0);
+                line.append(patientId(i)).append(" | ")
+                        .append(pick(FIRST_NAMES)).append(' ').append(pick(LAST_NAMES)).append(" | ")
+                        .append(random.nextInt(100)).append(" | ")
+                        .append(random.nextBoolean() ? 'M' : 'F').append(" | ")
+                        .append(80_000_000 + random.nextInt(20_000_000)).append(" | ")
+                        .append(pick(PATIENT_NOTES)).append('\n');
+                writer.write(line.toString());
+            }
+        }
+    }
+
+    /** Format: PATIENT_ID | TEST_NAME | RESULT */
+    private void writePatientTests() throws IOException {
+        try (BufferedWriter writer = open("PatientTest.txt")) {
+            for (int i = 0; i < scale; i++) {
+                writer.write(randomPatientId() + " | " + pick(TEST_NAMES) + " | " + pick(TEST_RESULTS) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Format: STATUS | PATIENT_ID | START_TIME | END_TIME | DATE | IMPORTANCE | NOTES
+     * Appointments take distinct half-hour slots, so no two of them clash.
+     */
+    private void writeAppointments() throws IOException {
+        try (BufferedWriter writer = open("Appt.txt")) {
+            LocalDate date = startDate;
+            int slot = 0;
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < scale; i++) {
+                // Leave some slots free so the calendar is not completely packed
+                slot += 1 + (random.nextInt(4) == 0 ? 1 : 0);
+                if (slot >= APPT_SLOTS_PER_DAY) {
+                    date = date.plusDays(1);
+                    slot = 0;
+                }
+                LocalTime start = FIRST_APPT_SLOT.plusMinutes((long) slot * APPT_SLOT_MINUTES);
+                LocalTime end = start.plusMinutes(random.nextBoolean() ? 15 : APPT_SLOT_MINUTES);
+
+                line.setLength(0);
+                line.append(random.nextInt(10) == 0).append(" | ")
+                        .append(randomPatientId()).append(" | ")
+                        .append(start).append(" | ")
+                        .append(end).append(" | ")
+                        .append(date).append(" | ")
+                        .append(1 + random.nextInt(3)).append(" | ")
+                        .append(pick(APPT_NOTES)).append('\n');
+                writer.write(line.toString());
+            }
+        }
+    }
+
+    /**
+     * Format: STATUS | START_TIME | END_TIME | DATE | TASK | OVERTIME_HOURS
+     * Each day holds at most one shift per template, and templates never overlap.
+     */
+    private void writeShifts() throws IOException {
+        try (BufferedWriter writer = open("Shift.txt")) {
+            LocalDate date = startDate;
+            int template = 0;
+            for (int i = 0; i < scale; i++) {
+                template += 1 + random.nextInt(2);
+                if (template >= SHIFT_TEMPLATES.length) {
+                    date = date.plusDays(1);
+                    template = random.nextInt(SHIFT_TEMPLATES.length);
+                }
+                double overtime = random.nextInt(8) == 0 ? 0.5 * (1 + random.nextInt(6)) : 0.0;
+                writer.write(false + " | " + SHIFT_TEMPLATES[template][0]
+                        + " | " + SHIFT_TEMPLATES[template][1]
+                        + " | " + date
+                        + " | " + pick(SHIFT_TASKS)
+                        + " | " + overtime + "\n");
+            }
+        }
+    }
+
+    /** Format: [ ] or [X] | DESCRIPTION | DUE_DATE | DUE_TIME */
+    private void writeTasks() throws IOException {
+        try (BufferedWriter writer = open("Task.txt")) {
+            int horizonDays = Math.max(30, scale / 20);
+            for (int i = 0; i < scale; i++) {
+                LocalDate due = startDate.plusDays(random.nextInt(horizonDays));
+                LocalTime time = LocalTime.of(8 + random.nextInt(10), random.nextBoolean() ? 0 : 30);
+                writer.write((random.nextInt(5) == 0 ? "[X]" : "[ ]") + " | "
+                        + pick(TASK_DESCRIPTIONS) + " " + (i + 1) + " | "
+                        + due + " | " + time + "\n");
+            }
+        }
+    }
+
+    /**
+     * Format: MEDICINE_NAME | QUANTITY
+     * Medicine names must be unique, so a lot number is added once every name and strength has been used.
+     */
+    private void writeMedicines() throws IOException {
+        try (BufferedWriter writer = open("Medicine.txt")) {
+            int combinations = MEDICINE_NAMES.length * MEDICINE_STRENGTHS.length;
+            for (int i = 0; i < scale; i++) {
+                String name = MEDICINE_NAMES[i % MEDICINE_NAMES.length] + " "
+                        + MEDICINE_STRENGTHS[(i / MEDICINE_NAMES.length) % MEDICINE_STRENGTHS.length] + "mg";
+                if (i >= combinations) {
+                    name += " lot " + (i / combinations);
+                }
+                writer.write(name + " | " + (1 + random.nextInt(500)) + "\n");
+            }
+        }
+    }
+
+    /**
+     * Writes a mix of read and write commands that refer to the generated records. New appointments are
+     * booked after the generated ones so that most of them are accepted.
+     */
+    private void writeCommandScript() throws IOException {
+        LocalDate firstFreeDate = startDate.plusDays(scale / (APPT_SLOTS_PER_DAY / 2) + 1);
+        try (BufferedWriter writer = open("commands.txt")) {
+            for (int i = 0; i < commandCount; i++) {
+                int roll = random.nextInt(100);
+                String command;
+                if (roll < 20) {
+                    command = "appt find id/" + randomPatientId();
+                } else if (roll < 30) {
+                    LocalTime start = FIRST_APPT_SLOT.plusMinutes((long) random.nextInt(APPT_SLOTS_PER_DAY)
+                            * APPT_SLOT_MINUTES);
+                    command = "appt add id/" + randomPatientId() + " s/" + start + " e/" + start.plusMinutes(30)
+                            + " d/" + firstFreeDate.plusDays(random.nextInt(365)) + " im/" + (1 + random.nextInt(3))
+                            + " n/" + pick(APPT_NOTES);
+                } else if (roll < 33) {
+                    command = "appt list";
+                } else if (roll < 35) {
+                    command = "appt sort by/" + (random.nextBoolean() ? "time" : "importance");
+                } else if (roll < 50) {
+                    command = "pf find id/" + randomPatientId();
+                } else if (roll < 53) {
+                    command = "shift list";
+                } else if (roll < 55) {
+                    command = "shift sort";
+                } else if (roll < 65) {
+                    command = "task add td/Replay task " + i + " d/" + firstFreeDate.plusDays(random.nextInt(365))
+                            + " t/10:00";
+                } else if (roll < 75) {
+                    command = "task find td/" + pick(TASK_DESCRIPTIONS).split(" ")[0];
+                } else if (roll < 78) {
+                    command = "task list";
+                } else if (roll < 90) {
+                    command = "medicine find mn/" + pick(MEDICINE_NAMES);
+                } else if (roll < 95) {
+                    command = "medicine add mn/" + pick(MEDICINE_NAMES) + " 5mg q/" + (1 + random.nextInt(50));
+                } else {
+                    command = "medicine list";
+                }
+                writer.write(command + "\n");
+            }
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: DatasetGenerator [--scale N] [--patients N] [--commands N] [--out DIR] "
+                + "[--seed N] [--start YYYY-MM-DD]");
+        System.out.println("  --scale     records per file other than Patient.txt (default " + DEFAULT_SCALE + ")");
+        System.out.println("  --patients  number of patients, at most " + MAX_PATIENTS + " (default min(scale, "
+                + MAX_PATIENTS + "))");
+        System.out.println("  --commands  also write a replay script with this many commands to commands.txt");
+        System.out.println("  --out       output directory (default data)");
+        System.out.println("  --seed      random seed (default 42)");
+        System.out.println("  --start     first date used for appointments, shifts and tasks (default tomorrow)");
+    }
+
+    public static void main(String[] args) {
+        int scale = DEFAULT_SCALE;
+        int patients = -1;
+        int commands = 0;
+        String out = "data";
+        long seed = 42;
+        LocalDate start = LocalDate.now().plusDays(1);
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                case "--scale" -> scale = Integer.parseInt(value);
+                case "--patients" -> patients = Integer.parseInt(value);
+                case "--commands" -> commands = Integer.parseInt(value);
+                case "--out" -> out = value;
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--start" -> start = LocalDate.parse(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+                i++;
+            }
+            if (out == null) {
+                throw new IllegalArgumentException("Missing value for --out");
+            }
+            if (scale < 0) {
+                throw new IllegalArgumentException("Scale cannot be negative");
+            }
+            if (patients == -1) {
+                patients = Math.max(1, Math.min(scale, MAX_PATIENTS));
+            }
+            if (patients < 1 || patients > MAX_PATIENTS) {
+                throw new IllegalArgumentException("Patients must be between 1 and " + MAX_PATIENTS);
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Invalid arguments: " + e.getMessage());
+            printUsage();
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        DatasetGenerator generator = new DatasetGenerator(new File(out), scale, patients, seed, start);
+        generator.setCommandCount(commands);
+        try {
+            generator.generate();
+        } catch (IOException e) {
+            System.out.println("Error writing dataset: " + e.getMessage());
+            return;
+        }
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        System.out.println("Wrote " + patients + " patients and " + scale + " records per file to "
+                + new File(out).getAbsolutePath() + " in " + elapsedMillis + " ms");
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.nursesched.tools;
+
+import seedu.nursesched.command.Command;
+import seedu.nursesched.metrics.LatencyHistogram;
+import seedu.nursesched.parser.Parser;
+import seedu.nursesched.ui.Ui;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Replays a script of commands through {@link Command#executeCommand(String, Ui)} and reports throughput,
+ * latency percentiles and allocation per command type.
+ * <p>
+ * Command output is discarded so that the measurement covers command execution and persistence rather than
+ * terminal rendering. The script runs against the save files in {@code data/}, so replay against a copy of
+ * real data.
+ * </p>
+ * Usage: {@code ReplayHarness SCRIPT_FILE}
+ */
+public class ReplayHarness {
+    private static final String[] ENTITY_CLASSES = {
+        "seedu.nursesched.patient.Patient",
+        "seedu.nursesched.patient.MedicalTest",
+        "seedu.nursesched.appointment.Appointment",
+        "seedu.nursesched.shift.Shift",
+        "seedu.nursesched.task.Task",
+        "seedu.nursesched.medicine.Medicine"
+    };
+
+    private final Map<String, CommandStats> statsByCommand = new TreeMap<>();
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private long totalCommands;
+    private long totalNanos;
+
+    /**
+     * Latency and allocation totals for one command type and verb.
+     */
+    private static class CommandStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private long allocatedBytes;
+    }
+
+    public ReplayHarness() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        } else {
+            allocationBean = null;
+        }
+    }
+
+    /**
+     * Loads every save file up front so that the first command of each type is not charged for it.
+     *
+     * @return The time taken to load the save files, in nanoseconds.
+     */
+    public long loadSaveFiles() {
+        long start = System.nanoTime();
+        for (String className : ENTITY_CLASSES) {
+            try {
+                Class.forName(className, true, ReplayHarness.class.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Missing entity class " + className, e);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Executes every line of the script, stopping early at an exit command.
+     *
+     * @param lines The commands to replay.
+     */
+    public void replay(List<String> lines) {
+        Ui ui = new Ui();
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String type = Parser.extractType(line.trim()).toLowerCase();
+            String verb = Parser.extractVerb(line).toLowerCase();
+            String key = verb.isEmpty() ? type : type + " " + verb;
+
+            long allocatedBefore = currentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            boolean isExit = Command.executeCommand(line, ui);
+            long elapsed = System.nanoTime() - start;
+            long allocated = currentThreadAllocatedBytes() - allocatedBefore;
+
+            CommandStats stats = statsByCommand.computeIfAbsent(key, k -> new CommandStats());
+            stats.latency.record(elapsed);
+            stats.allocatedBytes += allocated;
+            totalCommands++;
+            totalNanos += elapsed;
+            if (isExit) {
+                break;
+            }
+        }
+    }
+
+    private long currentThreadAllocatedBytes() {
+        return allocationBean == null ? 0 : allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Formats the results of the replay as a table.
+     *
+     * @param loadNanos The time taken to load the save files.
+     * @return The report.
+     */
+    public String formatReport(long loadNanos) {
+        StringBuilder sb = new StringBuilder();
+        double seconds = totalNanos / 1_000_000_000.0;
+        sb.append(String.format("Loaded save files in %.1f ms%n", loadNanos / 1_000_000.0));
+        sb.append(String.format("Replayed %d commands in %.3f s (%.1f commands/s)%n",
+                totalCommands, seconds, seconds == 0 ? 0 : totalCommands / seconds));
+        sb.append(String.format("%-24s %8s %10s %10s %10s %14s%n",
+                "Command", "Count", "p50 (ms)", "p99 (ms)", "Max (ms)", "Alloc/cmd (KB)"));
+        for (Map.Entry<String, CommandStats> entry : statsByCommand.entrySet()) {
+            CommandStats stats = entry.getValue();
+            long count = stats.latency.getCount();
+            sb.append(String.format("%-24s %8d %10.3f %10.3f %10.3f %14s%n",
+                    entry.getKey(),
+                    count,
+                    stats.latency.getValueAtPercentile(50) / 1_000_000.0,
+                    stats.latency.getValueAtPercentile(99) / 1_000_000.0,
+                    stats.latency.getMax() / 1_000_000.0,
+                    allocationBean == null ? "n/a" : String.format("%.1f", stats.allocatedBytes / 1024.0 / count)));
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.out.println("Usage: ReplayHarness SCRIPT_FILE");
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Path.of(args[0]));
+        } catch (IOException e) {
+            System.out.println("Error reading script: " + e.getMessage());
+            return;
+        }
+
+        PrintStream console = System.out;
+        ReplayHarness harness = new ReplayHarness();
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        long loadNanos;
+        try {
+            loadNanos = harness.loadSaveFiles();
+            harness.replay(lines);
+        } finally {
+            System.setOut(console);
+        }
+        console.print(harness.formatReport(loadNanos));
+    }
+}
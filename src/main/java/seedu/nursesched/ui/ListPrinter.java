@@ -0,0 +1,119 @@
+package seedu.nursesched.ui;
+
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Renders listings into one reusable buffer instead of printing each row on its own.
+ * <p>
+ * {@code System.out} flushes on every {@code println}, which makes a listing of 100k rows take seconds on a
+ * terminal. Rows are instead appended to a buffer that is written out whenever it holds {@value #FLUSH_THRESHOLD}
+ * characters, so the first rows of a long listing still appear at once while the rest streams after them in a
+ * handful of writes. Callers must call {@link #flush()} once they are done so that nothing is left behind.
+ * </p>
+ * <p>
+ * A listing can also be limited to one page, e.g. {@code appt list page/2 size/50}, in which case only the rows
+ * on that page are formatted at all.
+ * </p>
+ */
+public class ListPrinter {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final int FLUSH_THRESHOLD = 32 * 1024;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+
+    private static int page = 0;
+    private static int pageSize = DEFAULT_PAGE_SIZE;
+
+    /**
+     * Limits the rows printed by {@link #printRows(int, IntFunction)} to one page until {@link #clearPage()}.
+     *
+     * @param page     The page number, starting from 1.
+     * @param pageSize The number of rows on each page.
+     */
+    public static void setPage(int page, int pageSize) {
+        assert page > 0 && pageSize > 0 : "Page number and size must be positive";
+        ListPrinter.page = page;
+        ListPrinter.pageSize = pageSize;
+    }
+
+    /**
+     * Goes back to printing every row.
+     */
+    public static void clearPage() {
+        page = 0;
+        pageSize = DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Adds a line to the output.
+     *
+     * @param line The line, without its line separator.
+     */
+    public static void println(Object line) {
+        buffer.append(line);
+        endLine();
+    }
+
+    private static void endLine() {
+        buffer.append(LINE_SEPARATOR);
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds the rows of a listing to the output, or only those on the current page followed by a page footer.
+     * Rows are formatted only when they are printed, and keep the index they have in the full listing.
+     *
+     * @param rowCount  The number of rows in the full listing.
+     * @param formatRow Returns the text of the row with the given 0-based index.
+     */
+    public static void printRows(int rowCount, IntFunction<String> formatRow) {
+        printRows(rowCount, (sb, i) -> sb.append(formatRow.apply(i)));
+    }
+
+    /**
+     * Adds the rows of a listing to the output like {@link #printRows(int, IntFunction)}, but has each row
+     * appended straight into the output buffer so that no string is created per row.
+     *
+     * @param rowCount  The number of rows in the full listing.
+     * @param appendRow Appends the text of the row with the given 0-based index to the buffer.
+     */
+    public static void printRows(int rowCount, ObjIntConsumer<StringBuilder> appendRow) {
+        int first = 0;
+        int end = rowCount;
+        if (page > 0) {
+            first = (int) Math.min((long) (page - 1) * pageSize, rowCount);
+            end = (int) Math.min((long) first + pageSize, rowCount);
+        }
+        for (int i = first; i < end; i++) {
+            appendRow.accept(buffer, i);
+            endLine();
+        }
+        if (page == 0) {
+            return;
+        }
+
+        int pageCount = Math.max(1, (rowCount + pageSize - 1) / pageSize);
+        if (first == end) {
+            println("Page " + page + " of " + pageCount + " has no rows.");
+        } else {
+            println("Page " + page + " of " + pageCount + " (rows " + (first + 1) + "-" + end + " of "
+                    + rowCount + ")");
+        }
+    }
+
+    /**
+     * Writes out everything added since the last flush.
+     */
+    public static void flush() {
+        if (buffer.length() == 0) {
+            return;
+        }
+        System.out.print(buffer);
+        System.out.flush();
+        buffer.setLength(0);
+    }
+}
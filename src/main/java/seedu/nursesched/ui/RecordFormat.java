@@ -0,0 +1,98 @@
+package seedu.nursesched.ui;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats dates and times of records straight into a {@link StringBuilder}.
+ * <p>
+ * Listings and save files format every record, so building a {@link DateTimeFormatter} per call, or a string per
+ * field, creates garbage proportional to the number of records. The common ISO forms are written digit by digit
+ * instead, and the other formats are shared constants.
+ * </p>
+ */
+public final class RecordFormat {
+    public static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm");
+    public static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    public static final DateTimeFormatter LONG_DATE = DateTimeFormatter.ofPattern("dd MMM yyyy");
+    public static final DateTimeFormatter TWELVE_HOUR_TIME = DateTimeFormatter.ofPattern("hh:mm a");
+
+    // Month and AM/PM names in the default locale, formatted once so that the output matches the formatters above
+    private static final String[] MONTH_NAMES = new String[12];
+    private static final String[] AM_PM_NAMES = {
+        LocalTime.MIDNIGHT.format(DateTimeFormatter.ofPattern("a")),
+        LocalTime.NOON.format(DateTimeFormatter.ofPattern("a"))
+    };
+
+    static {
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM");
+        for (int month = 1; month <= 12; month++) {
+            MONTH_NAMES[month - 1] = LocalDate.of(2000, month, 1).format(monthFormatter);
+        }
+    }
+
+    private RecordFormat() {
+    }
+
+    /**
+     * Appends a time as {@code HH:mm}, dropping any seconds.
+     */
+    public static StringBuilder appendTime(StringBuilder sb, LocalTime time) {
+        appendTwoDigits(sb, time.getHour());
+        sb.append(':');
+        return appendTwoDigits(sb, time.getMinute());
+    }
+
+    /**
+     * Appends a time exactly as {@link LocalTime#toString()} would, i.e. {@code HH:mm} unless it has seconds.
+     */
+    public static StringBuilder appendIsoTime(StringBuilder sb, LocalTime time) {
+        if (time.getSecond() != 0 || time.getNano() != 0) {
+            return sb.append(time);
+        }
+        return appendTime(sb, time);
+    }
+
+    /**
+     * Appends a date exactly as {@link LocalDate#toString()} would, i.e. {@code yyyy-MM-dd} for four-digit years.
+     */
+    public static StringBuilder appendDate(StringBuilder sb, LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            return sb.append(date);
+        }
+        sb.append(year).append('-');
+        appendTwoDigits(sb, date.getMonthValue());
+        sb.append('-');
+        return appendTwoDigits(sb, date.getDayOfMonth());
+    }
+
+    /**
+     * Appends a date as {@link #LONG_DATE} would, e.g. {@code 07 Mar 2026}.
+     */
+    public static StringBuilder appendLongDate(StringBuilder sb, LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            LONG_DATE.formatTo(date, sb);
+            return sb;
+        }
+        appendTwoDigits(sb, date.getDayOfMonth());
+        return sb.append(' ').append(MONTH_NAMES[date.getMonthValue() - 1]).append(' ').append(year);
+    }
+
+    /**
+     * Appends a time as {@link #TWELVE_HOUR_TIME} would, e.g. {@code 03:30 PM}.
+     */
+    public static StringBuilder appendTwelveHourTime(StringBuilder sb, LocalTime time) {
+        int hour = time.getHour() % 12;
+        appendTwoDigits(sb, hour == 0 ? 12 : hour);
+        sb.append(':');
+        appendTwoDigits(sb, time.getMinute());
+        return sb.append(' ').append(AM_PM_NAMES[time.getHour() / 12]);
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+        return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
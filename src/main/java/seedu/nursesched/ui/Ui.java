@@ -2,6 +2,7 @@ package seedu.nursesched.ui;
 
 import seedu.nursesched.appointment.Appointment;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
 public class Ui {
@@ -11,29 +12,19 @@ public class Ui {
     }
 
     public static void printSearchResults(ArrayList searchResults, String keyword) {
-        System.out.println("You have " + searchResults.size() + " search results for keyword: " + keyword);
-        for (int i = 0; i < searchResults.size(); i++) {
-            System.out.println((i+1) + ". " + searchResults.get(i));
-        }
+        ListPrinter.println("You have " + searchResults.size() + " search results for keyword: " + keyword);
+        ListPrinter.printRows(searchResults.size(), i -> (i + 1) + ". " + searchResults.get(i));
+        ListPrinter.flush();
     }
 
-    public static void printAppointmentList(ArrayList<Appointment> apptList) {
-        int index = 1;
-        boolean isDone = false;
-        String statusBadge = "[ ]";
-        for (Appointment appointment : apptList) {
-
-            isDone = appointment.getStatus();
-            if (isDone) {
-                statusBadge = "[X]";
-            }else{
-                statusBadge = "[ ]";
-            }
-
-            System.out.println(index+ ". "+ statusBadge + appointment);
-            index += 1;
-        }
-        System.out.println("You have " + apptList.size() + " appointment(s)");
+    public static void printAppointmentList(List<Appointment> apptList, int doneCount) {
+        ListPrinter.printRows(apptList.size(), (sb, i) -> {
+            Appointment appointment = apptList.get(i);
+            sb.append(i + 1).append(". ").append(appointment.getStatus() ? "[X]" : "[ ]");
+            appointment.appendTo(sb).append(" (#").append(appointment.getApptId()).append(')');
+        });
+        ListPrinter.println("You have " + apptList.size() + " appointment(s), " + doneCount + " of them done");
+        ListPrinter.flush();
     }
 
     public void exitMessage() {
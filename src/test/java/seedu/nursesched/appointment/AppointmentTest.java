@@ -8,15 +8,21 @@ import org.junit.jupiter.api.Test;
 import seedu.nursesched.exception.NurseSchedException;
 import seedu.nursesched.parser.ApptParser;
 import seedu.nursesched.patient.Patient;
+import seedu.nursesched.storage.AppointmentArchive;
 import seedu.nursesched.storage.AppointmentStorage;
 
+import java.io.File;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 public class AppointmentTest {
     static ArrayList<Appointment> initialApptList;
@@ -173,7 +179,7 @@ public class AppointmentTest {
 
         String input2 = "appt add id/1803 s/13:00 e/14:00 d/2026-02-15 " +
                 "im/2 n/Conflicting appointment";
-        addAppointment(input2);
+        assertThrows(NurseSchedException.class, () -> addAppointment(input2));
 
         int sizeAfter = Appointment.apptList.size();
         assertEquals(sizeBefore, sizeAfter,
@@ -356,8 +362,8 @@ public class AppointmentTest {
         addAppointment(input2);
 
         Appointment.sortByTime();
-        Appointment appt1 = Appointment.apptList.get(0);
-        Appointment appt2 = Appointment.apptList.get(1);
+        Appointment appt1 = Appointment.getListedAppointments().get(0);
+        Appointment appt2 = Appointment.getListedAppointments().get(1);
         assertEquals("10:00", appt1.getStartTime());
         assertEquals("11:00", appt1.getEndTime());
         assertEquals("15:00", appt2.getStartTime());
@@ -374,8 +380,8 @@ public class AppointmentTest {
         addAppointment(input2);
 
         Appointment.sortByImportance();
-        Appointment appt1 = Appointment.apptList.get(0);
-        Appointment appt2 = Appointment.apptList.get(1);
+        Appointment appt1 = Appointment.getListedAppointments().get(0);
+        Appointment appt2 = Appointment.getListedAppointments().get(1);
         assertEquals(3, appt1.getImportance());
         assertEquals(1, appt2.getImportance());
 
@@ -400,4 +406,182 @@ public class AppointmentTest {
                 () -> ApptParser.extractInputs(input2));
     }
 
+    @Test
+    public void getAppointmentsBetween_deleteThenAdd_expectRangeUpToDate() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Patient.addPatient(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), date, "", 2);
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), date.plusDays(1), "", 2);
+        Appointment.addAppt(1001, LocalTime.of(8, 0), LocalTime.of(9, 0), date.plusDays(1), "", 2);
+        assertEquals(3, Appointment.getAppointmentsBetween(date, date.plusDays(1)).size());
+
+        Appointment.deleteAppt(1);
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), date.plusDays(10), "", 2);
+
+        List<Appointment> appointments = Appointment.getAppointmentsBetween(date, date.plusDays(1));
+        assertEquals(2, appointments.size());
+        assertEquals(date, appointments.get(0).getLocalDate());
+        assertEquals(LocalTime.of(8, 0), appointments.get(1).getLocalStartTime());
+        assertEquals(1, Appointment.getAppointmentsBetween(date.plusDays(2), date.plusDays(30)).size());
+    }
+
+    @Test
+    public void getColumns_listChanged_expectScansUpToDate() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Appointment.apptList.add(new Appointment(1001, "Jean Doe", LocalTime.of(9, 0), LocalTime.of(10, 0),
+                date, "", 1));
+        Appointment.apptList.add(new Appointment(1002, "John Tan", LocalTime.of(9, 0), LocalTime.of(10, 0),
+                date.plusDays(1), "", 3));
+        assertEquals(1, Appointment.getColumns().findByPatientId(1002).size());
+        assertEquals("John Tan", Appointment.findApptClashes(LocalTime.of(9, 30), LocalTime.of(11, 0),
+                date.plusDays(1)).getName());
+
+        // Appended rows are added to the columns, and a replaced list is rebuilt
+        Appointment.apptList.add(new Appointment(1002, "John Tan", LocalTime.of(8, 0), LocalTime.of(9, 0),
+                date, "", 3));
+        assertEquals(2, Appointment.getColumns().findByName("JOHN").size());
+        assertNull(Appointment.findApptClashes(LocalTime.of(10, 0), LocalTime.of(11, 0), date));
+
+        Appointment.apptList = new ArrayList<>(List.of(new Appointment(1003, "Jane Lim", LocalTime.of(9, 0),
+                LocalTime.of(10, 0), date, "", 2)));
+        assertEquals(0, Appointment.getColumns().findByName("john").size());
+        assertEquals("Jane Lim", Appointment.findApptClashes(LocalTime.of(9, 0), LocalTime.of(9, 30), date)
+                .getName());
+    }
+
+    @Test
+    public void editAppt_overlapsOnlyItself_expectEditedUnlessOtherClash() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        addApptEditTests("appt add id/1804 s/09:00 e/10:00 d/" + date + " im/2 n/first");
+        Appointment.addAppt(1804, LocalTime.of(11, 0), LocalTime.of(12, 0), date, "second", 2);
+
+        Appointment.editAppt(0, -1, LocalTime.of(9, 30), LocalTime.of(10, 30), null, null, -1);
+        assertEquals("09:30", Appointment.apptList.get(0).getStartTime());
+
+        assertThrows(NurseSchedException.class, () ->
+                Appointment.editAppt(0, -1, LocalTime.of(11, 30), LocalTime.of(12, 30), null, null, -1));
+        assertEquals("09:30", Appointment.apptList.get(0).getStartTime());
+        assertEquals("second", Appointment.apptList.get(1).getNotes());
+        Patient.removePatient("1804");
+    }
+
+    @Test
+    public void sortByImportance_ties_expectStableOrder() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Appointment first = new Appointment(1001, "Jean Doe", LocalTime.of(9, 0), LocalTime.of(10, 0),
+                date, "first", 2);
+        Appointment second = new Appointment(1002, "John Tan", LocalTime.of(9, 0), LocalTime.of(9, 30),
+                date, "second", 2);
+        Appointment urgent = new Appointment(1003, "Jane Lim", LocalTime.of(14, 0), LocalTime.of(15, 0),
+                date.plusDays(3), "urgent", 3);
+        Appointment earlier = new Appointment(1004, "Jim Ong", LocalTime.of(11, 0), LocalTime.of(12, 0),
+                date.minusDays(1), "earlier", 2);
+        Appointment.apptList.addAll(List.of(first, second, urgent, earlier));
+
+        Appointment.sortByImportance();
+        assertEquals(List.of(urgent, earlier, first, second), Appointment.getListedAppointments());
+
+        Appointment.sortByTime();
+        assertEquals(List.of(earlier, first, second, urgent), Appointment.getListedAppointments());
+        assertEquals(List.of(first, second, urgent, earlier), Appointment.apptList);
+    }
+
+    @Test
+    public void sortByTime_addEditDelete_expectViewKeptSorted() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Patient.addPatient(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Appointment.addAppt(1001, LocalTime.of(14, 0), LocalTime.of(15, 0), date, "afternoon", 1);
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), date, "morning", 3);
+        Appointment.sortByTime();
+
+        Appointment.addAppt(1001, LocalTime.of(11, 0), LocalTime.of(12, 0), date, "noon", 2);
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), date.minusDays(1), "day before", 2);
+        assertEquals(List.of("day before", "morning", "noon", "afternoon"), listedNotes());
+
+        // Numbers refer to the listed order
+        Appointment.markAppt(0);
+        assertTrue(Appointment.apptList.get(3).getStatus());
+        Appointment.editAppt(0, -1, null, null, date.plusDays(1), null, -1);
+        assertEquals(List.of("morning", "noon", "afternoon", "day before"), listedNotes());
+        Appointment.deleteAppt(1);
+        assertEquals(List.of("morning", "afternoon", "day before"), listedNotes());
+        assertEquals(List.of("afternoon", "morning", "day before"),
+                Appointment.apptList.stream().map(Appointment::getNotes).toList());
+
+        Appointment.sortByImportance();
+        assertEquals(List.of("morning", "day before", "afternoon"), listedNotes());
+    }
+
+    @Test
+    public void editAppt_addressedByApptId_expectIdKeptAcrossSortsAndReloads() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Patient.addPatient(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Appointment.addAppt(1001, LocalTime.of(14, 0), LocalTime.of(15, 0), date, "afternoon", 1);
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), date, "morning", 3);
+        int morningId = Appointment.apptList.get(1).getApptId();
+        assertEquals(morningId - 1, Appointment.apptList.get(0).getApptId());
+
+        Appointment.sortByTime();
+        int apptId = ApptParser.extractInputs("appt edit aid/#" + morningId + " d/" + date.plusDays(1)).getApptId();
+        assertEquals(morningId, apptId);
+        Appointment.editAppt(Appointment.findByApptId(apptId), -1, null, null, date.plusDays(1), null, -1);
+        assertEquals(Appointment.findByApptId(morningId), Appointment.getListedAppointment(1));
+        assertEquals(date.plusDays(1), Appointment.findByApptId(morningId).getLocalDate());
+        assertNull(Appointment.findByApptId(morningId + 1));
+
+        Appointment.markAppt(Appointment.findByApptId(morningId));
+        assertTrue(Appointment.getListedAppointment(1).getStatus());
+        Appointment.deleteAppt(Appointment.findByApptId(morningId - 1));
+        assertEquals(List.of("morning"), listedNotes());
+
+        Appointment.reloadFromFile();
+        assertEquals("morning", Appointment.findByApptId(morningId).getNotes());
+        assertEquals(morningId + 1, new Appointment(1001, "Jean Doe", LocalTime.of(9, 0), LocalTime.of(10, 0),
+                date, "", 1).getApptId());
+    }
+
+    @Test
+    public void archive_doneAppointment_expectMovedToArchiveAndReadBack() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Patient.addPatient(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), date, "done", 2);
+        Appointment.addAppt(1001, LocalTime.of(11, 0), LocalTime.of(12, 0), date, "open", 2);
+        int doneId = Appointment.apptList.get(0).getApptId();
+        Appointment.markAppt(0);
+
+        File archiveFile = new File(AppointmentArchive.getFilePath(YearMonth.from(date)));
+        try {
+            Appointment.archive(LocalDate.now());
+            assertEquals(List.of("open"), Appointment.apptList.stream().map(Appointment::getNotes).toList());
+
+            ApptParser history = ApptParser.extractInputs("appt history from/" + date + " to/" + date + " id/1001");
+            assertEquals(1001, history.getID());
+            List<Appointment> archived = new ArrayList<>();
+            AppointmentArchive.forEachBetween(history.getDate(), history.getToDate(), archived::add);
+            assertEquals(1, archived.size());
+            assertEquals(doneId, archived.get(0).getApptId());
+            assertTrue(archived.get(0).getStatus());
+
+            Appointment.reloadFromFile();
+            assertEquals(1, Appointment.apptList.size());
+        } finally {
+            archiveFile.delete();
+        }
+    }
+
+    private static List<String> listedNotes() {
+        return Appointment.getListedAppointments().stream().map(Appointment::getNotes).toList();
+    }
+
+    @Test
+    public void extractInputs_listRange_expectCorrectDates() throws NurseSchedException {
+        ApptParser parser = ApptParser.extractInputs("appt list from/2030-01-01 to/2030-01-07");
+        assertEquals(LocalDate.of(2030, 1, 1), parser.getDate());
+        assertEquals(LocalDate.of(2030, 1, 7), parser.getToDate());
+
+        assertThrows(NurseSchedException.class, () -> ApptParser.extractInputs("appt list from/2030-01-01"));
+        assertThrows(NurseSchedException.class,
+                () -> ApptParser.extractInputs("appt list from/2030-01-07 to/2030-01-01"));
+    }
+
 }
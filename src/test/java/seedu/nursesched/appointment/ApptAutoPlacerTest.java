@@ -0,0 +1,137 @@
+package seedu.nursesched.appointment;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.storage.AppointmentStorage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ApptAutoPlacerTest {
+    private static final LocalDate DATE = LocalDate.now().plusYears(1);
+
+    static ArrayList<Appointment> initialApptList;
+
+    @BeforeAll
+    public static void saveInitialList() {
+        initialApptList = Appointment.apptList;
+    }
+
+    @AfterAll
+    public static void restoreInitialList() {
+        Appointment.apptList = initialApptList;
+        AppointmentStorage.overwriteSaveFile(initialApptList);
+    }
+
+    @BeforeEach
+    void setUp() throws NurseSchedException {
+        Appointment.apptList = new ArrayList<>();
+        Patient.getPatientsList().clear();
+        Patient.getPatientsList().add(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Patient.getPatientsList().add(new Patient("1002", "John Doe", "30", "M", "87654321", ""));
+    }
+
+    private void autoplaceRows(String... rows) throws IOException, NurseSchedException {
+        Path csv = Files.createTempFile("requests", ".csv");
+        try {
+            Files.write(csv, List.of(rows));
+            ApptAutoPlacer.autoplaceFromCsv(csv.toString());
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    void autoplaceFromCsv_emptySchedule_placedBackToBackByImportance() throws IOException, NurseSchedException {
+        autoplaceRows("patient_id,duration,earliest_date,importance,notes",
+                "1001,30," + DATE + ",1,Low",
+                "1002,60," + DATE + ",3,High");
+
+        assertEquals(2, Appointment.apptList.size());
+        assertEquals("John Doe", Appointment.apptList.get(0).getName());
+        assertEquals("08:00", Appointment.apptList.get(0).getStartTime());
+        assertEquals("09:00", Appointment.apptList.get(0).getEndTime());
+        assertEquals("09:00", Appointment.apptList.get(1).getStartTime());
+        assertEquals("Low", Appointment.apptList.get(1).getNotes());
+    }
+
+    @Test
+    void autoplaceFromCsv_existingAppointments_placedInFirstLongEnoughGap() throws IOException, NurseSchedException {
+        Appointment.apptList.add(new Appointment(1001, "Jean Doe", LocalTime.of(8, 0), LocalTime.of(9, 0),
+                DATE, "", 2));
+        Appointment.apptList.add(new Appointment(1001, "Jean Doe", LocalTime.of(9, 30), LocalTime.of(12, 0),
+                DATE, "", 2));
+
+        autoplaceRows("1002,45," + DATE, "1002,30," + DATE);
+
+        assertEquals(4, Appointment.apptList.size());
+        assertEquals("12:00", Appointment.apptList.get(2).getStartTime());
+        assertEquals("09:00", Appointment.apptList.get(3).getStartTime());
+    }
+
+    @Test
+    void autoplaceFromCsv_dayFull_placedOnNextDate() throws IOException, NurseSchedException {
+        Appointment.apptList.add(new Appointment(1001, "Jean Doe", LocalTime.of(8, 0), LocalTime.of(17, 45),
+                DATE, "", 2));
+
+        autoplaceRows("1002,30," + DATE);
+
+        assertEquals(2, Appointment.apptList.size());
+        assertEquals(DATE.plusDays(1).toString(), Appointment.apptList.get(1).getDate());
+        assertEquals("08:00", Appointment.apptList.get(1).getStartTime());
+    }
+
+    @Test
+    void autoplaceFromCsv_invalidRows_skipped() throws IOException, NurseSchedException {
+        autoplaceRows("9999,30," + DATE,
+                "1001,0," + DATE,
+                "1001,601," + DATE,
+                "1001,30,not-a-date",
+                "1001,30," + DATE + ",5",
+                "1001,30," + DATE);
+
+        assertEquals(1, Appointment.apptList.size());
+        assertEquals("Jean Doe", Appointment.apptList.get(0).getName());
+    }
+
+    @Test
+    void autoplaceFromCsv_manyRequests_noClashes() throws IOException, NurseSchedException {
+        String[] rows = new String[300];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = (1001 + i % 2) + "," + (15 + (i % 4) * 15) + "," + DATE.plusDays(i % 3) + "," + (1 + i % 3);
+        }
+        autoplaceRows(rows);
+
+        assertEquals(rows.length, Appointment.apptList.size());
+        ArrayList<Appointment> sorted = new ArrayList<>(Appointment.apptList);
+        sorted.sort((a, b) -> a.getLocalDate().equals(b.getLocalDate())
+                ? a.getLocalStartTime().compareTo(b.getLocalStartTime())
+                : a.getLocalDate().compareTo(b.getLocalDate()));
+        for (int i = 1; i < sorted.size(); i++) {
+            Appointment previous = sorted.get(i - 1);
+            Appointment current = sorted.get(i);
+            assertFalse(previous.getLocalDate().equals(current.getLocalDate())
+                    && current.getLocalStartTime().isBefore(previous.getLocalEndTime()));
+        }
+    }
+
+    @Test
+    void autoplaceFromCsv_missingFile_exceptionThrown() {
+        assertThrows(NurseSchedException.class,
+                () -> ApptAutoPlacer.autoplaceFromCsv("missing/requests.csv"));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.nursesched.appointment;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.storage.AppointmentStorage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ApptImporterTest {
+    private static final String DATE = LocalDate.now().plusYears(1).toString();
+    private static final String NEXT_DATE = LocalDate.now().plusYears(1).plusDays(1).toString();
+
+    static ArrayList<Appointment> initialApptList;
+
+    @BeforeAll
+    public static void saveInitialList() {
+        initialApptList = Appointment.apptList;
+    }
+
+    @AfterAll
+    public static void restoreInitialList() {
+        AppointmentStorage.overwriteSaveFile(initialApptList);
+    }
+
+    @BeforeEach
+    void setUp() throws NurseSchedException {
+        Appointment.apptList = new ArrayList<>();
+        Patient.getPatientsList().clear();
+        Patient.getPatientsList().add(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Patient.getPatientsList().add(new Patient("1002", "John Doe", "30", "M", "87654321", ""));
+    }
+
+    private void importRows(String... rows) throws IOException, NurseSchedException {
+        Path csv = Files.createTempFile("appointments", ".csv");
+        try {
+            Files.write(csv, List.of(rows));
+            ApptImporter.importFromCsv(csv.toString());
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    @Test
+    void importFromCsv_validRows_addedInDateAndTimeOrder() throws IOException, NurseSchedException {
+        importRows("patient_id,start,end,date,importance,notes",
+                "1002,09:00,09:30," + NEXT_DATE + ",3,Review",
+                "1001,10:00,10:30," + DATE,
+                "1001,09:00,09:30," + DATE + ",1,Notes, with a comma");
+
+        assertEquals(3, Appointment.apptList.size());
+        assertEquals("09:00", Appointment.apptList.get(0).getStartTime());
+        assertEquals("Notes, with a comma", Appointment.apptList.get(0).getNotes());
+        assertEquals("Jean Doe", Appointment.apptList.get(0).getName());
+        assertEquals(2, Appointment.apptList.get(1).getImportance());
+        assertEquals("John Doe", Appointment.apptList.get(2).getName());
+    }
+
+    @Test
+    void importFromCsv_rowsClashWithEachOther_laterRowRejected() throws IOException, NurseSchedException {
+        importRows("1001,09:00,10:00," + DATE,
+                "1002,09:30,10:30," + DATE,
+                "1002,10:00,10:30," + DATE);
+
+        assertEquals(2, Appointment.apptList.size());
+        assertEquals("10:00", Appointment.apptList.get(1).getStartTime());
+    }
+
+    @Test
+    void importFromCsv_rowClashesWithExisting_rowRejected() throws IOException, NurseSchedException {
+        Appointment.apptList.add(new Appointment(1001, "Jean Doe", LocalTime.of(9, 30),
+                LocalTime.of(11, 0), LocalDate.parse(DATE), "", 2));
+
+        importRows("1002,09:00,09:45," + DATE,
+                "1002,10:00,10:15," + DATE,
+                "1002,11:00,11:30," + DATE);
+
+        assertEquals(2, Appointment.apptList.size());
+        assertEquals("11:00", Appointment.apptList.get(1).getStartTime());
+    }
+
+    @Test
+    void importFromCsv_invalidRows_rejected() throws IOException, NurseSchedException {
+        importRows("9999,09:00,09:30," + DATE,
+                "12,09:00,09:30," + DATE,
+                "1001,10:00,09:00," + DATE,
+                "1001,9am,10:00," + DATE,
+                "1001,09:00,09:30,2020-01-01",
+                "1001,09:00",
+                "1001,09:00,09:30," + DATE + ",5");
+
+        assertEquals(0, Appointment.apptList.size());
+    }
+
+    @Test
+    void importFromCsv_missingFile_exceptionThrown() {
+        assertThrows(NurseSchedException.class, () -> ApptImporter.importFromCsv("does/not/exist.csv"));
+    }
+}
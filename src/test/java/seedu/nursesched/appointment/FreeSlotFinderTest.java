@@ -0,0 +1,112 @@
+package seedu.nursesched.appointment;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.storage.AppointmentStorage;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FreeSlotFinderTest {
+    private static final LocalDate DATE = LocalDate.now().plusYears(1);
+    private static final LocalTime DAY_START = LocalTime.of(8, 0);
+    private static final LocalTime DAY_END = LocalTime.of(18, 0);
+
+    static ArrayList<Appointment> initialApptList;
+
+    @BeforeAll
+    public static void saveInitialList() {
+        initialApptList = Appointment.apptList;
+    }
+
+    @AfterAll
+    public static void restoreInitialList() {
+        Appointment.apptList = initialApptList;
+        AppointmentStorage.overwriteSaveFile(initialApptList);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Appointment.apptList = new ArrayList<>();
+    }
+
+    private void addAppointment(LocalDate date, String start, String end) {
+        Appointment.apptList.add(new Appointment(1001, "Jean Doe", LocalTime.parse(start), LocalTime.parse(end),
+                date, "", 2));
+    }
+
+    @Test
+    void findFreeSlots_noAppointments_wholeDayFree() {
+        ArrayList<FreeSlotFinder.FreeSlot> slots = FreeSlotFinder.findFreeSlots(DATE, DATE, DAY_START, DAY_END,
+                30, 10);
+
+        assertEquals(1, slots.size());
+        assertEquals(DATE + " 08:00-18:00", slots.get(0).toString());
+    }
+
+    @Test
+    void findFreeSlots_overlappingAppointments_gapsBetweenThem() {
+        addAppointment(DATE, "12:00", "13:00");
+        addAppointment(DATE, "09:00", "11:00");
+        addAppointment(DATE, "10:00", "10:30");
+        addAppointment(DATE, "16:45", "18:30");
+
+        ArrayList<FreeSlotFinder.FreeSlot> slots = FreeSlotFinder.findFreeSlots(DATE, DATE, DAY_START, DAY_END,
+                45, 10);
+
+        assertEquals(3, slots.size());
+        assertEquals(DATE + " 08:00-09:00", slots.get(0).toString());
+        assertEquals(DATE + " 11:00-12:00", slots.get(1).toString());
+        assertEquals(DATE + " 13:00-16:45", slots.get(2).toString());
+    }
+
+    @Test
+    void findFreeSlots_gapsTooShort_skipped() {
+        addAppointment(DATE, "08:20", "17:50");
+
+        assertEquals(0, FreeSlotFinder.findFreeSlots(DATE, DATE, DAY_START, DAY_END, 30, 10).size());
+    }
+
+    @Test
+    void findFreeSlots_dateRange_stopsAtMaxSlots() {
+        addAppointment(DATE, "08:00", "18:00");
+        addAppointment(DATE.plusDays(1), "12:00", "13:00");
+
+        ArrayList<FreeSlotFinder.FreeSlot> slots = FreeSlotFinder.findFreeSlots(DATE, DATE.plusDays(5),
+                DAY_START, DAY_END, 30, 3);
+
+        assertEquals(3, slots.size());
+        assertEquals(DATE.plusDays(1) + " 08:00-12:00", slots.get(0).toString());
+        assertEquals(DATE.plusDays(1) + " 13:00-18:00", slots.get(1).toString());
+        assertEquals(DATE.plusDays(2) + " 08:00-18:00", slots.get(2).toString());
+    }
+
+    @Test
+    void findFreeSlots_pastDates_skipped() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        ArrayList<FreeSlotFinder.FreeSlot> slots = FreeSlotFinder.findFreeSlots(yesterday, yesterday, DAY_START,
+                DAY_END, 30, 10);
+
+        assertEquals(0, slots.size());
+    }
+
+    @Test
+    void getDateIndex_listChanged_indexRebuilt() {
+        addAppointment(DATE, "09:00", "10:00");
+        assertEquals(1, Appointment.getDateIndex().get(DATE).size());
+
+        addAppointment(DATE, "08:00", "08:30");
+        assertEquals(2, Appointment.getDateIndex().get(DATE).size());
+        assertEquals("08:00", Appointment.getDateIndex().get(DATE).get(0).getStartTime());
+
+        Appointment.apptList = new ArrayList<>();
+        assertEquals(0, Appointment.getDateIndex().get(DATE).size());
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.nursesched.appointment;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ApptParser;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.storage.AppointmentStorage;
+import seedu.nursesched.storage.RecurringApptStorage;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecurringAppointmentTest {
+    private static final LocalDate DATE = LocalDate.now().plusYears(1);
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+
+    static ArrayList<Appointment> initialApptList;
+    static ArrayList<RecurringAppointment> initialRecurringList;
+
+    @BeforeAll
+    public static void saveInitialList() {
+        initialApptList = Appointment.apptList;
+        initialRecurringList = RecurringAppointment.recurringList;
+    }
+
+    @AfterAll
+    public static void restoreInitialList() {
+        Appointment.apptList = initialApptList;
+        AppointmentStorage.overwriteSaveFile(initialApptList);
+        RecurringAppointment.recurringList = initialRecurringList;
+        RecurringApptStorage.overwriteSaveFile(initialRecurringList);
+    }
+
+    @BeforeEach
+    void setUp() throws NurseSchedException {
+        Appointment.apptList = new ArrayList<>();
+        RecurringAppointment.recurringList = new ArrayList<>();
+        Patient.getPatientsList().clear();
+        Patient.getPatientsList().add(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Patient.getPatientsList().add(new Patient("1002", "John Doe", "30", "M", "87654321", ""));
+    }
+
+    private static RecurringAppointment weekly(LocalDate untilDate, int count) {
+        return new RecurringAppointment(1001, NINE, TEN, DATE, 7, untilDate, count, "Dialysis", 2);
+    }
+
+    @Test
+    void occursOn_countAndUntilDate_expectSeriesBounds() {
+        RecurringAppointment unbounded = weekly(null, 0);
+        assertTrue(unbounded.occursOn(DATE));
+        assertTrue(unbounded.occursOn(DATE.plusWeeks(500)));
+        assertFalse(unbounded.occursOn(DATE.plusDays(3)));
+        assertFalse(unbounded.occursOn(DATE.minusWeeks(1)));
+
+        RecurringAppointment counted = weekly(null, 3);
+        assertTrue(counted.occursOn(DATE.plusWeeks(2)));
+        assertFalse(counted.occursOn(DATE.plusWeeks(3)));
+
+        RecurringAppointment until = weekly(DATE.plusDays(20), 10);
+        assertTrue(until.occursOn(DATE.plusWeeks(2)));
+        assertFalse(until.occursOn(DATE.plusWeeks(3)));
+    }
+
+    @Test
+    void getOccurrences_range_onlyOccurrencesInRangeCreated() {
+        RecurringAppointment recurringAppt = weekly(null, 4);
+
+        List<Appointment> occurrences = recurringAppt.getOccurrences(DATE.plusDays(1), DATE.plusYears(1));
+
+        assertEquals(3, occurrences.size());
+        assertEquals(DATE.plusWeeks(1).toString(), occurrences.get(0).getDate());
+        assertEquals("Jean Doe", occurrences.get(0).getName());
+        assertEquals(DATE.plusWeeks(3), recurringAppt.getFirstOccurrenceFrom(DATE.plusDays(15)));
+        assertNull(recurringAppt.getFirstOccurrenceFrom(DATE.plusDays(22)));
+    }
+
+    @Test
+    void findCommonDate_differentIntervals_expectFirstSharedDate() {
+        RecurringAppointment everyFourDays = new RecurringAppointment(1001, NINE, TEN, DATE, 4, null, 0, "", 2);
+        RecurringAppointment everySixDays = new RecurringAppointment(1002, NINE, TEN, DATE.plusDays(2), 6,
+                null, 0, "", 2);
+        RecurringAppointment everyOtherDay = new RecurringAppointment(1002, NINE, TEN, DATE.plusDays(1), 2,
+                null, 0, "", 2);
+        RecurringAppointment shortSeries = new RecurringAppointment(1002, NINE, TEN, DATE.plusDays(2), 6,
+                null, 1, "", 2);
+
+        assertEquals(DATE.plusDays(8), everyFourDays.findCommonDate(everySixDays));
+        assertEquals(DATE.plusDays(8), everySixDays.findCommonDate(everyFourDays));
+        assertNull(everyFourDays.findCommonDate(everyOtherDay));
+        assertNull(everyFourDays.findCommonDate(shortSeries));
+    }
+
+    @Test
+    void addRecurringAppt_clashes_notAdded() throws NurseSchedException {
+        Appointment.apptList.add(new Appointment(1002, "John Doe", LocalTime.of(9, 30), LocalTime.of(11, 0),
+                DATE.plusWeeks(30), "", 2));
+
+        assertThrows(NurseSchedException.class,
+                () -> RecurringAppointment.addRecurringAppt(1001, NINE, TEN, DATE, 7, null, 0, "", 2));
+        assertTrue(RecurringAppointment.getRecurringList().isEmpty());
+
+        RecurringAppointment.addRecurringAppt(1001, NINE, TEN, DATE, 7, null, 30, "", 2);
+        assertEquals(1, RecurringAppointment.getRecurringList().size());
+
+        assertThrows(NurseSchedException.class, () -> RecurringAppointment.addRecurringAppt(1002,
+                LocalTime.of(9, 45), TEN, DATE.plusDays(21), 14, null, 0, "", 2));
+        assertEquals(1, RecurringAppointment.getRecurringList().size());
+
+        assertThrows(NurseSchedException.class,
+                () -> RecurringAppointment.addRecurringAppt(9999, NINE, TEN, DATE, 7, null, 0, "", 2));
+    }
+
+    @Test
+    void singleAppointments_occurrencesTreatedAsBooked() {
+        RecurringAppointment.recurringList.add(weekly(null, 0));
+
+        assertEquals("Jean Doe", Appointment.findApptClashes(LocalTime.of(9, 30), TEN, DATE.plusWeeks(8))
+                .getName());
+        assertNull(Appointment.findApptClashes(NINE, TEN, DATE.plusDays(1)));
+
+        ArrayList<FreeSlotFinder.FreeSlot> slots = FreeSlotFinder.findFreeSlots(DATE, DATE,
+                FreeSlotFinder.DEFAULT_DAY_START, FreeSlotFinder.DEFAULT_DAY_END, 30, 10);
+        assertEquals(2, slots.size());
+        assertEquals(NINE, slots.get(0).getEndTime());
+        assertEquals(TEN, slots.get(1).getStartTime());
+    }
+
+    @Test
+    void getAppointmentsOn_mixedAppointments_sortedByStartTime() {
+        RecurringAppointment.recurringList.add(weekly(null, 0));
+        Appointment.apptList.add(new Appointment(1002, "John Doe", LocalTime.of(8, 0), NINE, DATE, "", 2));
+        Appointment.apptList.add(new Appointment(1002, "John Doe", LocalTime.of(11, 0), LocalTime.of(12, 0),
+                DATE, "", 2));
+
+        List<Appointment> appointments = Appointment.getAppointmentsOn(DATE);
+
+        assertEquals(3, appointments.size());
+        assertEquals("08:00", appointments.get(0).getStartTime());
+        assertEquals("09:00", appointments.get(1).getStartTime());
+        assertEquals("Dialysis", appointments.get(1).getNotes());
+        assertTrue(Appointment.getAppointmentsOn(DATE.plusDays(1)).isEmpty());
+        assertEquals(1, Appointment.getAppointmentsOn(DATE.plusWeeks(1)).size());
+    }
+
+    @Test
+    void extractInputs_recur_expectCorrectRule() throws NurseSchedException {
+        ApptParser parser = ApptParser.extractInputs("appt recur id/1001 s/09:00 e/10:00 d/2030-01-07 "
+                + "every/weekly count/6 im/3 n/Dialysis session");
+        assertEquals("add", parser.getRecurAction());
+        assertEquals(7, parser.getIntervalDays());
+        assertEquals(6, parser.getOccurrenceCount());
+        assertEquals(3, parser.getImportance());
+        assertEquals("Dialysis session", parser.getNotes());
+
+        assertEquals("del", ApptParser.extractInputs("appt recur del 2").getRecurAction());
+        assertThrows(NurseSchedException.class, () -> ApptParser.extractInputs(
+                "appt recur id/1001 s/09:00 e/10:00 d/2030-01-07 every/0"));
+        assertThrows(NurseSchedException.class, () -> ApptParser.extractInputs(
+                "appt recur id/1001 s/09:00 e/10:00 d/2030-01-07 every/daily until/2029-01-01"));
+        assertThrows(NurseSchedException.class, () -> ApptParser.extractInputs("appt agenda to/2030-01-07"));
+    }
+
+    @Test
+    void extractInputs_recurHugeCount_exceptionThrown() {
+        assertThrows(NurseSchedException.class, () -> ApptParser.extractInputs(
+                "appt recur id/1001 s/09:00 e/10:00 d/2030-01-07 every/365 count/2000000000"));
+        assertThrows(NurseSchedException.class, () -> ApptParser.extractInputs(
+                "appt recur id/1001 s/09:00 e/10:00 d/2030-01-07 every/365 until/+999999999-12-31"));
+    }
+
+    @Test
+    void addRecurringAppt_pastLastDate_exceptionThrown() {
+        assertThrows(NurseSchedException.class, () -> RecurringAppointment.addRecurringAppt(1001, NINE, TEN,
+                LocalDate.MAX.minusDays(10), 365, null, 2, "", 2));
+        assertTrue(RecurringAppointment.recurringList.isEmpty());
+    }
+}
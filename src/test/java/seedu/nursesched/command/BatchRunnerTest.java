@@ -0,0 +1,94 @@
+package seedu.nursesched.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.patient.Patient;
+import seedu.nursesched.task.Task;
+import seedu.nursesched.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class BatchRunnerTest {
+    private static final List<String> SAVE_FILES = List.of("data/Appt.txt", "data/Task.txt", "data/Patient.txt");
+    private static final LocalDate DATE = LocalDate.now().plusYears(2);
+
+    private final Map<String, String> savedFiles = new HashMap<>();
+    private Path script;
+
+    @BeforeEach
+    void setUp() throws IOException, NurseSchedException {
+        for (String file : SAVE_FILES) {
+            savedFiles.put(file, readIfExists(file));
+        }
+        script = Files.createTempFile("batch", ".txt");
+
+        Patient.getPatientsList().clear();
+        Patient.addPatient(new Patient("1001", "Jean Doe", "25", "F", "12345678", ""));
+        Appointment.addAppt(1001, LocalTime.of(9, 0), LocalTime.of(10, 0), DATE, "existing", 2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(script);
+        for (String file : SAVE_FILES) {
+            String contents = savedFiles.get(file);
+            if (contents == null) {
+                Files.deleteIfExists(Path.of(file));
+            } else {
+                Files.writeString(Path.of(file), contents);
+            }
+        }
+        Patient.reloadFromFile();
+        Appointment.reloadFromFile();
+        Task.reloadFromFile();
+    }
+
+    @Test
+    void runScript_clashingAppointment_nothingSaved() throws IOException, NurseSchedException {
+        assertScriptFailsWithoutSaving("task add td/Order supplies d/" + DATE + " t/09:00",
+                "appt add id/1001 s/09:30 e/10:30 d/" + DATE + " im/2 n/clash");
+    }
+
+    @Test
+    void runScript_unknownCommand_nothingSaved() throws IOException, NurseSchedException {
+        assertScriptFailsWithoutSaving("task add td/Order supplies d/" + DATE + " t/09:00",
+                "appt add id/1001 s/11:00 e/12:00 d/" + DATE + " im/2 n/later",
+                "tsak list");
+    }
+
+    private void assertScriptFailsWithoutSaving(String... lines) throws IOException, NurseSchedException {
+        Map<String, String> before = new HashMap<>();
+        for (String file : SAVE_FILES) {
+            before.put(file, readIfExists(file));
+        }
+        int taskCount = Task.getTaskList().size();
+        int apptCount = Appointment.getListedAppointments().size();
+        Files.write(script, List.of(lines));
+
+        assertFalse(BatchRunner.runScript(script.toString(), new Ui()));
+
+        for (String file : SAVE_FILES) {
+            assertEquals(before.get(file), readIfExists(file), file);
+        }
+        assertEquals(taskCount, Task.getTaskList().size());
+        assertEquals(apptCount, Appointment.getListedAppointments().size());
+    }
+
+    private static String readIfExists(String file) throws IOException {
+        Path path = Path.of(file);
+        return Files.exists(path) ? Files.readString(path) : null;
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.nursesched.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.ui.ListPrinter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandTest {
+
+    @AfterEach
+    void tearDown() {
+        ListPrinter.clearPage();
+    }
+
+    @Test
+    void extractPage_pageOptions_restOfLineUnchanged() throws NurseSchedException {
+        assertEquals("task find td/Order  supplies", Command.extractPage("task find page/2 td/Order  supplies size/5"));
+        assertEquals("appt list", Command.extractPage("appt list"));
+    }
+
+    @Test
+    void extractPage_invalidPage_throwsException() {
+        assertThrows(NurseSchedException.class, () -> Command.extractPage("task list page/0"));
+        assertThrows(NurseSchedException.class, () -> Command.extractPage("task list size/two"));
+    }
+}
@@ -275,7 +275,7 @@ class MedicineTest {
         Medicine.getMedicineList().clear();
 
         Medicine.addMedicine(10, "paracetamo");
-        Medicine.editMedicine("aspirin", "ibuprofen", 5);
+        assertThrows(NurseSchedException.class, () -> Medicine.editMedicine("aspirin", "ibuprofen", 5));
 
         assertEquals(1, Medicine.getMedicineList().size());
         assertEquals("paracetamo", Medicine.getMedicineList().get(0).getMedicineName());
@@ -0,0 +1,33 @@
+package seedu.nursesched.parser;
+
+import org.junit.jupiter.api.Test;
+import seedu.nursesched.exception.NurseSchedException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HousekeepParserTest {
+
+    @Test
+    void testExtractInputs_setCommand_unsetFieldsUnchanged() throws NurseSchedException {
+        HousekeepParser parser = HousekeepParser.extractInputs("housekeep set shift/120 every/0");
+
+        assertEquals("set", parser.getCommand());
+        assertEquals(HousekeepParser.UNCHANGED, parser.getTaskRetentionDays());
+        assertEquals(120, parser.getShiftRetentionDays());
+        assertEquals(0, parser.getIntervalMinutes());
+    }
+
+    @Test
+    void testExtractInputs_nowCommand_validInput() throws NurseSchedException {
+        assertEquals("now", HousekeepParser.extractInputs("housekeep NOW").getCommand());
+    }
+
+    @Test
+    void testExtractInputs_invalidInput_throwsException() {
+        assertThrows(NurseSchedException.class, () -> HousekeepParser.extractInputs("housekeep"));
+        assertThrows(NurseSchedException.class, () -> HousekeepParser.extractInputs("housekeep now task/3"));
+        assertThrows(NurseSchedException.class, () -> HousekeepParser.extractInputs("housekeep set task/-1"));
+        assertThrows(NurseSchedException.class, () -> HousekeepParser.extractInputs("housekeep set days/3"));
+    }
+}
@@ -229,4 +229,19 @@ class ShiftParserTest {
         assertEquals("add", parser.getCommand());
         assertEquals("upper test", parser.getShiftTask());
     }
+
+    @Test
+    void testExtractInputs_recurCommand_seriesTooLong() {
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs(
+                "shift recur s/07:00 e/15:00 d/2027-05-04 every/365 count/2000000000 st/Ward A"));
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs(
+                "shift recur s/07:00 e/15:00 d/2027-05-04 every/365 until/2037-05-05 st/Ward A"));
+    }
+
+    @Test
+    void testExtractInputs_recurCommand_longestSeriesAccepted() throws NurseSchedException {
+        ShiftParser parser = ShiftParser.extractInputs(
+                "shift recur s/07:00 e/15:00 d/2027-05-04 every/7 until/2037-05-04 count/1000 st/Ward A");
+        assertEquals(1000, parser.getCount());
+    }
 }
@@ -341,4 +341,17 @@ public class TaskParserTest {
         assertThrows(NurseSchedException.class,
                 () -> TaskParser.getIndexParser(input, "del"));
     }
+
+    @Test
+    public void listTaskParser_range_rangeParsed() throws NurseSchedException {
+        TaskParser parser = TaskParser.extractInputs("task list from/2030-01-01 to/2030-01-07");
+        assertEquals(LocalDate.of(2030, 1, 1), parser.getByDate());
+        assertEquals(LocalDate.of(2030, 1, 7), parser.getToDate());
+        assertEquals(null, TaskParser.extractInputs("task list").getByDate());
+
+        assertThrows(NurseSchedException.class,
+                () -> TaskParser.getListTaskParser("to/2030-01-07", "list"));
+        assertThrows(NurseSchedException.class,
+                () -> TaskParser.getListTaskParser("from/2030-01-07 to/2030-01-01", "list"));
+    }
 }
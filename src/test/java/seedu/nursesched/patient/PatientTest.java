@@ -11,6 +11,7 @@ import seedu.nursesched.storage.PatientStorage;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -43,6 +44,26 @@ public class PatientTest {
         assertEquals("Allergic to penicillin", patient.getNotes());
     }
 
+    @Test
+    void constructor_typedFields_stringViewsUnchanged() throws NurseSchedException {
+        Patient patient = new Patient("0123", "Jane Doe", "7", "f", "91234567", "");
+        Patient.addPatient(patient);
+        assertEquals("0123", patient.getId());
+        assertEquals(123, patient.getIdNumber());
+        assertEquals("7", patient.getAge());
+        assertEquals(7, patient.getAgeInYears());
+        assertEquals("F", patient.getGender());
+        assertEquals(Patient.Gender.F, patient.getGenderValue());
+        assertEquals("91234567", patient.getContact());
+        assertEquals(91234567, patient.getContactNumber());
+        assertTrue(patient.toString().contains("  ID: 0123\n"));
+
+        assertEquals(patient, Patient.findById(123));
+        assertEquals(patient, Patient.findById("0123"));
+        assertNull(Patient.findById("abcd"));
+        assertNull(Patient.findById(124));
+    }
+
     @Test
     void constructor_emptyFields_throwsException() {
         Exception exception = assertThrows(NurseSchedException.class, () ->
@@ -0,0 +1,106 @@
+package seedu.nursesched.patient;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.storage.PatientStorage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PatientTransferTest {
+    static ArrayList<Patient> initialPatientList;
+
+    @BeforeAll
+    public static void saveInitialPatientList() {
+        initialPatientList = new ArrayList<>(Patient.patientsList);
+    }
+
+    @AfterAll
+    public static void restoreFinalPatientList() {
+        Patient.patientsList = initialPatientList;
+        PatientStorage.overwriteSaveFile(initialPatientList);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Patient.getPatientsList().clear();
+    }
+
+    private void importRecords(String... records) throws IOException, NurseSchedException {
+        Path file = Files.createTempFile("patients", ".txt");
+        try {
+            Files.write(file, List.of(records));
+            PatientTransfer.importFromFile(file.toString());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void importFromFile_validRecords_allAdded() throws IOException, NurseSchedException {
+        importRecords("1234 | John Doe | 30 | M | 12345678 | Allergic to penicillin",
+                "",
+                "5678 | Jane Doe | 45 | f | 87654321");
+
+        assertEquals(2, Patient.getPatientsList().size());
+        assertEquals("Allergic to penicillin", Patient.getPatientsList().get(0).getNotes());
+        assertEquals("F", Patient.getPatientsList().get(1).getGender());
+        assertEquals("", Patient.getPatientsList().get(1).getNotes());
+    }
+
+    @Test
+    void importFromFile_duplicateIds_laterRecordsRejected() throws IOException, NurseSchedException {
+        Patient.getPatientsList().add(new Patient("1234", "John Doe", "30", "M", "12345678", ""));
+
+        importRecords("1234 | Someone Else | 30 | M | 12345678 | ",
+                "5678 | Jane Doe | 45 | F | 87654321 | ",
+                "5678 | Jane Again | 45 | F | 87654321 | ");
+
+        assertEquals(2, Patient.getPatientsList().size());
+        assertEquals("Jane Doe", Patient.getPatientsList().get(1).getName());
+    }
+
+    @Test
+    void importFromFile_invalidRecords_rejected() throws IOException, NurseSchedException {
+        importRecords("12 | Short Id | 30 | M | 12345678 | ",
+                "1234 | Old | 200 | M | 12345678 | ",
+                "1235 | Unknown | 30 | X | 12345678 | ",
+                "1236 | Bad Contact | 30 | M | 1234 | ",
+                "1237 | Missing fields");
+
+        assertEquals(0, Patient.getPatientsList().size());
+    }
+
+    @Test
+    void exportToFile_patients_roundTrip() throws IOException, NurseSchedException {
+        Patient.getPatientsList().add(new Patient("1234", "John Doe", "30", "M", "12345678", "Diabetic"));
+        Patient.getPatientsList().add(new Patient("5678", "Jane Doe", "45", "F", "87654321", ""));
+        Path file = Files.createTempFile("patients", ".txt");
+        try {
+            PatientTransfer.exportToFile(file.toString());
+            assertEquals(2, Files.readAllLines(file).size());
+
+            Patient.getPatientsList().clear();
+            PatientTransfer.importFromFile(file.toString());
+            assertEquals(2, Patient.getPatientsList().size());
+            assertEquals("Diabetic", Patient.getPatientsList().get(0).getNotes());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void importFromFile_missingFile_exceptionThrown() {
+        assertThrows(NurseSchedException.class, () -> PatientTransfer.importFromFile("does/not/exist.txt"));
+    }
+}
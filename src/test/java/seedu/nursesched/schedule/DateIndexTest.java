@@ -0,0 +1,57 @@
+package seedu.nursesched.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateIndexTest {
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    private static DateIndex<String> newIndex() {
+        // Entries are "<day of month>:<sort key>", e.g. "1:b"
+        return new DateIndex<>(entry -> DAY.withDayOfMonth(Integer.parseInt(entry.split(":")[0])),
+                Comparator.comparing((String entry) -> entry.split(":")[1]));
+    }
+
+    @Test
+    void update_entriesAddedAndRemoved_expectSameAsRebuild() {
+        List<String> entries = new ArrayList<>(List.of("1:c", "1:a", "2:b"));
+        DateIndex<String> index = newIndex();
+        index.refresh(entries, 0);
+
+        entries.add("1:b");
+        index.update(entries, 0, 0, null, "1:b");
+        entries.remove("2:b");
+        index.update(entries, 0, 1, "2:b", null);
+        index.refresh(entries, 1);
+
+        DateIndex<String> rebuilt = newIndex();
+        rebuilt.refresh(entries, 1);
+        assertEquals(List.of("1:a", "1:b", "1:c"), index.get(DAY));
+        assertEquals(Map.copyOf(rebuilt.getRange(DAY, DAY.plusDays(5))), Map.copyOf(index.getRange(DAY,
+                DAY.plusDays(5))));
+        assertTrue(index.get(DAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void update_indexOutOfDate_expectRebuiltOnRefresh() {
+        List<String> entries = new ArrayList<>(List.of("1:a"));
+        DateIndex<String> index = newIndex();
+        index.refresh(entries, 0);
+
+        entries.add("1:b");
+        entries.add("1:c");
+        index.update(entries, 0, 0, null, "1:c");
+        assertEquals(List.of("1:a"), index.get(DAY));
+
+        index.refresh(entries, 0);
+        assertEquals(List.of("1:a", "1:b", "1:c"), index.get(DAY));
+    }
+}
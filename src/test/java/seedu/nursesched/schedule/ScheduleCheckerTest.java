@@ -0,0 +1,113 @@
+package seedu.nursesched.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.appointment.Appointment;
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ScheduleParser;
+import seedu.nursesched.shift.Shift;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleCheckerTest {
+    private static final LocalDate DATE = LocalDate.now().plusYears(1);
+
+    private static Appointment appointment(LocalDate date, int startHour, int endHour) {
+        return new Appointment(1001, "Jean Doe", LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), date, "", 2);
+    }
+
+    private static Shift shift(LocalDate date, int startHour, int endHour) {
+        return new Shift(LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), date, "Ward");
+    }
+
+    @Test
+    void check_mixedSchedule_expectUncoveredAppointmentsAndIdleShifts() {
+        List<Appointment> appointments = List.of(
+                appointment(DATE, 6, 7),
+                appointment(DATE, 9, 10),
+                appointment(DATE, 14, 16),
+                appointment(DATE.plusDays(2), 12, 13));
+        List<Shift> shifts = List.of(
+                shift(DATE, 7, 15),
+                shift(DATE, 15, 23),
+                shift(DATE.plusDays(1), 7, 15),
+                shift(DATE.plusDays(2), 7, 11));
+
+        ScheduleChecker checker = new ScheduleChecker(appointments, shifts);
+
+        assertEquals(List.of(appointments.get(0), appointments.get(3)), checker.getUncoveredAppointments());
+        assertEquals(List.of(shifts.get(2), shifts.get(3)), checker.getIdleShifts());
+    }
+
+    @Test
+    void check_appointmentPartlyOutsideShift_expectUncoveredButShiftUsed() {
+        List<Appointment> appointments = List.of(appointment(DATE, 14, 16));
+        List<Shift> shifts = List.of(shift(DATE, 7, 15));
+
+        ScheduleChecker checker = new ScheduleChecker(appointments, shifts);
+
+        assertEquals(appointments, checker.getUncoveredAppointments());
+        assertTrue(checker.getIdleShifts().isEmpty());
+    }
+
+    @Test
+    void check_manyEntries_matchesPairwiseCheck() {
+        List<Appointment> appointments = new ArrayList<>();
+        List<Shift> shifts = new ArrayList<>();
+        for (int day = 0; day < 60; day++) {
+            LocalDate date = DATE.plusDays(day);
+            if (day % 3 != 0) {
+                shifts.add(shift(date, 7 + day % 2, 15));
+            }
+            if (day % 5 != 0) {
+                shifts.add(shift(date, 16, 20 + day % 4));
+            }
+            appointments.add(appointment(date, 6 + day % 4, 9 + day % 4));
+            appointments.add(appointment(date, 14 + day % 3, 17 + day % 3));
+        }
+
+        ScheduleChecker checker = new ScheduleChecker(appointments, shifts);
+
+        List<Appointment> expectedUncovered = new ArrayList<>();
+        for (Appointment appt : appointments) {
+            boolean isCovered = shifts.stream().anyMatch(s -> s.getDate().equals(appt.getLocalDate())
+                    && !s.getStartTime().isAfter(appt.getLocalStartTime())
+                    && !s.getEndTime().isBefore(appt.getLocalEndTime()));
+            if (!isCovered) {
+                expectedUncovered.add(appt);
+            }
+        }
+        List<Shift> expectedIdle = new ArrayList<>();
+        for (Shift s : shifts) {
+            boolean isUsed = appointments.stream().anyMatch(appt -> s.getDate().equals(appt.getLocalDate())
+                    && s.getStartTime().isBefore(appt.getLocalEndTime())
+                    && s.getEndTime().isAfter(appt.getLocalStartTime()));
+            if (!isUsed) {
+                expectedIdle.add(s);
+            }
+        }
+        assertEquals(expectedUncovered, checker.getUncoveredAppointments());
+        assertEquals(expectedIdle, checker.getIdleShifts());
+    }
+
+    @Test
+    void extractInputs_check_expectCorrectRange() throws NurseSchedException {
+        ScheduleParser defaultRange = ScheduleParser.extractInputs("schedule check");
+        assertEquals(LocalDate.now(), defaultRange.getFromDate());
+        assertEquals(LocalDate.now().plusDays(6), defaultRange.getToDate());
+
+        ScheduleParser range = ScheduleParser.extractInputs("schedule check from/2030-01-01 to/2030-03-01");
+        assertEquals(LocalDate.of(2030, 3, 1), range.getToDate());
+
+        assertThrows(NurseSchedException.class, () -> ScheduleParser.extractInputs("schedule list"));
+        assertThrows(NurseSchedException.class,
+                () -> ScheduleParser.extractInputs("schedule check from/2030-01-01 to/2031-06-01"));
+    }
+}
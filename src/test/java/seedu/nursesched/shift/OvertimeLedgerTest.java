@@ -0,0 +1,125 @@
+package seedu.nursesched.shift;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ShiftParser;
+import seedu.nursesched.storage.ShiftStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OvertimeLedgerTest {
+    private static final LocalDate DATE = LocalDate.now().plusYears(1);
+    private static final double DELTA = 1e-9;
+
+    static ArrayList<Shift> initialShiftList;
+
+    @BeforeAll
+    public static void saveInitialList() {
+        initialShiftList = Shift.shiftList;
+    }
+
+    @AfterAll
+    public static void restoreInitialList() {
+        Shift.shiftList = initialShiftList;
+        ShiftStorage.overwriteSaveFile(initialShiftList);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Shift.shiftList = new ArrayList<>();
+    }
+
+    private static Shift shiftOn(LocalDate date, double overtimeHours) {
+        Shift shift = new Shift(LocalTime.of(9, 0), LocalTime.of(17, 0), date, "Ward");
+        shift.setOvertimeHours(overtimeHours);
+        return shift;
+    }
+
+    @Test
+    void sum_rangesInsideAndOutsideLedger_expectCorrectTotals() {
+        OvertimeLedger ledger = new OvertimeLedger(List.of(shiftOn(DATE, 2), shiftOn(DATE.plusDays(3), 1.5),
+                shiftOn(DATE.plusDays(3), 0.25)));
+
+        assertEquals(3.75, ledger.sum(DATE.minusYears(1), DATE.plusYears(1)), DELTA);
+        assertEquals(1.75, ledger.sum(DATE.plusDays(1), DATE.plusDays(3)), DELTA);
+        assertEquals(0, ledger.sum(DATE.plusDays(4), DATE.plusDays(10)), DELTA);
+        assertEquals(0, ledger.sum(DATE.plusDays(3), DATE), DELTA);
+    }
+
+    @Test
+    void add_datesOutsideRange_ledgerGrows() {
+        OvertimeLedger ledger = new OvertimeLedger(List.of(shiftOn(DATE, 1)));
+
+        ledger.add(DATE.plusYears(2), 2);
+        ledger.add(DATE.minusYears(3), 4);
+        ledger.add(DATE, -0.5);
+
+        assertEquals(6.5, ledger.sum(DATE.minusYears(5), DATE.plusYears(5)), DELTA);
+        assertEquals(0.5, ledger.sum(DATE, DATE), DELTA);
+        assertEquals(4, ledger.sum(DATE.minusYears(3), DATE.minusYears(3)), DELTA);
+    }
+
+    @Test
+    void shiftOperations_ledgerUpdatedIncrementally() throws NurseSchedException {
+        Shift.shiftList.add(shiftOn(DATE, 0));
+        Shift.shiftList.add(shiftOn(DATE.plusDays(1), 0));
+        OvertimeLedger ledger = Shift.getOvertimeLedger();
+
+        Shift.logOvertime(0, 2);
+        Shift.logOvertime(1, 3);
+        Shift.logOvertime(0, 1);
+        assertEquals(4, ledger.sum(DATE, DATE.plusDays(1)), DELTA);
+
+        Shift.editShift(1, null, null, DATE.plusDays(40), null);
+        assertEquals(1, ledger.sum(DATE, DATE.plusDays(1)), DELTA);
+        assertEquals(3, ledger.sum(DATE.plusDays(40), DATE.plusDays(40)), DELTA);
+
+        Shift.deleteShiftByIndex(0);
+        assertEquals(3, ledger.sum(DATE, DATE.plusDays(40)), DELTA);
+        assertEquals(ledger, Shift.getOvertimeLedger());
+    }
+
+    @Test
+    void getOvertimeLedger_listReplaced_ledgerRebuilt() {
+        Shift.shiftList.add(shiftOn(DATE, 2));
+        assertEquals(2, Shift.getOvertimeLedger().sum(DATE, DATE), DELTA);
+
+        Shift.shiftList = new ArrayList<>(List.of(shiftOn(DATE, 5)));
+        assertEquals(5, Shift.getOvertimeLedger().sum(DATE, DATE), DELTA);
+    }
+
+    @Test
+    void extractInputs_otReport_expectCorrectRange() throws NurseSchedException {
+        ShiftParser week = ShiftParser.extractInputs("shift ot-report 2026-W01 by/month");
+        assertEquals(LocalDate.of(2025, 12, 29), week.getDate());
+        assertEquals(LocalDate.of(2026, 1, 4), week.getToDate());
+        assertEquals("month", week.getGroupBy());
+
+        ShiftParser month = ShiftParser.extractInputs("shift ot-report 2028-02");
+        assertEquals(LocalDate.of(2028, 2, 29), month.getToDate());
+        assertEquals("", month.getGroupBy());
+
+        ShiftParser range = ShiftParser.extractInputs("shift ot-report from/2026-01-10 to/2026-03-01 by/week");
+        assertEquals(LocalDate.of(2026, 1, 10), range.getDate());
+        assertEquals(LocalDate.of(2026, 3, 1), range.getToDate());
+    }
+
+    @Test
+    void extractInputs_otReportInvalid_exceptionThrown() {
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift ot-report"));
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift ot-report 2026-w54"));
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift ot-report 2026 by/day"));
+        assertThrows(NurseSchedException.class,
+                () -> ShiftParser.extractInputs("shift ot-report from/2026-03-01 to/2026-01-01"));
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.nursesched.shift;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ShiftParser;
+import seedu.nursesched.storage.ShiftStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecurringShiftTest {
+    private static final LocalDate DATE = LocalDate.now().plusYears(1);
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime FIVE_PM = LocalTime.of(17, 0);
+
+    static ArrayList<Shift> initialShiftList;
+    static ArrayList<RecurringShift> initialRecurringShiftList;
+
+    @BeforeAll
+    public static void saveInitialList() {
+        initialShiftList = Shift.shiftList;
+        initialRecurringShiftList = Shift.recurringShiftList;
+    }
+
+    @AfterAll
+    public static void restoreInitialList() {
+        Shift.shiftList = initialShiftList;
+        Shift.recurringShiftList = initialRecurringShiftList;
+        ShiftStorage.overwriteSaveFile(initialShiftList);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Shift.shiftList = new ArrayList<>();
+        Shift.recurringShiftList = new ArrayList<>();
+    }
+
+    @Test
+    void getShiftsBetween_mixedShifts_mergedInOrder() throws NurseSchedException {
+        Shift.addRecurringShift(NINE, FIVE_PM, DATE, 7, null, 0, "Ward round");
+        Shift.addRecurringShift(LocalTime.of(7, 0), LocalTime.of(8, 0), DATE.plusDays(1), 2, null, 3, "Handover");
+        Shift.addShift(LocalTime.of(18, 0), LocalTime.of(20, 0), DATE, "Clinic");
+        Shift.addShift(NINE, FIVE_PM, DATE.plusDays(2), "Clinic");
+
+        List<Shift> shifts = Shift.getShiftsBetween(DATE, DATE.plusDays(13));
+
+        assertEquals(7, shifts.size());
+        for (int i = 1; i < shifts.size(); i++) {
+            Shift previous = shifts.get(i - 1);
+            Shift current = shifts.get(i);
+            assertTrue(previous.getDate().isBefore(current.getDate())
+                    || !previous.getStartTime().isAfter(current.getStartTime()));
+        }
+        assertTrue(shifts.get(0).isRecurring());
+        assertFalse(shifts.get(1).isRecurring());
+        assertEquals(DATE.plusDays(5), shifts.get(5).getDate());
+        assertEquals(DATE.plusDays(7), shifts.get(6).getDate());
+        assertEquals(2, Shift.shiftList.size());
+    }
+
+    @Test
+    void addShift_overlapsOccurrence_exceptionThrown() throws NurseSchedException {
+        Shift.addRecurringShift(NINE, FIVE_PM, DATE, 7, null, 0, "Ward round");
+
+        assertThrows(NurseSchedException.class,
+                () -> Shift.addShift(LocalTime.of(16, 0), LocalTime.of(18, 0), DATE.plusWeeks(40), "Clinic"));
+        Shift.addShift(FIVE_PM, LocalTime.of(18, 0), DATE.plusWeeks(40), "Clinic");
+        Shift.addShift(NINE, FIVE_PM, DATE.plusDays(1), "Clinic");
+
+        // Shifts are numbered in date order, so the first shift is the one on the day after DATE
+        assertThrows(NurseSchedException.class,
+                () -> Shift.editShift(0, null, null, DATE.plusWeeks(2), null));
+        assertEquals(2, Shift.shiftList.size());
+    }
+
+    @Test
+    void addRecurringShift_overlaps_exceptionThrown() throws NurseSchedException {
+        Shift.addShift(NINE, FIVE_PM, DATE.plusDays(60), "Clinic");
+
+        assertThrows(NurseSchedException.class,
+                () -> Shift.addRecurringShift(NINE, FIVE_PM, DATE, 4, null, 0, "Ward round"));
+        Shift.addRecurringShift(NINE, FIVE_PM, DATE, 4, null, 15, "Ward round");
+        assertThrows(NurseSchedException.class,
+                () -> Shift.addRecurringShift(LocalTime.of(8, 0), LocalTime.of(10, 0), DATE.plusDays(2), 6,
+                        null, 0, "Handover"));
+        Shift.addRecurringShift(LocalTime.of(8, 0), LocalTime.of(10, 0), DATE.plusDays(1), 6, null, 0, "Handover");
+
+        assertEquals(2, Shift.recurringShiftList.size());
+        assertThrows(NurseSchedException.class,
+                () -> Shift.addRecurringShift(NINE, FIVE_PM, LocalDate.now().minusDays(1), 7, null, 0, "Past"));
+    }
+
+    @Test
+    void addRecurringShift_pastLastDate_exceptionThrown() {
+        LocalDate nearLastDate = LocalDate.MAX.minusDays(10);
+        assertThrows(NurseSchedException.class,
+                () -> Shift.addRecurringShift(NINE, FIVE_PM, nearLastDate, 365, null, 2, "Ward round"));
+        assertTrue(Shift.recurringShiftList.isEmpty());
+    }
+
+    @Test
+    void overwriteSaveFile_recurringShift_savedAsOneLine() throws Exception {
+        Shift.addShift(NINE, FIVE_PM, DATE, "Clinic");
+        Shift.addRecurringShift(NINE, FIVE_PM, DATE.plusDays(1), 1, DATE.plusYears(2), 0, "Ward round");
+
+        assertEquals(2, Files.readAllLines(new File("data/Shift.txt").toPath()).size());
+
+        Shift.reloadFromFile();
+        assertEquals(1, Shift.shiftList.size());
+        assertEquals(1, Shift.recurringShiftList.size());
+        RecurringShift reloaded = Shift.recurringShiftList.get(0);
+        assertEquals(DATE.plusYears(2), reloaded.getUntilDate());
+        assertEquals("Ward round", reloaded.getShiftTask());
+        assertTrue(reloaded.occursOn(DATE.plusYears(1)));
+    }
+
+    @Test
+    void sortShiftsChronologically_recurringShifts_sortedByFirstDate() throws NurseSchedException {
+        Shift.addRecurringShift(NINE, FIVE_PM, DATE.plusDays(3), 7, null, 0, "Later");
+        Shift.addRecurringShift(NINE, FIVE_PM, DATE, 7, null, 0, "Earlier");
+
+        Shift.sortShiftsChronologically();
+
+        assertEquals("Earlier", Shift.recurringShiftList.get(0).getShiftTask());
+    }
+
+    @Test
+    void extractInputs_recur_expectCorrectValues() throws NurseSchedException {
+        ShiftParser parser = ShiftParser.extractInputs(
+                "shift recur s/07:00 e/15:00 d/2030-01-07 every/14 until/2030-12-31 count/10 st/ward a");
+        assertEquals("recur", parser.getCommand());
+        assertEquals(14, parser.getIntervalDays());
+        assertEquals(LocalDate.of(2030, 12, 31), parser.getToDate());
+        assertEquals(10, parser.getCount());
+        assertEquals("ward a", parser.getShiftTask());
+
+        assertEquals("recur-del", ShiftParser.extractInputs("shift recur del id/2").getCommand());
+        assertEquals(1, ShiftParser.extractInputs("shift recur del id/2").getIndex());
+        assertEquals(LocalDate.of(2030, 1, 31),
+                ShiftParser.extractInputs("shift list from/2030-01-01 to/2030-01-31").getToDate());
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs(
+                "shift recur s/07:00 e/15:00 d/2030-01-07 every/400 st/ward"));
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift list from/2030-01-01"));
+    }
+}
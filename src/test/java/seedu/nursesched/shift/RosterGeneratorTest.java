@@ -0,0 +1,128 @@
+package seedu.nursesched.shift;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.ShiftParser;
+import seedu.nursesched.storage.ShiftStorage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RosterGeneratorTest {
+    private static final LocalDate START_DATE = LocalDate.now().plusYears(1);
+
+    static ArrayList<Shift> initialShiftList;
+
+    @BeforeAll
+    public static void saveInitialList() {
+        initialShiftList = Shift.shiftList;
+    }
+
+    @AfterAll
+    public static void restoreInitialList() {
+        Shift.shiftList = initialShiftList;
+        ShiftStorage.overwriteSaveFile(initialShiftList);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Shift.shiftList = new ArrayList<>();
+    }
+
+    private static long countShifts(LocalDate from, LocalDate to) {
+        return Shift.shiftList.stream()
+                .filter(shift -> !shift.getDate().isBefore(from) && !shift.getDate().isAfter(to))
+                .count();
+    }
+
+    @Test
+    void generateRoster_emptySchedule_weeklyLimitReachedAndTemplatesRotated() throws NurseSchedException {
+        RosterGenerator.generateRoster(START_DATE, 3, List.of(ShiftTemplate.values()), 5);
+
+        assertEquals(15, Shift.shiftList.size());
+        for (int week = 0; week < 3; week++) {
+            LocalDate weekStart = START_DATE.plusDays(week * 7L);
+            assertEquals(5, countShifts(weekStart, weekStart.plusDays(6)));
+        }
+        assertEquals(ShiftTemplate.MORNING.getTask(), Shift.shiftList.get(0).getShiftTask());
+        assertEquals(ShiftTemplate.NIGHT.getTask(), Shift.shiftList.get(14).getShiftTask());
+    }
+
+    @Test
+    void generateRoster_longHorizon_restAndOneShiftPerDayRespected() throws NurseSchedException {
+        RosterGenerator.generateRoster(START_DATE, 26, List.of(ShiftTemplate.EVENING, ShiftTemplate.NIGHT), 6);
+
+        ArrayList<Shift> sorted = new ArrayList<>(Shift.shiftList);
+        sorted.sort((a, b) -> a.getDate().compareTo(b.getDate()));
+        for (int i = 1; i < sorted.size(); i++) {
+            Shift previous = sorted.get(i - 1);
+            Shift current = sorted.get(i);
+            assertTrue(current.getDate().isAfter(previous.getDate()));
+            long restMinutes = ChronoUnit.MINUTES.between(previous.getDate().atTime(previous.getEndTime()),
+                    current.getDate().atTime(current.getStartTime()));
+            assertTrue(restMinutes >= RosterGenerator.MIN_REST_MINUTES);
+        }
+        assertTrue(sorted.size() > 26 * 4);
+    }
+
+    @Test
+    void generateRoster_oneDayOffPerWeek_daysOffPairedAcrossWeeks() throws NurseSchedException {
+        RosterGenerator.generateRoster(START_DATE, 4, List.of(ShiftTemplate.MORNING), 6);
+
+        for (int day = 2; day < 4 * 7; day++) {
+            LocalDate date = START_DATE.plusDays(day);
+            boolean isSplitDayOff = countShifts(date, date) == 1 && countShifts(date.minusDays(1), date.minusDays(1))
+                    == 0 && countShifts(date.minusDays(2), date.minusDays(2)) == 1;
+            assertFalse(isSplitDayOff, "Single day off before " + date);
+        }
+    }
+
+    @Test
+    void generateRoster_existingShifts_daysSkippedAndCountedInLimit() throws NurseSchedException {
+        Shift.shiftList.add(new Shift(LocalTime.of(9, 0), LocalTime.of(12, 0), START_DATE, "Clinic"));
+        Shift.shiftList.add(new Shift(LocalTime.of(20, 0), LocalTime.of(22, 0), START_DATE.plusDays(1), "Clinic"));
+
+        RosterGenerator.generateRoster(START_DATE, 1, List.of(ShiftTemplate.MORNING), 5);
+
+        assertEquals(5, Shift.shiftList.size());
+        for (Shift shift : Shift.shiftList.subList(2, 5)) {
+            assertTrue(shift.getDate().isAfter(START_DATE.plusDays(2)));
+        }
+    }
+
+    @Test
+    void generateRoster_pastStartDate_exceptionThrown() {
+        assertThrows(NurseSchedException.class, () -> RosterGenerator.generateRoster(
+                LocalDate.now().minusDays(1), 1, List.of(ShiftTemplate.MORNING), 5));
+    }
+
+    @Test
+    void extractInputs_generate_expectCorrectParameters() throws NurseSchedException {
+        ShiftParser parser = ShiftParser.extractInputs("shift generate w/4 d/2030-01-07 t/Night,morning max/3");
+
+        assertEquals("generate", parser.getCommand());
+        assertEquals(4, parser.getWeeks());
+        assertEquals(LocalDate.of(2030, 1, 7), parser.getDate());
+        assertEquals(List.of(ShiftTemplate.NIGHT, ShiftTemplate.MORNING), parser.getTemplates());
+        assertEquals(3, parser.getMaxShiftsPerWeek());
+    }
+
+    @Test
+    void extractInputs_generateInvalid_exceptionThrown() {
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift generate d/2030-01-07"));
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift generate w/53"));
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift generate w/2 t/weekend"));
+    }
+}
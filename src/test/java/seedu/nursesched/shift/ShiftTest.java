@@ -1,7 +1,10 @@
 package seedu.nursesched.shift;
 
+import java.io.File;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -384,4 +387,81 @@ class ShiftTest {
                 Shift.editShift(0, newStart, newEnd, LocalDate.now().plusDays(1), "Updated task")
         );
     }
+
+    @Test
+    void getShiftsBetween_afterEditAndDelete_expectRangeUpToDate() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusDays(1);
+        Shift.addShift(LocalTime.of(14, 0), LocalTime.of(18, 0), date, "Clinic");
+        Shift.addShift(LocalTime.of(8, 0), LocalTime.of(12, 0), date, "Ward");
+        Shift.addShift(LocalTime.of(8, 0), LocalTime.of(12, 0), date.plusDays(1), "Ward");
+        assertEquals("Ward", Shift.getShiftsBetween(date, date).get(0).getShiftTask());
+
+        Shift.editShift(1, null, null, date.plusDays(3), null);
+        Shift.deleteShiftByIndex(1);
+
+        List<Shift> shifts = Shift.getShiftsBetween(date, date.plusDays(1));
+        assertEquals(1, shifts.size());
+        assertEquals(LocalTime.of(8, 0), shifts.get(0).getStartTime());
+        assertEquals(1, Shift.getShiftsBetween(date.plusDays(2), date.plusDays(7)).size());
+    }
+
+    @Test
+    void addShift_outOfOrder_expectSortedOrderKeptAfterReload() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusDays(1);
+        Shift.addShift(LocalTime.of(14, 0), LocalTime.of(18, 0), date, "Clinic");
+        Shift.addShift(LocalTime.of(8, 0), LocalTime.of(12, 0), date.plusDays(1), "Ward");
+        Shift.addShift(LocalTime.of(8, 0), LocalTime.of(12, 0), date, "Admissions");
+        int clinicId = Shift.shiftList.get(1).getId();
+        assertEquals(List.of("Admissions", "Clinic", "Ward"), shiftTasks());
+
+        Shift.editShift(1, null, null, date.plusDays(2), null);
+        assertEquals(List.of("Admissions", "Ward", "Clinic"), shiftTasks());
+        assertEquals(clinicId, Shift.shiftList.get(2).getId());
+
+        Shift.reloadFromFile();
+        assertEquals(List.of("Admissions", "Ward", "Clinic"), shiftTasks());
+        assertEquals(clinicId, Shift.shiftList.get(2).getId());
+        assertEquals(clinicId + 3, new Shift(LocalTime.of(8, 0), LocalTime.of(9, 0), date, "Ward").getId());
+    }
+
+    @Test
+    void indexOfId_shiftsAddedAndDeleted_expectIdFollowsShift() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusDays(1);
+        Shift.addShift(LocalTime.of(14, 0), LocalTime.of(18, 0), date, "Clinic");
+        Shift.addShift(LocalTime.of(8, 0), LocalTime.of(12, 0), date, "Admissions");
+        int clinicId = Shift.shiftList.get(1).getId();
+        assertEquals(1, ShiftParser.extractInputs("shift mark id/#" + clinicId).getIndex());
+
+        Shift.deleteShiftByIndex(0);
+        assertEquals(0, Shift.indexOfId(clinicId));
+        assertEquals(-1, Shift.indexOfId(clinicId + 1));
+        assertEquals("Clinic", Shift.findById(clinicId).getShiftTask());
+        assertThrows(NurseSchedException.class, () -> ShiftParser.extractInputs("shift del id/#" + (clinicId + 1)));
+    }
+
+    @Test
+    void archivePast_shiftsPastRetention_expectOnlyLaterShiftsKept() throws NurseSchedException, IOException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Shift.addShift(LocalTime.of(8, 0), LocalTime.of(12, 0), date, "Admissions");
+        Shift.addShift(LocalTime.of(8, 0), LocalTime.of(12, 0), date.plusDays(1), "Ward");
+        Shift.addShift(LocalTime.of(14, 0), LocalTime.of(18, 0), date, "Clinic");
+        int wardId = Shift.shiftList.get(2).getId();
+
+        File archiveFile = new File(ShiftStorage.getArchiveFilePath(YearMonth.from(date)));
+        try {
+            assertEquals(2, Shift.archivePast(date.plusDays(91), 90));
+            assertEquals(List.of("Ward"), shiftTasks());
+            assertEquals(0, Shift.indexOfId(wardId));
+
+            Shift.reloadFromFile();
+            assertEquals(List.of("Ward"), shiftTasks());
+            assertEquals(0, Shift.archivePast(date.plusDays(91), 90));
+        } finally {
+            archiveFile.delete();
+        }
+    }
+
+    private static List<String> shiftTasks() {
+        return Shift.shiftList.stream().map(Shift::getShiftTask).toList();
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeferredPersistenceTest {
+
+    @AfterEach
+    void tearDown() {
+        DeferredPersistence.discard();
+    }
+
+    @Test
+    void deferOverwrite_notActive_returnsFalse() {
+        assertFalse(DeferredPersistence.isActive());
+        assertFalse(DeferredPersistence.deferOverwrite("data/Test.txt", () -> { }));
+        assertFalse(DeferredPersistence.deferAppend("data/Test.txt", "line\n"));
+    }
+
+    @Test
+    void flush_repeatedOverwrites_writesEachFileOnce() {
+        AtomicInteger firstWrites = new AtomicInteger();
+        AtomicInteger lastWrites = new AtomicInteger();
+        AtomicInteger otherWrites = new AtomicInteger();
+
+        DeferredPersistence.begin();
+        assertTrue(DeferredPersistence.deferOverwrite("data/A.txt", firstWrites::incrementAndGet));
+        assertTrue(DeferredPersistence.deferOverwrite("data/A.txt", lastWrites::incrementAndGet));
+        assertTrue(DeferredPersistence.deferOverwrite("data/B.txt", otherWrites::incrementAndGet));
+
+        assertEquals(2, DeferredPersistence.flush());
+        assertFalse(DeferredPersistence.isActive());
+        assertEquals(0, firstWrites.get());
+        assertEquals(1, lastWrites.get());
+        assertEquals(1, otherWrites.get());
+    }
+
+    @Test
+    void flush_appendsOnly_appendsAllLinesTogether() throws IOException {
+        Path file = Files.createTempFile("deferred", ".txt");
+        Files.writeString(file, "existing\n");
+        try {
+            DeferredPersistence.begin();
+            DeferredPersistence.deferAppend(file.toString(), "first\n");
+            DeferredPersistence.deferAppend(file.toString(), "second\n");
+            assertEquals("existing\n", Files.readString(file));
+
+            assertEquals(1, DeferredPersistence.flush());
+            assertEquals("existing\nfirst\nsecond\n", Files.readString(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void flush_appendAfterOverwrite_onlyOverwrites() throws IOException {
+        Path file = Files.createTempFile("deferred", ".txt");
+        AtomicInteger writes = new AtomicInteger();
+        try {
+            DeferredPersistence.begin();
+            DeferredPersistence.deferOverwrite(file.toString(), writes::incrementAndGet);
+            DeferredPersistence.deferAppend(file.toString(), "appended\n");
+
+            DeferredPersistence.flush();
+            assertEquals(1, writes.get());
+            assertEquals("", Files.readString(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void discard_pendingWrites_nothingWritten() {
+        AtomicInteger writes = new AtomicInteger();
+        DeferredPersistence.begin();
+        DeferredPersistence.deferOverwrite("data/A.txt", writes::incrementAndGet);
+
+        DeferredPersistence.discard();
+        assertFalse(DeferredPersistence.isActive());
+        assertEquals(0, DeferredPersistence.flush());
+        assertEquals(0, writes.get());
+    }
+}
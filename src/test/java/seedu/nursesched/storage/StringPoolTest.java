@@ -0,0 +1,35 @@
+package seedu.nursesched.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringPoolTest {
+
+    @Test
+    void canonicalize_equalValues_returnsSameString() {
+        StringPool pool = new StringPool(10);
+        String first = pool.canonicalize(new String("Full Blood Count"));
+        String second = pool.canonicalize(new String("Full Blood Count"));
+
+        assertSame(first, second);
+        assertEquals("Full Blood Count", second);
+        assertEquals(1, pool.size());
+        assertNull(pool.canonicalize(null));
+    }
+
+    @Test
+    void canonicalize_poolFull_returnsValueUnpooled() {
+        StringPool pool = new StringPool(1);
+        String pooled = pool.canonicalize("Ward rounds");
+        String value = new String("Admissions");
+
+        assertSame(value, pool.canonicalize(value));
+        assertNotSame(pool.canonicalize(new String("Admissions")), value);
+        assertSame(pooled, pool.canonicalize(new String("Ward rounds")));
+        assertEquals(1, pool.size());
+    }
+}
@@ -5,14 +5,20 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.nursesched.exception.NurseSchedException;
+import seedu.nursesched.parser.TaskParser;
 import seedu.nursesched.storage.TaskStorage;
 
+import java.io.File;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -334,4 +340,90 @@ public class TaskTest {
         assertThrows(NurseSchedException.class,
                 () -> Task.deleteTask(10));
     }
+
+    @Test
+    public void getTasksBetween_afterEditAndDelete_expectRangeUpToDate() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusDays(10);
+        Task.addTask("Change dressing", date, LocalTime.of(15, 0), false);
+        Task.addTask("Order supplies", date, LocalTime.of(9, 0), false);
+        Task.addTask("Submit report", date.plusDays(1), LocalTime.of(9, 0), false);
+        assertEquals("Order supplies", Task.getTasksBetween(date, date).get(0).getDescription());
+
+        Task.editTask(2, "", date.plusDays(5), null);
+        Task.deleteTask(3);
+
+        List<Task> tasks = Task.getTasksBetween(date, date.plusDays(1));
+        assertEquals(1, tasks.size());
+        assertEquals("Change dressing", tasks.get(0).getDescription());
+        assertEquals(1, Task.getTasksBetween(date.plusDays(2), date.plusDays(7)).size());
+    }
+
+    @Test
+    public void findById_taskDeleted_expectIdKeptAfterReload() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusDays(10);
+        Task.addTask("Change dressing", date, LocalTime.of(15, 0), false);
+        Task.addTask("Order supplies", date, LocalTime.of(9, 0), false);
+        int suppliesId = Task.getTaskList().get(1).getId();
+        assertEquals(suppliesId, TaskParser.getIndexParser("id/#" + suppliesId, "mark").getTaskId());
+
+        Task.deleteTask(1);
+        Task.markTask(Task.findById(suppliesId));
+        assertTrue(Task.getTaskList().get(0).getIsDone());
+        assertNull(Task.findById(suppliesId - 1));
+        assertThrows(NurseSchedException.class, () -> TaskParser.getIndexParser("id/#0", "del"));
+
+        Task.reloadFromFile();
+        assertEquals("Order supplies", Task.findById(suppliesId).getDescription());
+    }
+
+    @Test
+    public void archiveDone_doneTaskPastRetention_expectOnlyThatTaskArchived() throws NurseSchedException,
+            IOException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Task.addTask("Change dressing", date, LocalTime.of(9, 0), false);
+        Task.addTask("Order supplies", date, LocalTime.of(10, 0), false);
+        Task.addTask("Submit report", date.plusDays(20), LocalTime.of(9, 0), false);
+        int dressingId = Task.getTaskList().get(0).getId();
+        Task.markTask(1);
+        Task.markTask(3);
+
+        File archiveFile = new File(TaskStorage.getArchiveFilePath(YearMonth.from(date)));
+        try {
+            assertEquals(1, Task.archiveDone(date.plusDays(40), 30));
+            assertEquals(List.of("Order supplies", "Submit report"),
+                    Task.getTaskList().stream().map(Task::getDescription).toList());
+            assertTrue(archiveFile.exists());
+
+            Task.reloadFromFile();
+            assertEquals(2, Task.getTaskList().size());
+            assertNull(Task.findById(dressingId));
+            assertEquals(0, Task.archiveDone(date.plusDays(40), 30));
+        } finally {
+            archiveFile.delete();
+        }
+    }
+
+    @Test
+    public void archiveDone_laterMonthNotWritable_expectNothingArchived() throws NurseSchedException {
+        LocalDate date = LocalDate.now().plusYears(1);
+        Task.addTask("Change dressing", date, LocalTime.of(9, 0), false);
+        Task.addTask("Submit report", date.plusMonths(1), LocalTime.of(9, 0), false);
+        Task.markTask(1);
+        Task.markTask(2);
+
+        // A directory in place of the later month's archive file makes that month fail to be written
+        File firstMonthFile = new File(TaskStorage.getArchiveFilePath(YearMonth.from(date)));
+        File laterMonthFile = new File(TaskStorage.getArchiveFilePath(YearMonth.from(date.plusMonths(1))));
+        assertTrue(laterMonthFile.mkdirs());
+        try {
+            assertThrows(IOException.class, () -> Task.archiveDone(date.plusMonths(3), 30));
+            assertEquals(2, Task.getTaskList().size());
+            assertFalse(firstMonthFile.exists());
+            File[] stagedFiles = firstMonthFile.getParentFile().listFiles((dir, name) -> name.endsWith(".tmp"));
+            assertEquals(0, stagedFiles.length);
+        } finally {
+            firstMonthFile.delete();
+            laterMonthFile.delete();
+        }
+    }
 }
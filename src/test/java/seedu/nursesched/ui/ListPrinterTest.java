@@ -0,0 +1,97 @@
+package seedu.nursesched.ui;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.nursesched.command.Command;
+import seedu.nursesched.task.Task;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListPrinterTest {
+    private static final String NEWLINE = System.lineSeparator();
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(output));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ListPrinter.clearPage();
+        System.setOut(originalOut);
+    }
+
+    @Test
+    void printRows_noPage_everyRowPrintedOnFlush() {
+        ListPrinter.printRows(3, i -> "row " + i);
+        assertEquals("", output.toString());
+
+        ListPrinter.flush();
+        assertEquals("row 0" + NEWLINE + "row 1" + NEWLINE + "row 2" + NEWLINE, output.toString());
+    }
+
+    @Test
+    void printRows_page_onlyPageRowsFormatted() {
+        ArrayList<Integer> formatted = new ArrayList<>();
+        ListPrinter.setPage(2, 4);
+        ListPrinter.printRows(10, i -> {
+            formatted.add(i);
+            return "row " + i;
+        });
+        ListPrinter.setPage(4, 4);
+        ListPrinter.printRows(10, i -> "row " + i);
+        ListPrinter.flush();
+
+        assertEquals(List.of(4, 5, 6, 7), formatted);
+        assertTrue(output.toString().startsWith("row 4" + NEWLINE));
+        assertTrue(output.toString().contains("Page 2 of 3 (rows 5-8 of 10)"));
+        assertTrue(output.toString().contains("Page 4 of 3 has no rows."));
+    }
+
+    @Test
+    void println_largeListing_streamedBeforeFlush() {
+        ListPrinter.printRows(10_000, i -> "row " + i);
+        assertTrue(output.size() > 0);
+
+        ListPrinter.flush();
+        assertTrue(output.toString().endsWith("row 9999" + NEWLINE));
+    }
+
+    @Test
+    void executeCommand_taskListPage_pageListed() {
+        try {
+            Task.resetTaskList();
+            for (int i = 1; i <= 5; i++) {
+                Task.getTaskList().add(new Task("Task " + i, LocalDate.now().plusDays(i), LocalTime.NOON, false));
+            }
+            Command.executeCommand("task list page/2 size/2", new Ui());
+
+            String listing = output.toString();
+            assertTrue(listing.contains("3. [ ] Task 3"));
+            assertTrue(listing.contains("4. [ ] Task 4"));
+            assertFalse(listing.contains("Task 5"));
+            assertTrue(listing.contains("Page 2 of 3 (rows 3-4 of 5)"));
+
+            output.reset();
+            Command.executeCommand("task list page/0", new Ui());
+            assertTrue(output.toString().startsWith("Invalid page!"));
+        } finally {
+            Task.reloadFromFile();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.nursesched.ui;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecordFormatTest {
+
+    @Test
+    void appendDate_everyDayOfTwoYears_matchesFormatters() {
+        for (LocalDate date = LocalDate.of(2027, 1, 1); date.getYear() < 2029; date = date.plusDays(1)) {
+            assertEquals(date.toString(), RecordFormat.appendDate(new StringBuilder(), date).toString());
+            assertEquals(date.format(RecordFormat.LONG_DATE),
+                    RecordFormat.appendLongDate(new StringBuilder(), date).toString());
+        }
+        LocalDate farFuture = LocalDate.of(12345, 6, 7);
+        assertEquals(farFuture.toString(), RecordFormat.appendDate(new StringBuilder(), farFuture).toString());
+    }
+
+    @Test
+    void appendTime_everyMinuteOfDay_matchesFormatters() {
+        for (int minute = 0; minute < 24 * 60; minute++) {
+            LocalTime time = LocalTime.of(minute / 60, minute % 60);
+            assertEquals(time.toString(), RecordFormat.appendTime(new StringBuilder(), time).toString());
+            assertEquals(time.toString(), RecordFormat.appendIsoTime(new StringBuilder(), time).toString());
+            assertEquals(time.format(RecordFormat.TWELVE_HOUR_TIME),
+                    RecordFormat.appendTwelveHourTime(new StringBuilder(), time).toString());
+        }
+        LocalTime withSeconds = LocalTime.of(9, 5, 30, 1000);
+        assertEquals(withSeconds.toString(), RecordFormat.appendIsoTime(new StringBuilder(), withSeconds).toString());
+        assertEquals("09:05", RecordFormat.appendTime(new StringBuilder(), withSeconds).toString());
+    }
+}